@@ -101,6 +101,17 @@ public class PriorityQueue<K> implements Iterable<K> {
         swimUp(last); // reorder the binary heap
     }
 
+    /**
+     * Get the root element of this Priority Queue without removing it, i.e. the element which take would return.
+     *
+     * @return If max is true, then the maximum element, otherwise the minimum element.
+     * @throws PQException if this priority queue is empty
+     */
+    public K peek() throws PQException {
+        if (isEmpty()) throw new PQException("Priority queue is empty");
+        return binHeap[1];
+    }
+
     /**
      * Remove the root element from this Priority Queue and adjust the binary heap accordingly.
      * If max is true, then the result will be the maximum element, else the minimum element.
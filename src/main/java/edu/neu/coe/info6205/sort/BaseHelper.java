@@ -3,13 +3,26 @@ package edu.neu.coe.info6205.sort;
 import edu.neu.coe.info6205.util.Config;
 import edu.neu.coe.info6205.util.Utilities;
 
+import java.util.Comparator;
 import java.util.Random;
 import java.util.function.Function;
 
-public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
+/**
+ * Basic (uninstrumented) Helper.
+ * <p>
+ * The elements are compared by a Comparator: if none is given to the constructor, X is assumed to be Comparable
+ * and the natural order is used.
+ * The naturalOrder factory methods also use the natural order, but have the compiler check that X is Comparable.
+ * A Comparator allows any of the sorts which take a Helper to sort elements which are not Comparable
+ * (or to sort them in some other order) without first wrapping each of them in a Comparable object.
+ *
+ * @param <X> the underlying type.
+ */
+public class BaseHelper<X> implements Helper<X> {
 
     /**
      * Static method to get a Helper configured for the given class.
+     * NOTE: Y must be Comparable since the Helper uses its natural order.
      *
      * @param clazz the class for configuration.
      * @param <Y>   the type.
@@ -17,7 +30,7 @@ public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
      */
     public static <Y extends Comparable<Y>> Helper<Y> getHelper(final Class<?> clazz) {
         try {
-            return new BaseHelper<>("Standard Helper", Config.load(clazz));
+            return naturalOrder("Standard Helper", Config.load(clazz));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -38,7 +51,7 @@ public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
      * @return true only if v is less than w.
      */
     public boolean less(X v, X w) {
-        return v.compareTo(w) < 0;
+        return comparator.compare(v, w) < 0;
     }
 
     /**
@@ -51,7 +64,7 @@ public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
      */
     public int compare(X[] xs, int i, int j) {
         // CONSIDER invoking the other compare signature
-        return xs[i].compareTo(xs[j]);
+        return comparator.compare(xs[i], xs[j]);
     }
 
     /**
@@ -63,7 +76,16 @@ public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
      */
     @Override
     public int compare(X v, X w) {
-        return v.compareTo(w);
+        return comparator.compare(v, w);
+    }
+
+    /**
+     * Get the Comparator which defines the order of elements for this Helper.
+     *
+     * @return the Comparator.
+     */
+    public Comparator<X> getComparator() {
+        return comparator;
     }
 
     /**
@@ -98,16 +120,18 @@ public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
     }
 
     public boolean sorted(X[] xs) {
-        for (int i = 1; i < xs.length; i++) if (xs[i - 1].compareTo(xs[i]) > 0) return false;
+        for (int i = 1; i < xs.length; i++) if (comparator.compare(xs[i - 1], xs[i]) > 0) return false;
         return true;
     }
 
-    public int inversions(X[] xs) {
-        int result = 0;
-        for (int i = 0; i < xs.length; i++)
-            for (int j = i + 1; j < xs.length; j++)
-                if (xs[i].compareTo(xs[j]) > 0) result++;
-        return result;
+    /**
+     * Count the number of inversions of this array, in O(n log n) time (in parallel for large arrays).
+     *
+     * @param xs an array of Xs.
+     * @return the number of inversions.
+     */
+    public long inversions(X[] xs) {
+        return xs.length < Inversions.THRESHOLD ? Inversions.count(xs, comparator) : Inversions.parallelCount(xs, comparator);
     }
 
     public X[] random(Class<X> clazz, Function<Random, X> f) {
@@ -156,19 +180,44 @@ public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
     }
 
     /**
-     * Constructor for explicit random number generator.
+     * Constructor for explicit random number generator and Comparator.
      *
      * @param description the description of this Helper (for humans).
      * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
      * @param random      a random number generator.
+     * @param comparator  the Comparator which defines the order of the elements.
      */
-    public BaseHelper(String description, int n, Random random, Config config) {
+    public BaseHelper(String description, int n, Random random, Comparator<X> comparator, Config config) {
         this.n = n;
         this.description = description;
         this.random = random;
+        this.comparator = comparator;
         this.config = config;
     }
 
+    /**
+     * Constructor for explicit random number generator.
+     * X must be Comparable: its natural order is used.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param random      a random number generator.
+     */
+    public BaseHelper(String description, int n, Random random, Config config) {
+        this(description, n, random, naturalOrder(), config);
+    }
+
+    /**
+     * Constructor to create a Helper with an explicit Comparator and a random seed.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param comparator  the Comparator which defines the order of the elements.
+     */
+    public BaseHelper(String description, int n, Comparator<X> comparator, Config config) {
+        this(description, n, new Random(System.currentTimeMillis()), comparator, config);
+    }
+
     /**
      * Constructor for explicit seed.
      *
@@ -199,6 +248,70 @@ public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
         this(description, 0, config);
     }
 
+    /**
+     * Get the natural order of X, which (although this cannot be checked here) must be Comparable.
+     *
+     * @param <X> the underlying type.
+     * @return Comparator.naturalOrder() as a Comparator of X.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <X> Comparator<X> naturalOrder() {
+        return (Comparator<X>) (Comparator) Comparator.naturalOrder();
+    }
+
+    /**
+     * Factory method to create a Helper, with an explicit random number generator, which uses the natural order of X.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param random      a random number generator.
+     * @param config      the configuration.
+     * @param <X>         the underlying (Comparable) type.
+     * @return a BaseHelper of X.
+     */
+    public static <X extends Comparable<X>> BaseHelper<X> naturalOrder(String description, int n, Random random, Config config) {
+        return new BaseHelper<>(description, n, random, Comparator.<X>naturalOrder(), config);
+    }
+
+    /**
+     * Factory method to create a Helper, with an explicit seed, which uses the natural order of X.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param seed        the seed for the random number generator.
+     * @param config      the configuration.
+     * @param <X>         the underlying (Comparable) type.
+     * @return a BaseHelper of X.
+     */
+    public static <X extends Comparable<X>> BaseHelper<X> naturalOrder(String description, int n, long seed, Config config) {
+        return naturalOrder(description, n, new Random(seed), config);
+    }
+
+    /**
+     * Factory method to create a Helper, with a random seed, which uses the natural order of X.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param config      the configuration.
+     * @param <X>         the underlying (Comparable) type.
+     * @return a BaseHelper of X.
+     */
+    public static <X extends Comparable<X>> BaseHelper<X> naturalOrder(String description, int n, Config config) {
+        return naturalOrder(description, n, System.currentTimeMillis(), config);
+    }
+
+    /**
+     * Factory method to create a Helper, with a random seed and an n value of 0, which uses the natural order of X.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param config      the configuration.
+     * @param <X>         the underlying (Comparable) type.
+     * @return a BaseHelper of X.
+     */
+    public static <X extends Comparable<X>> BaseHelper<X> naturalOrder(String description, Config config) {
+        return naturalOrder(description, 0, config);
+    }
+
     public static final String INSTRUMENT = "instrument";
 
     /**
@@ -227,6 +340,7 @@ public class BaseHelper<X extends Comparable<X>> implements Helper<X> {
 
     protected final String description;
     protected final Random random;
+    protected final Comparator<X> comparator;
 
     protected final Config config;
     protected int n;
@@ -0,0 +1,220 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.util.Config;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Simulator of a two-level (L1 and L2) memory cache, which is fed (by InstrumentedHelper) with each access to an element of an array.
+ * <p>
+ * Each level is set-associative with least-recently-used replacement: its line size, associativity (ways)
+ * and capacity (in bytes) are taken from the [cache] section of the configuration, as are the latencies (in cycles)
+ * of each level and of main memory.
+ * L2 is only consulted on a miss in L1 (and both are filled on a miss).
+ * <p>
+ * Each array is given its own (simulated) address when it is first accessed: arrays are laid out one after the other,
+ * each starting on a page boundary, with elements of elementsize bytes (4 for references with compressed oops).
+ * Only the accesses to the arrays themselves are simulated, not those to the objects which their elements refer to.
+ * <p>
+ * NOTE: the simulation is of a single cache: if the Helper is shared by several threads, their accesses are simulated
+ * as if they were interleaved on one core.
+ */
+public class CacheSimulator {
+
+    /**
+     * Constructor for CacheSimulator.
+     *
+     * @param elementSize   the size of an element of an array (in bytes).
+     * @param l1            the L1 cache.
+     * @param l2            the L2 cache.
+     * @param memoryLatency the latency (in cycles) of main memory.
+     */
+    public CacheSimulator(int elementSize, Level l1, Level l2, int memoryLatency) {
+        this.elementSize = elementSize;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.memoryLatency = memoryLatency;
+    }
+
+    /**
+     * Constructor for CacheSimulator, configured by the [cache] section of config.
+     *
+     * @param config the configuration.
+     */
+    public CacheSimulator(Config config) {
+        this(config.getInt(CACHE, "elementsize", 4),
+                new Level(config.getInt(CACHE, "l1linesize", 64), config.getInt(CACHE, "l1associativity", 8), config.getInt(CACHE, "l1capacity", 32 * 1024), config.getInt(CACHE, "l1latency", 4)),
+                new Level(config.getInt(CACHE, "l2linesize", 64), config.getInt(CACHE, "l2associativity", 8), config.getInt(CACHE, "l2capacity", 256 * 1024), config.getInt(CACHE, "l2latency", 12)),
+                config.getInt(CACHE, "memorylatency", 200));
+    }
+
+    /**
+     * Simulate an access to the element of xs at index i.
+     *
+     * @param xs the array.
+     * @param i  the index.
+     */
+    public synchronized void access(Object xs, int i) {
+        final long address = base(xs) + (long) i * elementSize;
+        accesses++;
+        cycles += l1.latency;
+        if (l1.access(address)) return;
+        cycles += l2.latency;
+        if (l2.access(address)) return;
+        cycles += memoryLatency;
+    }
+
+    /**
+     * Simulate an access to each element of xs from index from up to (but not including) index to.
+     *
+     * @param xs   the array.
+     * @param from the first index.
+     * @param to   the index after the last.
+     */
+    public void access(Object xs, int from, int to) {
+        for (int i = from; i < to; i++) access(xs, i);
+    }
+
+    /**
+     * Empty the caches, forget the arrays and clear the statistics.
+     */
+    public synchronized void reset() {
+        l1.reset();
+        l2.reset();
+        bases.clear();
+        lastArray = null;
+        nextBase = 0;
+        accesses = 0;
+        cycles = 0;
+    }
+
+    public long getAccesses() {
+        return accesses;
+    }
+
+    public long getL1Misses() {
+        return l1.misses;
+    }
+
+    public long getL2Misses() {
+        return l2.misses;
+    }
+
+    /**
+     * @return the number of accesses which hit L1.
+     */
+    public long getL1Hits() {
+        return accesses - l1.misses;
+    }
+
+    /**
+     * @return the number of accesses which missed L1 but hit L2 (L2 is only consulted on a miss in L1).
+     */
+    public long getL2Hits() {
+        return l1.misses - l2.misses;
+    }
+
+    public long getCycles() {
+        return cycles;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheSimulator{accesses=" + accesses + ", l1 misses=" + l1.misses + ", l2 misses=" + l2.misses + ", cycles=" + cycles + "}";
+    }
+
+    /**
+     * One level of a set-associative cache with LRU replacement.
+     */
+    public static class Level {
+
+        /**
+         * Constructor for Level.
+         *
+         * @param lineSize      the size of a line (in bytes).
+         * @param associativity the number of lines (ways) in each set.
+         * @param capacity      the total size (in bytes).
+         * @param latency       the number of cycles taken by an access.
+         */
+        public Level(int lineSize, int associativity, int capacity, int latency) {
+            if (lineSize <= 0 || associativity <= 0 || capacity < lineSize * associativity)
+                throw new IllegalArgumentException("CacheSimulator.Level: invalid geometry: line size " + lineSize + ", associativity " + associativity + ", capacity " + capacity);
+            this.lineSize = lineSize;
+            this.associativity = associativity;
+            this.sets = capacity / (lineSize * associativity);
+            this.latency = latency;
+            this.tags = new long[sets * associativity];
+            reset();
+        }
+
+        /**
+         * Access the line which holds the given address.
+         *
+         * @param address the (simulated) address.
+         * @return true if it was a hit.
+         */
+        boolean access(long address) {
+            final long line = address / lineSize;
+            final int start = (int) (line % sets) * associativity;
+            // NOTE: the ways of each set are kept in order of recency, the most recently used first.
+            int way = 0;
+            while (way < associativity && tags[start + way] != line) way++;
+            final boolean hit = way < associativity;
+            if (!hit) {
+                misses++;
+                way = associativity - 1;
+            }
+            System.arraycopy(tags, start, tags, start + 1, way);
+            tags[start] = line;
+            return hit;
+        }
+
+        void reset() {
+            Arrays.fill(tags, -1L);
+            misses = 0;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        private final int lineSize;
+        private final int associativity;
+        private final int sets;
+        private final int latency;
+        private final long[] tags;
+        private long misses;
+    }
+
+    private long base(Object xs) {
+        if (xs == lastArray) return lastBase;
+        Long base = bases.get(xs);
+        if (base == null) {
+            base = nextBase;
+            nextBase += (Array.getLength(xs) * (long) elementSize + PAGE - 1) / PAGE * PAGE + PAGE;
+            bases.put(xs, base);
+        }
+        lastArray = xs;
+        lastBase = base;
+        return base;
+    }
+
+    public static final String CACHE = "cache";
+
+    private static final int PAGE = 4096;
+
+    private final int elementSize;
+    private final Level l1;
+    private final Level l2;
+    private final int memoryLatency;
+    // NOTE: arrays do not override equals or hashCode, so a WeakHashMap identifies them by identity.
+    private final Map<Object, Long> bases = new WeakHashMap<>();
+    private Object lastArray;
+    private long lastBase;
+    private long nextBase = 0;
+    private long accesses = 0;
+    private long cycles = 0;
+}
@@ -0,0 +1,105 @@
+package edu.neu.coe.info6205.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Comparator which orders elements by a composite key made up of primitive (int or long) fields,
+ * each of which is extracted by a ToIntFunction or ToLongFunction: the first key is the most significant.
+ * <p>
+ * This is intended to be given to a Helper (see HelperFactory.create) so that records with several fields may be sorted
+ * by any of the sorts which take a Helper, without either wrapping each record in a Comparable object
+ * or boxing its fields.
+ * Unlike a chain of Comparator.comparingInt(...).thenComparingLong(...), the keys are compared by a single loop
+ * rather than by a nest of comparators.
+ * <p>
+ * A CompositeComparator is immutable: each of the then... methods yields a new CompositeComparator.
+ *
+ * @param <X> the type of the elements (which need not be Comparable).
+ */
+public class CompositeComparator<X> implements Comparator<X> {
+
+    /**
+     * Create a CompositeComparator whose first key is an int.
+     *
+     * @param key a function to extract the key.
+     * @param <X> the type of the elements.
+     * @return a CompositeComparator of one key.
+     */
+    public static <X> CompositeComparator<X> comparingInt(ToIntFunction<? super X> key) {
+        return new CompositeComparator<X>(noKeys()).thenInt(key);
+    }
+
+    /**
+     * Create a CompositeComparator whose first key is a long.
+     *
+     * @param key a function to extract the key.
+     * @param <X> the type of the elements.
+     * @return a CompositeComparator of one key.
+     */
+    public static <X> CompositeComparator<X> comparingLong(ToLongFunction<? super X> key) {
+        return new CompositeComparator<X>(noKeys()).thenLong(key);
+    }
+
+    /**
+     * Yield a CompositeComparator with an additional (less significant) int key.
+     *
+     * @param key a function to extract the key.
+     * @return a new CompositeComparator.
+     */
+    public CompositeComparator<X> thenInt(ToIntFunction<? super X> key) {
+        // NOTE: widening an int to a long preserves its order.
+        return thenLong(key::applyAsInt);
+    }
+
+    /**
+     * Yield a CompositeComparator with an additional (less significant) long key.
+     *
+     * @param key a function to extract the key.
+     * @return a new CompositeComparator.
+     */
+    public CompositeComparator<X> thenLong(ToLongFunction<? super X> key) {
+        final ToLongFunction<? super X>[] result = Arrays.copyOf(keys, keys.length + 1);
+        result[keys.length] = key;
+        return new CompositeComparator<>(result);
+    }
+
+    /**
+     * Compare x and y by each key in turn until they differ.
+     *
+     * @param x the first element.
+     * @param y the second element.
+     * @return -1, 0 or 1 according to whether x is less than, equal to or greater than y.
+     */
+    public int compare(X x, X y) {
+        for (ToLongFunction<? super X> key : keys) {
+            final int cf = Long.compare(key.applyAsLong(x), key.applyAsLong(y));
+            if (cf != 0) return cf;
+        }
+        return 0;
+    }
+
+    /**
+     * @return the number of keys.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @param <X> the type of the elements.
+     * @return an empty array of keys (a generic array cannot be created directly).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <X> ToLongFunction<? super X>[] noKeys() {
+        return new ToLongFunction[0];
+    }
+
+    private CompositeComparator(ToLongFunction<? super X>[] keys) {
+        this.keys = keys;
+    }
+
+    private final ToLongFunction<? super X>[] keys;
+}
@@ -1,5 +1,7 @@
 package edu.neu.coe.info6205.sort;
 
+import java.util.Comparator;
+
 import static java.util.Arrays.binarySearch;
 
 /**
@@ -7,11 +9,23 @@ import static java.util.Arrays.binarySearch;
  * <p>
  * A Helper provides all of the utilities that are needed by sort methods, for example, compare and swap.
  * <p>
+ * The order of the elements is defined by the Comparator of the Helper (see getComparator):
+ * this is the natural order unless the Helper was constructed with a Comparator,
+ * in which case X need not be Comparable at all.
+ * <p>
  * CONSIDER having the concept of a current sub-array, then we could dispense with the lo, hi parameters.
  *
  * @param <X>
  */
-public interface Helper<X extends Comparable<X>> extends GenericHelper<X> {
+public interface Helper<X> extends GenericHelper<X> {
+
+    /**
+     * Get the Comparator which defines the order of elements for this Helper.
+     * NOTE: invoking the Comparator directly is not instrumented.
+     *
+     * @return a Comparator of X.
+     */
+    Comparator<X> getComparator();
 
     /**
      * Compare elements i and j of xs within the subarray lo..hi
@@ -52,7 +66,7 @@ public interface Helper<X extends Comparable<X>> extends GenericHelper<X> {
     default boolean swapConditional(X[] xs, int i, int j) {
         final X v = xs[i];
         final X w = xs[j];
-        boolean result = v.compareTo(w) > 0;
+        boolean result = compare(v, w) > 0;
         if (result) {
             // CONSIDER invoking swap
             xs[i] = w;
@@ -71,7 +85,7 @@ public interface Helper<X extends Comparable<X>> extends GenericHelper<X> {
     default boolean swapStableConditional(X[] xs, int i) {
         final X v = xs[i];
         final X w = xs[i - 1];
-        boolean result = v.compareTo(w) < 0;
+        boolean result = compare(v, w) < 0;
         if (result) {
             xs[i] = w;
             xs[i - 1] = v;
@@ -103,7 +117,21 @@ public interface Helper<X extends Comparable<X>> extends GenericHelper<X> {
      * @param i  the index of the element to be swapped into the ordered array xs[0..i-1].
      */
     default void swapIntoSorted(X[] xs, int i) {
-        int j = binarySearch(xs, 0, i, xs[i]);
+        swapIntoSorted(xs, 0, i);
+    }
+
+    /**
+     * Method to perform a stable swap using half-exchanges, and binary search, within the sub-array which begins at from.
+     * i.e. x[i] is moved leftwards to its proper place in xs[from..i-1] and all elements from
+     * the destination of x[i] thru x[i-1] are moved up one place.
+     * This type of swap is used by binary insertion sort.
+     *
+     * @param xs   the array of X elements, whose elements from thru i-1 MUST be sorted.
+     * @param from the index of the first element of the ordered sub-array.
+     * @param i    the index of the element to be swapped into the ordered sub-array xs[from..i-1].
+     */
+    default void swapIntoSorted(X[] xs, int from, int i) {
+        int j = binarySearch(xs, from, i, xs[i], getComparator());
         if (j < 0) j = -j - 1;
         if (j < i) swapInto(xs, j, i);
     }
@@ -145,7 +173,7 @@ public interface Helper<X extends Comparable<X>> extends GenericHelper<X> {
      * @param xs an array of Xs.
      * @return the number of inversions.
      */
-    int inversions(X[] xs);
+    long inversions(X[] xs);
 
     /**
      * Method to post-process the array xs after sorting.
@@ -165,6 +193,16 @@ public interface Helper<X extends Comparable<X>> extends GenericHelper<X> {
      */
     void init(int n);
 
+    /**
+     * If instrumenting, increment the number of compares by n.
+     * This is intended for sorts which compare keys (or parts of keys) other than by invoking less or compare.
+     *
+     * @param n the number of compares made.
+     */
+    default void incrementCompares(int n) {
+        // do nothing.
+    }
+
     /**
      * If instrumenting, increment the number of copies by n.
      *
@@ -3,6 +3,7 @@ package edu.neu.coe.info6205.sort;
 import edu.neu.coe.info6205.sort.classic.ClassicHelper;
 import edu.neu.coe.info6205.util.Config;
 
+import java.util.Comparator;
 import java.util.Random;
 
 public class HelperFactory {
@@ -31,7 +32,37 @@ public class HelperFactory {
      * @return a Helper<X></X>
      */
     public static <X extends Comparable<X>> Helper<X> create(String description, int nElements, boolean instrumented, Config config) {
-        return instrumented ? new InstrumentedHelper<>(description, nElements, config) : new BaseHelper<>(description, nElements, config);
+        return create(description, nElements, BaseHelper.naturalOrder(), instrumented, config);
+    }
+
+    /**
+     * Factory method to create a Helper which compares elements using the given Comparator.
+     *
+     * @param description the description of the Helper.
+     * @param nElements   the number of elements to be sorted.
+     * @param comparator  the Comparator which defines the order of the elements.
+     * @param config      the configuration.
+     * @param <X>         the underlying type (which need not be Comparable).
+     * @return an InstrumentedHelper if config is instrumented, otherwise a BaseHelper.
+     */
+    public static <X> Helper<X> create(String description, int nElements, Comparator<X> comparator, Config config) {
+        return create(description, nElements, comparator, config.isInstrumented(), config);
+    }
+
+    private static <X> Helper<X> create(String description, int nElements, Comparator<X> comparator, boolean instrumented, Config config) {
+        return instrumented ? new InstrumentedHelper<>(description, nElements, comparator, config) : new BaseHelper<>(description, nElements, comparator, config);
+    }
+
+    /**
+     * Factory method to create an IntHelper, for sorting arrays of primitives.
+     *
+     * @param description the description of the Helper.
+     * @param nElements   the number of elements to be sorted.
+     * @param config      the configuration.
+     * @return an InstrumentedIntHelper if config is instrumented, otherwise an IntHelper.
+     */
+    public static IntHelper createInt(String description, int nElements, Config config) {
+        return config.isInstrumented() ? new InstrumentedIntHelper(description, nElements, config) : new IntHelper(description, nElements, config);
     }
 
     /**
@@ -5,17 +5,45 @@ import edu.neu.coe.info6205.util.LazyLogger;
 import edu.neu.coe.info6205.util.StatPack;
 import edu.neu.coe.info6205.util.Utilities;
 
+import java.util.Comparator;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import static edu.neu.coe.info6205.util.Utilities.formatWhole;
 
 /**
  * Helper class for sorting methods with instrumentation of compares and swaps, and in addition, bounds checks.
  * This Helper class may be used for analyzing sort methods but will run at slightly slower speeds than the super-class.
+ * <p>
+ * If concurrent (in [instrumenting]) is true, the counts are kept in striped (per-thread) long counters (LongAdder)
+ * so that this Helper may be shared by the tasks of a parallel sort without losing updates;
+ * the counters are only merged (summed) in postProcess.
+ * Otherwise, the counts are kept in plain long fields (which do not overflow after 2^31 operations either).
+ * <p>
+ * If sampling (in [instrumenting]) is k (greater than 1), only (about) one in every k operations is counted,
+ * and the counts are scaled up by k:
+ * the resulting statistics are estimates but instrumentation of large arrays is much cheaper, especially of fixes.
+ * The choice is random (so that it cannot alias with any regular pattern of operations, such as compare-then-swap):
+ * the number of operations to be skipped is drawn from a geometric distribution (or, for concurrent instrumentation,
+ * each operation is chosen with probability 1/k).
+ * The choice is made once for each public operation, so that everything which that operation does
+ * (for example, the compare and the swap of swapConditional) is counted, or not, together.
+ * <p>
+ * NOTE: preProcess and postProcess (and so the counting of inversions) are intended to be invoked by one thread only,
+ * before and after each sort, even when concurrent is true.
+ * <p>
+ * If cache (in [instrumenting]) is true, each access to an element of an array (at a known index) is also fed to a CacheSimulator
+ * (configured by the [cache] section), whose L1 and L2 hits and misses and estimated cycles are added to the StatPack.
+ * Bulk copies (System.arraycopy) and accesses which are not made through this Helper are not simulated.
+ * Unlike the counts, the cache simulation is never sampled.
+ * <p>
+ * As for BaseHelper, the elements are compared by a Comparator (by default, the natural order).
  *
- * @param <X> the underlying type (must be Comparable).
+ * @param <X> the underlying type (which must be Comparable unless a Comparator is given).
  */
-public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
+public class InstrumentedHelper<X> extends BaseHelper<X> {
 
     final static LazyLogger logger = new LazyLogger(InstrumentedHelper.class);
 
@@ -31,9 +59,9 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @return true only if v is less than w.
      */
     public boolean less(X v, X w) {
-        if (countCompares)
-            compares++;
-        return v.compareTo(w) < 0;
+        if (countCompares && sampled())
+            compares.add(1);
+        return comparator.compare(v, w) < 0;
     }
 
     /**
@@ -44,20 +72,31 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @param j  the other index.
      */
     public void swap(X[] xs, int i, int j) {
+        swap(xs, i, j, sampled());
+    }
+
+    private void swap(X[] xs, int i, int j, boolean sampled) {
         if (i == j) return;
-        if (countSwaps)
-            swaps++;
+        if (cache != null) {
+            cache.access(xs, i);
+            cache.access(xs, j);
+            cache.access(xs, i);
+            cache.access(xs, j);
+        }
+        if (countSwaps && sampled)
+            swaps.add(1);
         X v = xs[i];
         X w = xs[j];
-        if (countHits)
-            hits += 4;
-        if (countFixes) {
-            int sense = Integer.signum(v.compareTo(w));
-            fixes += sense;
+        if (countHits && sampled)
+            hits.add(4);
+        if (countFixes && sampled) {
+            int sense = Integer.signum(comparator.compare(v, w));
+            long fixed = sense;
             for (int k = i + 1; k < j; k++) {
                 X x = xs[k];
-                if (w.compareTo(x) < 0 && x.compareTo(v) < 0) fixes += 2 * sense;
+                if (comparator.compare(w, x) < 0 && comparator.compare(x, v) < 0) fixed += 2 * sense;
             }
+            fixes.add(fixed);
         }
         xs[i] = w;
         xs[j] = v;
@@ -75,12 +114,22 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      */
     @Override
     public void swapInto(X[] xs, int i, int j) {
-        if (countSwaps)
-            swaps += (j - i);
-        if (countFixes)
-            fixes += (j - i);
-        if (countHits)
-            hits += (j - i + 1) * 2;
+        swapInto(xs, i, j, sampled());
+    }
+
+    private void swapInto(X[] xs, int i, int j, boolean sampled) {
+        if (sampled) {
+            if (countSwaps)
+                swaps.add(j - i);
+            if (countFixes)
+                fixes.add(j - i);
+            if (countHits)
+                hits.add((j - i + 1) * 2L);
+        }
+        if (cache != null) {
+            cache.access(xs, i, j + 1);
+            cache.access(xs, i, j + 1);
+        }
         super.swapInto(xs, i, j);
     }
 
@@ -95,11 +144,25 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      */
     @Override
     public void swapIntoSorted(X[] xs, int i) {
-        int j = binarySearch(xs, 0, i, xs[i]);
-        if (countHits)
-            hits += 1 + (int) Utilities.lg(xs.length);
+        swapIntoSorted(xs, 0, i);
+    }
+
+    /**
+     * Method to perform a stable swap using half-exchanges, and binary search, within the sub-array which begins at from.
+     *
+     * @param xs   the array of X elements, whose elements from thru i-1 MUST be sorted.
+     * @param from the index of the first element of the ordered sub-array.
+     * @param i    the index of the element to be swapped into the ordered sub-array xs[from..i-1].
+     */
+    @Override
+    public void swapIntoSorted(X[] xs, int from, int i) {
+        final boolean sampled = sampled();
+        if (cache != null) cache.access(xs, i);
+        int j = binarySearch(xs, from, i, xs[i], sampled);
+        if (countHits && sampled)
+            hits.add(1 + (int) Utilities.lg(i - from + 1));
         if (j < 0) j = -j - 1;
-        if (j < i) swapInto(xs, j, i);
+        if (j < i) swapInto(xs, j, i, sampled);
     }
 
     /**
@@ -110,15 +173,19 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @param from the from index.
      * @param to   the to index.
      * @param key  the key.
+     * @param sampled true if the compares are to be counted.
      * @return the index of the element where key was found, otherwise the index where it would have been found.
      */
-    private int binarySearch(X[] xs, int from, int to, X key) {
+    private int binarySearch(X[] xs, int from, int to, X key, boolean sampled) {
         int low = from;
         int high = to - 1;
 
         while (low <= high) {
             int mid = (low + high) >>> 1;
-            int cmp = compare(xs[mid], key);
+            if (cache != null) cache.access(xs, mid);
+            if (countCompares && sampled)
+                compares.add(1);
+            int cmp = comparator.compare(xs[mid], key);
             if (cmp < 0)
                 low = mid + 1;
             else if (cmp > 0)
@@ -139,13 +206,20 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      */
     @Override
     public boolean swapConditional(X[] xs, int i, int j) {
-        if (countCompares)
-            compares++;
-        if (countHits)
-            hits += 2;
-        int cf = xs[i].compareTo(xs[j]);
+        final boolean sampled = sampled();
+        if (sampled) {
+            if (countCompares)
+                compares.add(1);
+            if (countHits)
+                hits.add(2);
+        }
+        if (cache != null) {
+            cache.access(xs, i);
+            cache.access(xs, j);
+        }
+        int cf = comparator.compare(xs[i], xs[j]);
         if (cf > 0)
-            swap(xs, i, j);
+            swap(xs, i, j, sampled);
         return cf > 0;
     }
 
@@ -161,20 +235,31 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         // CONSIDER invoke super-method
         final X v = xs[i];
         final X w = xs[i - 1];
-        if (countHits)
-            hits += 2;
-        boolean result = v.compareTo(w) < 0;
-        if (countCompares)
-            compares++;
+        final boolean sampled = sampled();
+        if (countHits && sampled)
+            hits.add(2);
+        if (cache != null) {
+            cache.access(xs, i);
+            cache.access(xs, i - 1);
+        }
+        boolean result = comparator.compare(v, w) < 0;
+        if (countCompares && sampled)
+            compares.add(1);
         if (result) {
             xs[i] = w;
             xs[i - 1] = v;
-            if (countSwaps)
-                swaps++;
-            if (countHits)
-                hits += 2;
-            if (countFixes)
-                fixes++;
+            if (cache != null) {
+                cache.access(xs, i);
+                cache.access(xs, i - 1);
+            }
+            if (sampled) {
+                if (countSwaps)
+                    swaps.add(1);
+                if (countHits)
+                    hits.add(2);
+                if (countFixes)
+                    fixes.add(1);
+            }
         }
         return result;
 
@@ -190,13 +275,29 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      */
     @Override
     public void copy(X[] source, int i, X[] target, int j) {
-        if (countCopies)
-            copies++;
-        if (countHits)
-            hits += 2;
+        if (sampled()) {
+            if (countCopies)
+                copies.add(1);
+            if (countHits)
+                hits.add(2);
+        }
+        if (cache != null) {
+            cache.access(source, i);
+            cache.access(target, j);
+        }
         target[j] = source[i];
     }
 
+    /**
+     * If instrumenting, increment the number of compares by n.
+     *
+     * @param n the number of compares made.
+     */
+    @Override
+    public void incrementCompares(int n) {
+        if (countCompares && sampled()) compares.add(n);
+    }
+
     /**
      * If instrumenting, increment the number of copies by n.
      *
@@ -204,8 +305,10 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      */
     @Override
     public void incrementCopies(int n) {
-        if (countCopies) copies += n;
-        if (countHits) hits += n * 2;
+        if (sampled()) {
+            if (countCopies) copies.add(n);
+            if (countHits) hits.add(n * 2L);
+        }
     }
 
     // NOTE: the following private methods are only for testing.
@@ -217,7 +320,7 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      */
     @Override
     public void incrementFixes(int n) {
-        if (countFixes) fixes += n;
+        if (countFixes && sampled()) fixes.add(n);
     }
 
     /**
@@ -229,6 +332,10 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @return the result of compare(xs[i], xs[j]).
      */
     public int compare(X[] xs, int i, int j) {
+        if (cache != null) {
+            cache.access(xs, i);
+            cache.access(xs, j);
+        }
         // CONSIDER using compareTo method if it improves performance.
         return compare(xs[i], xs[j]);
     }
@@ -242,9 +349,9 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      */
     @Override
     public int compare(X v, X w) {
-        if (countCompares)
-            compares++;
-        return v.compareTo(w);
+        if (countCompares && sampled())
+            compares.add(1);
+        return comparator.compare(v, w);
     }
 
     /**
@@ -269,15 +376,19 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @param n the size to be managed.
      */
     public void init(int n) {
-        compares = 0;
-        swaps = 0;
-        copies = 0;
-        fixes = 0;
-        hits = 0;
+        compares.reset();
+        swaps.reset();
+        copies.reset();
+        fixes.reset();
+        hits.reset();
+        countdown = skip();
+        if (cache != null) cache.reset();
         // NOTE: it's an error to reset the StatPack if we've been here before
         if (n == this.n && statPack != null) return;
         super.init(n);
-        statPack = new StatPack(n, COMPARES, SWAPS, COPIES, INVERSIONS, FIXES, HITS);
+        statPack = cache != null ?
+                new StatPack(n, COMPARES, SWAPS, COPIES, INVERSIONS, FIXES, HITS, L1HITS, L1MISSES, L2HITS, L2MISSES, CYCLES) :
+                new StatPack(n, COMPARES, SWAPS, COPIES, INVERSIONS, FIXES, HITS);
     }
 
     /**
@@ -289,8 +400,10 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     @Override
     public X[] preProcess(X[] xs) {
         final X[] result = super.preProcess(xs);
-        // NOTE: because counting inversions is so slow, we only do if for a (configured) number of samples.
-        if (countInversions-- > 0) {
+        // NOTE: counting inversions takes O(n log n) time (see Inversions) but that is still about as long as a sort,
+        // so we only do it for a (configured) number of samples, where a negative number means every sample.
+        if (countInversions != 0) {
+            if (countInversions > 0) countInversions--;
             if (statPack != null) statPack.add(INVERSIONS, inversions(result));
             else throw new RuntimeException("InstrumentedHelper.postProcess: no StatPack");
         }
@@ -311,25 +424,32 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         if (!sorted(xs)) throw new BaseHelper.HelperException("Array is not sorted");
         if (statPack == null) throw new RuntimeException("InstrumentedHelper.postProcess: no StatPack");
         if (countCompares)
-            statPack.add(COMPARES, compares);
+            statPack.add(COMPARES, count(compares));
         if (countSwaps)
-            statPack.add(SWAPS, swaps);
+            statPack.add(SWAPS, count(swaps));
         if (countCopies)
-            statPack.add(COPIES, copies);
+            statPack.add(COPIES, count(copies));
         if (countFixes)
-            statPack.add(FIXES, fixes);
+            statPack.add(FIXES, count(fixes));
         if (countHits)
-            statPack.add(HITS, hits);
+            statPack.add(HITS, count(hits));
+        if (cache != null) {
+            statPack.add(L1HITS, cache.getL1Hits());
+            statPack.add(L1MISSES, cache.getL1Misses());
+            statPack.add(L2HITS, cache.getL2Hits());
+            statPack.add(L2MISSES, cache.getL2Misses());
+            statPack.add(CYCLES, cache.getCycles());
+        }
     }
 
     @Override
     public void registerDepth(int depth) {
-        if (depth > maxDepth) maxDepth = depth;
+        maxDepth.accumulateAndGet(depth, Math::max);
     }
 
     @Override
     public int maxDepth() {
-        return maxDepth;
+        return maxDepth.get();
     }
 
     @Override
@@ -352,16 +472,26 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     }
 
     /**
-     * Constructor for explicit random number generator.
+     * Method to get the cache simulator.
+     *
+     * @return the CacheSimulator, or null if cache (in [instrumenting]) is not set.
+     */
+    public CacheSimulator getCacheSimulator() {
+        return cache;
+    }
+
+    /**
+     * Constructor for explicit random number generator and Comparator.
      *
      * @param description the description of this Helper (for humans).
      * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
      * @param random      a random number generator.
+     * @param comparator  the Comparator which defines the order of the elements.
      * @param config      the configuration (note that the seed value is ignored).
      */
-    public InstrumentedHelper(String description, int n, Random random, Config config) {
+    public InstrumentedHelper(String description, int n, Random random, Comparator<X> comparator, Config config) {
         // CONSIDER using config.toString here somewhere.
-        super(description, n, random, config);
+        super(description, n, random, comparator, config);
         this.countCopies = config.getBoolean(INSTRUMENTING, COPIES);
         this.countSwaps = config.getBoolean(INSTRUMENTING, SWAPS);
         this.countCompares = config.getBoolean(INSTRUMENTING, COMPARES);
@@ -369,6 +499,41 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         this.countFixes = config.getBoolean(INSTRUMENTING, FIXES);
         this.countHits = config.getBoolean(INSTRUMENTING, HITS); // the number of array accesses
         this.cutoff = config.getInt("helper", "cutoff", 0);
+        this.concurrent = config.getBoolean(INSTRUMENTING, CONCURRENT, false);
+        this.sampling = Math.max(1, config.getInt(INSTRUMENTING, SAMPLING, 1));
+        this.logSkipped = Math.log(1 - 1.0 / sampling);
+        this.countdown = skip();
+        this.compares = counter(concurrent);
+        this.swaps = counter(concurrent);
+        this.copies = counter(concurrent);
+        this.fixes = counter(concurrent);
+        this.hits = counter(concurrent);
+        this.cache = config.getBoolean(INSTRUMENTING, CACHE, false) ? new CacheSimulator(config) : null;
+    }
+
+    /**
+     * Constructor for explicit random number generator.
+     * X must be Comparable: its natural order is used.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param random      a random number generator.
+     * @param config      the configuration (note that the seed value is ignored).
+     */
+    public InstrumentedHelper(String description, int n, Random random, Config config) {
+        this(description, n, random, naturalOrder(), config);
+    }
+
+    /**
+     * Constructor to create a Helper with an explicit Comparator.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param comparator  the Comparator which defines the order of the elements.
+     * @param config      The configuration.
+     */
+    public InstrumentedHelper(String description, int n, Comparator<X> comparator, Config config) {
+        this(description, n, new Random(config.getLong("helper", "seed", System.currentTimeMillis())), comparator, config);
     }
 
     /**
@@ -405,6 +570,61 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         this(description, 0, config);
     }
 
+    /**
+     * Factory method to create a Helper, with an explicit random number generator, which uses the natural order of X.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param random      a random number generator.
+     * @param config      the configuration (note that the seed value is ignored).
+     * @param <X>         the underlying (Comparable) type.
+     * @return an InstrumentedHelper of X.
+     */
+    public static <X extends Comparable<X>> InstrumentedHelper<X> naturalOrder(String description, int n, Random random, Config config) {
+        return new InstrumentedHelper<>(description, n, random, Comparator.<X>naturalOrder(), config);
+    }
+
+    /**
+     * Factory method to create a Helper, with an explicit seed, which uses the natural order of X.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param seed        the seed for the random number generator.
+     * @param config      the configuration.
+     * @param <X>         the underlying (Comparable) type.
+     * @return an InstrumentedHelper of X.
+     */
+    public static <X extends Comparable<X>> InstrumentedHelper<X> naturalOrder(String description, int n, long seed, Config config) {
+        return naturalOrder(description, n, new Random(seed), config);
+    }
+
+    /**
+     * Factory method to create a Helper, seeded from the configuration, which uses the natural order of X.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param config      The configuration.
+     * @param <X>         the underlying (Comparable) type.
+     * @return an InstrumentedHelper of X.
+     */
+    public static <X extends Comparable<X>> InstrumentedHelper<X> naturalOrder(String description, int n, Config config) {
+        return naturalOrder(description, n, config.getLong("helper", "seed", System.currentTimeMillis()), config);
+    }
+
+    /**
+     * Factory method to create a Helper, with an n value of 0, which uses the natural order of X.
+     * <p>
+     * NOTE: this method is used only by unit tests
+     *
+     * @param description the description of this Helper (for humans).
+     * @param config      The configuration.
+     * @param <X>         the underlying (Comparable) type.
+     * @return an InstrumentedHelper of X.
+     */
+    public static <X extends Comparable<X>> InstrumentedHelper<X> naturalOrder(String description, Config config) {
+        return naturalOrder(description, 0, config);
+    }
+
     public static final String SWAPS = "swaps";
     public static final String COMPARES = "compares";
     public static final String COPIES = "copies";
@@ -412,23 +632,141 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     public static final String FIXES = "fixes";
     public static final String HITS = "hits";
     public static final String INSTRUMENTING = "instrumenting";
+    public static final String CONCURRENT = "concurrent";
+    public static final String SAMPLING = "sampling";
+    public static final String CACHE = "cache";
+    public static final String L1HITS = "l1hits";
+    public static final String L1MISSES = "l1misses";
+    public static final String L2HITS = "l2hits";
+    public static final String L2MISSES = "l2misses";
+    public static final String CYCLES = "cycles";
 
-    // NOTE: the following private methods are only for testing.
+    /**
+     * @return the number of compares counted so far (or, if sampling, the estimate of it).
+     */
+    public long getCompareCount() {
+        return count(compares);
+    }
 
+    /**
+     * @return the number of swaps counted so far (or, if sampling, the estimate of it).
+     */
+    public long getSwapCount() {
+        return count(swaps);
+    }
+
+    /**
+     * @return the value of getCompareCount() as an int.
+     * @throws ArithmeticException if the count does not fit in an int.
+     */
     public int getCompares() {
-        return compares;
+        return Math.toIntExact(getCompareCount());
     }
 
+    /**
+     * @return the value of getSwapCount() as an int.
+     * @throws ArithmeticException if the count does not fit in an int.
+     */
     public int getSwaps() {
-        return swaps;
+        return Math.toIntExact(getSwapCount());
     }
 
+    // NOTE: the following private methods are only for testing.
+
     private int getFixes() {
-        return fixes;
+        return Math.toIntExact(count(fixes));
     }
 
     private int getHits() {
-        return hits;
+        return Math.toIntExact(count(hits));
+    }
+
+    /**
+     * Method to decide whether the current (public) operation should be counted.
+     * It must be invoked only once for each operation.
+     *
+     * @return true if sampling is 1, otherwise true for (on average) one in every sampling invocations.
+     */
+    private boolean sampled() {
+        if (sampling == 1) return true;
+        if (concurrent) return ThreadLocalRandom.current().nextInt(sampling) == 0;
+        if (--countdown > 0) return false;
+        countdown = skip();
+        return true;
+    }
+
+    /**
+     * Method to choose the number of operations up to and including the next one to be counted.
+     * This is geometrically distributed with mean sampling, i.e. as if each operation were chosen with probability 1/sampling.
+     *
+     * @return a number at least 1.
+     */
+    private int skip() {
+        if (sampling == 1) return 1;
+        return 1 + (int) (Math.log(1 - ThreadLocalRandom.current().nextDouble()) / logSkipped);
+    }
+
+    /**
+     * Method to get the (estimated) total of a counter.
+     *
+     * @param counter the counter.
+     * @return the sum of the counter, scaled up by sampling.
+     */
+    private long count(Counter counter) {
+        return counter.get() * sampling;
+    }
+
+    private static Counter counter(boolean concurrent) {
+        return concurrent ? new StripedCounter() : new PlainCounter();
+    }
+
+    /**
+     * A count of operations.
+     */
+    private interface Counter {
+        void add(long x);
+
+        long get();
+
+        void reset();
+    }
+
+    /**
+     * A Counter for use by a single thread.
+     */
+    private static class PlainCounter implements Counter {
+        public void add(long x) {
+            count += x;
+        }
+
+        public long get() {
+            return count;
+        }
+
+        public void reset() {
+            count = 0;
+        }
+
+        private long count = 0;
+    }
+
+    /**
+     * A Counter which may be shared by many threads: each thread (in effect) updates its own cell and the cells are summed by get.
+     */
+    private static class StripedCounter implements Counter {
+        public void add(long x) {
+            adder.add(x);
+        }
+
+        public long get() {
+            return adder.sum();
+        }
+
+        public void reset() {
+            adder.reset();
+        }
+
+        private final LongAdder adder = new LongAdder();
     }
 
     private final int cutoff;
@@ -437,12 +775,17 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     private final boolean countCompares;
     private final boolean countFixes;
     private final boolean countHits;
+    private final boolean concurrent;
+    private final int sampling;
+    private final double logSkipped;
+    private final Counter compares;
+    private final Counter swaps;
+    private final Counter copies;
+    private final Counter fixes;
+    private final Counter hits;
+    private final CacheSimulator cache;
     private StatPack statPack;
-    private int compares = 0;
-    private int swaps = 0;
-    private int copies = 0;
-    private int fixes = 0;
-    private int hits = 0;
+    private int countdown;
     private int countInversions;
-    private int maxDepth = 0;
+    private final AtomicInteger maxDepth = new AtomicInteger(0);
 }
@@ -0,0 +1,239 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.LazyLogger;
+import edu.neu.coe.info6205.util.StatPack;
+
+import java.util.Random;
+
+import static edu.neu.coe.info6205.sort.InstrumentedHelper.COMPARES;
+import static edu.neu.coe.info6205.sort.InstrumentedHelper.COPIES;
+import static edu.neu.coe.info6205.sort.InstrumentedHelper.HITS;
+import static edu.neu.coe.info6205.sort.InstrumentedHelper.INSTRUMENTING;
+import static edu.neu.coe.info6205.sort.InstrumentedHelper.SWAPS;
+
+/**
+ * Helper class for sorting arrays of primitives with instrumentation of compares, swaps, copies and hits (array accesses),
+ * the counterpart of InstrumentedHelper.
+ * <p>
+ * The options are taken from the [instrumenting] section of the configuration, just as for InstrumentedHelper
+ * (fixes and inversions are not counted).
+ */
+public class InstrumentedIntHelper extends IntHelper {
+
+    final static LazyLogger logger = new LazyLogger(InstrumentedIntHelper.class);
+
+    @Override
+    public boolean instrumented() {
+        return true;
+    }
+
+    @Override
+    public boolean less(int v, int w) {
+        if (countCompares) compares++;
+        return v < w;
+    }
+
+    @Override
+    public boolean less(long v, long w) {
+        if (countCompares) compares++;
+        return v < w;
+    }
+
+    @Override
+    public boolean less(double v, double w) {
+        if (countCompares) compares++;
+        return Double.compare(v, w) < 0;
+    }
+
+    @Override
+    public void swap(int[] xs, int i, int j) {
+        if (i == j) return;
+        countSwap();
+        super.swap(xs, i, j);
+    }
+
+    @Override
+    public void swap(long[] xs, int i, int j) {
+        if (i == j) return;
+        countSwap();
+        super.swap(xs, i, j);
+    }
+
+    @Override
+    public void swap(double[] xs, int i, int j) {
+        if (i == j) return;
+        countSwap();
+        super.swap(xs, i, j);
+    }
+
+    @Override
+    public boolean swapConditional(int[] xs, int i, int j) {
+        if (countHits) hits += 2;
+        return super.swapConditional(xs, i, j);
+    }
+
+    @Override
+    public boolean swapConditional(long[] xs, int i, int j) {
+        if (countHits) hits += 2;
+        return super.swapConditional(xs, i, j);
+    }
+
+    @Override
+    public boolean swapConditional(double[] xs, int i, int j) {
+        if (countHits) hits += 2;
+        return super.swapConditional(xs, i, j);
+    }
+
+    @Override
+    public void copy(int[] source, int i, int[] target, int j) {
+        incrementCopies(1);
+        target[j] = source[i];
+    }
+
+    @Override
+    public void copy(long[] source, int i, long[] target, int j) {
+        incrementCopies(1);
+        target[j] = source[i];
+    }
+
+    @Override
+    public void copy(double[] source, int i, double[] target, int j) {
+        incrementCopies(1);
+        target[j] = source[i];
+    }
+
+    @Override
+    public void incrementCompares(int n) {
+        if (countCompares) compares += n;
+    }
+
+    @Override
+    public void incrementCopies(int n) {
+        if (countCopies) copies += n;
+        if (countHits) hits += n * 2;
+    }
+
+    @Override
+    public void postProcess(int[] xs) {
+        if (!sorted(xs)) throw new BaseHelper.HelperException("Array is not sorted");
+        updateStatPack();
+    }
+
+    @Override
+    public void postProcess(long[] xs) {
+        if (!sorted(xs)) throw new BaseHelper.HelperException("Array is not sorted");
+        updateStatPack();
+    }
+
+    @Override
+    public void postProcess(double[] xs) {
+        if (!sorted(xs)) throw new BaseHelper.HelperException("Array is not sorted");
+        updateStatPack();
+    }
+
+    @Override
+    public void registerDepth(int depth) {
+        if (depth > maxDepth) maxDepth = depth;
+    }
+
+    @Override
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Initialize this Helper, resetting the counts.
+     *
+     * @param n the size to be managed.
+     */
+    @Override
+    public void init(int n) {
+        compares = 0;
+        swaps = 0;
+        copies = 0;
+        hits = 0;
+        // NOTE: it's an error to reset the StatPack if we've been here before
+        if (n == this.n && statPack != null) return;
+        super.init(n);
+        statPack = new StatPack(n, COMPARES, SWAPS, COPIES, HITS);
+    }
+
+    @Override
+    public void close() {
+        logger.debug(() -> "Closing IntHelper: " + description + " with statPack: " + statPack);
+        super.close();
+    }
+
+    public StatPack getStatPack() {
+        return statPack;
+    }
+
+    public int getCompares() {
+        return compares;
+    }
+
+    public int getSwaps() {
+        return swaps;
+    }
+
+    public int getCopies() {
+        return copies;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Constructor for explicit random number generator.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param random      a random number generator.
+     * @param config      the configuration (note that the seed value is ignored).
+     */
+    public InstrumentedIntHelper(String description, int n, Random random, Config config) {
+        super(description, n, random, config);
+        this.countCopies = config.getBoolean(INSTRUMENTING, COPIES);
+        this.countSwaps = config.getBoolean(INSTRUMENTING, SWAPS);
+        this.countCompares = config.getBoolean(INSTRUMENTING, COMPARES);
+        this.countHits = config.getBoolean(INSTRUMENTING, HITS);
+    }
+
+    public InstrumentedIntHelper(String description, int n, long seed, Config config) {
+        this(description, n, new Random(seed), config);
+    }
+
+    public InstrumentedIntHelper(String description, int n, Config config) {
+        this(description, n, config.getLong("helper", "seed", System.currentTimeMillis()), config);
+    }
+
+    public InstrumentedIntHelper(String description, Config config) {
+        this(description, 0, config);
+    }
+
+    private void countSwap() {
+        if (countSwaps) swaps++;
+        if (countHits) hits += 4;
+    }
+
+    private void updateStatPack() {
+        if (statPack == null) throw new RuntimeException("InstrumentedIntHelper.postProcess: no StatPack");
+        if (countCompares) statPack.add(COMPARES, compares);
+        if (countSwaps) statPack.add(SWAPS, swaps);
+        if (countCopies) statPack.add(COPIES, copies);
+        if (countHits) statPack.add(HITS, hits);
+    }
+
+    private final boolean countCopies;
+    private final boolean countSwaps;
+    private final boolean countCompares;
+    private final boolean countHits;
+    private StatPack statPack;
+    private int compares = 0;
+    private int swaps = 0;
+    private int copies = 0;
+    private int hits = 0;
+    private int maxDepth = 0;
+}
@@ -0,0 +1,262 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Helper class for sorting arrays of primitives (int, long and double), the counterpart of BaseHelper.
+ * <p>
+ * Doubles are ordered as by Double.compare (and therefore Arrays.sort), i.e. -0.0 is less than 0.0 and NaN is greater than everything.
+ * <p>
+ * This implementation does no counting: see InstrumentedIntHelper for that.
+ */
+public class IntHelper {
+
+    public boolean instrumented() {
+        return false;
+    }
+
+    /**
+     * Method to determine if one int value is less than another.
+     *
+     * @param v the candidate element.
+     * @param w the comparand element.
+     * @return true only if v is less than w.
+     */
+    public boolean less(int v, int w) {
+        return v < w;
+    }
+
+    public boolean less(long v, long w) {
+        return v < w;
+    }
+
+    public boolean less(double v, double w) {
+        return Double.compare(v, w) < 0;
+    }
+
+    /**
+     * Swap the elements of array xs at indices i and j.
+     *
+     * @param xs the array.
+     * @param i  one of the indices.
+     * @param j  the other index.
+     */
+    public void swap(int[] xs, int i, int j) {
+        int temp = xs[i];
+        xs[i] = xs[j];
+        xs[j] = temp;
+    }
+
+    public void swap(long[] xs, int i, int j) {
+        long temp = xs[i];
+        xs[i] = xs[j];
+        xs[j] = temp;
+    }
+
+    public void swap(double[] xs, int i, int j) {
+        double temp = xs[i];
+        xs[i] = xs[j];
+        xs[j] = temp;
+    }
+
+    /**
+     * Method to swap xs[i] and xs[j], but only if they are out of order.
+     *
+     * @param xs the array of elements under consideration
+     * @param i  the index of the lower element.
+     * @param j  the index of the upper element.
+     * @return true if there was an inversion (i.e. the order was wrong and had to be be fixed).
+     */
+    public boolean swapConditional(int[] xs, int i, int j) {
+        final boolean result = less(xs[j], xs[i]);
+        if (result) swap(xs, i, j);
+        return result;
+    }
+
+    public boolean swapConditional(long[] xs, int i, int j) {
+        final boolean result = less(xs[j], xs[i]);
+        if (result) swap(xs, i, j);
+        return result;
+    }
+
+    public boolean swapConditional(double[] xs, int i, int j) {
+        final boolean result = less(xs[j], xs[i]);
+        if (result) swap(xs, i, j);
+        return result;
+    }
+
+    /**
+     * Copy the element at source[i] into target[j]
+     *
+     * @param source the source array.
+     * @param i      the source index.
+     * @param target the target array.
+     * @param j      the target index.
+     */
+    public void copy(int[] source, int i, int[] target, int j) {
+        target[j] = source[i];
+    }
+
+    public void copy(long[] source, int i, long[] target, int j) {
+        target[j] = source[i];
+    }
+
+    public void copy(double[] source, int i, double[] target, int j) {
+        target[j] = source[i];
+    }
+
+    /**
+     * If instrumenting, increment the number of compares by n.
+     *
+     * @param n the number of compares made.
+     */
+    public void incrementCompares(int n) {
+        // do nothing.
+    }
+
+    /**
+     * If instrumenting, increment the number of copies by n.
+     *
+     * @param n the number of copies made.
+     */
+    public void incrementCopies(int n) {
+        // do nothing.
+    }
+
+    public boolean sorted(int[] xs) {
+        for (int i = 1; i < xs.length; i++) if (xs[i - 1] > xs[i]) return false;
+        return true;
+    }
+
+    public boolean sorted(long[] xs) {
+        for (int i = 1; i < xs.length; i++) if (xs[i - 1] > xs[i]) return false;
+        return true;
+    }
+
+    public boolean sorted(double[] xs) {
+        for (int i = 1; i < xs.length; i++) if (Double.compare(xs[i - 1], xs[i]) > 0) return false;
+        return true;
+    }
+
+    /**
+     * Method to post-process the array xs after sorting.
+     *
+     * @param xs the array that has been sorted.
+     */
+    public void postProcess(int[] xs) {
+    }
+
+    public void postProcess(long[] xs) {
+    }
+
+    public void postProcess(double[] xs) {
+    }
+
+    /**
+     * Method to generate an array of randomly chosen ints.
+     *
+     * @param f a function which takes a Random and generates a random int.
+     * @return an array of n ints.
+     */
+    public int[] randomInts(ToIntFunction<Random> f) {
+        if (n <= 0) throw new BaseHelper.HelperException("Helper.random: not initialized");
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) result[i] = f.applyAsInt(random);
+        return result;
+    }
+
+    public long[] randomLongs(ToLongFunction<Random> f) {
+        if (n <= 0) throw new BaseHelper.HelperException("Helper.random: not initialized");
+        long[] result = new long[n];
+        for (int i = 0; i < n; i++) result[i] = f.applyAsLong(random);
+        return result;
+    }
+
+    public double[] randomDoubles(ToDoubleFunction<Random> f) {
+        if (n <= 0) throw new BaseHelper.HelperException("Helper.random: not initialized");
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) result[i] = f.applyAsDouble(random);
+        return result;
+    }
+
+    /**
+     * Get the configured cutoff value.
+     *
+     * @return a value for cutoff.
+     */
+    public int cutoff() {
+        // NOTE that a cutoff value of 0 or less will result in an infinite recursion for any recursive method that uses it.
+        return cutoff >= 1 ? cutoff : 7;
+    }
+
+    public void registerDepth(int depth) {
+    }
+
+    public int maxDepth() {
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IntHelper for " + description + " with " + n + " elements";
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public void init(int n) {
+        if (this.n == 0 || this.n == n) this.n = n;
+        else throw new BaseHelper.HelperException("Helper: n is already set to a different value");
+    }
+
+    public int getN() {
+        return n;
+    }
+
+    public void close() {
+    }
+
+    /**
+     * Constructor for explicit random number generator.
+     *
+     * @param description the description of this Helper (for humans).
+     * @param n           the number of elements expected to be sorted. The field n is mutable so can be set after the constructor.
+     * @param random      a random number generator.
+     * @param config      the configuration.
+     */
+    public IntHelper(String description, int n, Random random, Config config) {
+        this.n = n;
+        this.description = description;
+        this.random = random;
+        this.config = config;
+        this.cutoff = config.getInt("helper", "cutoff", 0);
+    }
+
+    public IntHelper(String description, int n, long seed, Config config) {
+        this(description, n, new Random(seed), config);
+    }
+
+    public IntHelper(String description, int n, Config config) {
+        this(description, n, config.getLong("helper", "seed", System.currentTimeMillis()), config);
+    }
+
+    public IntHelper(String description, Config config) {
+        this(description, 0, config);
+    }
+
+    protected final String description;
+    protected final Random random;
+    protected final Config config;
+    protected int n;
+    private final int cutoff;
+}
@@ -0,0 +1,136 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.Arrays;
+
+/**
+ * Base class for sorts of primitive arrays (int, long and double) with an IntHelper, the counterpart of SortWithHelper.
+ * <p>
+ * Because there are no generics over primitives, each concrete sort implements one sort method for each element type.
+ */
+public abstract class IntSortWithHelper {
+
+    public IntSortWithHelper(IntHelper helper) {
+        this.helper = helper;
+    }
+
+    public IntSortWithHelper(String description, int N, Config config) {
+        this(HelperFactory.createInt(description, N, config));
+        closeHelper = true;
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public abstract void sort(int[] xs, int from, int to);
+
+    public abstract void sort(long[] xs, int from, int to);
+
+    public abstract void sort(double[] xs, int from, int to);
+
+    /**
+     * Method to sort.
+     *
+     * @param xs       sort the array xs, returning the sorted result, leaving xs unchanged.
+     * @param makeCopy if set to true, we make a copy first and sort that.
+     * @return the result (sorted version of xs).
+     */
+    public int[] sort(int[] xs, boolean makeCopy) {
+        init(xs.length);
+        int[] result = makeCopy ? Arrays.copyOf(xs, xs.length) : xs;
+        sort(result, 0, result.length);
+        return result;
+    }
+
+    public long[] sort(long[] xs, boolean makeCopy) {
+        init(xs.length);
+        long[] result = makeCopy ? Arrays.copyOf(xs, xs.length) : xs;
+        sort(result, 0, result.length);
+        return result;
+    }
+
+    public double[] sort(double[] xs, boolean makeCopy) {
+        init(xs.length);
+        double[] result = makeCopy ? Arrays.copyOf(xs, xs.length) : xs;
+        sort(result, 0, result.length);
+        return result;
+    }
+
+    public int[] sort(int[] xs) {
+        return sort(xs, true);
+    }
+
+    public long[] sort(long[] xs) {
+        return sort(xs, true);
+    }
+
+    public double[] sort(double[] xs) {
+        return sort(xs, true);
+    }
+
+    public void mutatingSort(int[] xs) {
+        sort(xs, false);
+    }
+
+    public void mutatingSort(long[] xs) {
+        sort(xs, false);
+    }
+
+    public void mutatingSort(double[] xs) {
+        sort(xs, false);
+    }
+
+    /**
+     * Get the IntHelper associated with this Sort.
+     *
+     * @return the IntHelper
+     */
+    public IntHelper getHelper() {
+        return helper;
+    }
+
+    /**
+     * Perform initializing step for this Sort.
+     *
+     * @param n the number of elements to be sorted.
+     */
+    public void init(int n) {
+        helper.init(n);
+    }
+
+    /**
+     * Method to post-process an array after sorting.
+     * <p>
+     * In this implementation, we delegate the post-processing to the helper.
+     *
+     * @param xs the array to be post-processed.
+     */
+    public void postProcess(int[] xs) {
+        helper.postProcess(xs);
+    }
+
+    public void postProcess(long[] xs) {
+        helper.postProcess(xs);
+    }
+
+    public void postProcess(double[] xs) {
+        helper.postProcess(xs);
+    }
+
+    @Override
+    public String toString() {
+        return helper.toString();
+    }
+
+    public void close() {
+        if (closeHelper) helper.close();
+    }
+
+    private final IntHelper helper;
+    protected boolean closeHelper = false;
+}
@@ -0,0 +1,184 @@
+package edu.neu.coe.info6205.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class to count the inversions of an array (the pairs i &lt; j such that xs[i] &gt; xs[j]) in O(n log n) time.
+ * <p>
+ * The count is made by a merge sort of a copy of the array: whenever an element of the right half is merged
+ * ahead of the remaining elements of the left half, each of those elements forms an inversion with it.
+ * Sub-arrays of no more than CUTOFF elements are sorted by insertion sort, which moves each element past exactly
+ * the elements with which it forms an inversion.
+ * Equal elements do not form an inversion.
+ * The order is natural order unless a Comparator is given.
+ * <p>
+ * The parallel variant sorts (and counts) the two halves of each sub-array of more than threshold elements
+ * as separate fork/join tasks.
+ * <p>
+ * NOTE: the array itself is not changed.
+ */
+public class Inversions {
+
+    /**
+     * Count the inversions of xs.
+     *
+     * @param xs  the array.
+     * @param <X> the underlying type.
+     * @return the number of inversions.
+     */
+    public static <X extends Comparable<X>> long count(X[] xs) {
+        return count(xs, Comparator.naturalOrder());
+    }
+
+    /**
+     * Count the inversions of xs according to comparator.
+     *
+     * @param xs         the array.
+     * @param comparator the order.
+     * @param <X>        the underlying type.
+     * @return the number of inversions.
+     */
+    public static <X> long count(X[] xs, Comparator<? super X> comparator) {
+        final X[] a = Arrays.copyOf(xs, xs.length);
+        return count(a, Arrays.copyOf(xs, xs.length), 0, a.length, comparator);
+    }
+
+    /**
+     * Count the inversions of xs, in parallel, using the common pool.
+     *
+     * @param xs  the array.
+     * @param <X> the underlying type.
+     * @return the number of inversions.
+     */
+    public static <X extends Comparable<X>> long parallelCount(X[] xs) {
+        return parallelCount(xs, Comparator.naturalOrder());
+    }
+
+    /**
+     * Count the inversions of xs according to comparator, in parallel, using the common pool.
+     *
+     * @param xs         the array.
+     * @param comparator the order.
+     * @param <X>        the underlying type.
+     * @return the number of inversions.
+     */
+    public static <X> long parallelCount(X[] xs, Comparator<? super X> comparator) {
+        return parallelCount(xs, comparator, THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Count the inversions of xs, in parallel.
+     *
+     * @param xs        the array.
+     * @param threshold sub-arrays of no more than threshold elements are counted sequentially.
+     * @param pool      the ForkJoinPool.
+     * @param <X>       the underlying type.
+     * @return the number of inversions.
+     */
+    public static <X extends Comparable<X>> long parallelCount(X[] xs, int threshold, ForkJoinPool pool) {
+        return parallelCount(xs, Comparator.naturalOrder(), threshold, pool);
+    }
+
+    /**
+     * Count the inversions of xs according to comparator, in parallel.
+     *
+     * @param xs         the array.
+     * @param comparator the order.
+     * @param threshold  sub-arrays of no more than threshold elements are counted sequentially.
+     * @param pool       the ForkJoinPool.
+     * @param <X>        the underlying type.
+     * @return the number of inversions.
+     */
+    public static <X> long parallelCount(X[] xs, Comparator<? super X> comparator, int threshold, ForkJoinPool pool) {
+        final X[] a = Arrays.copyOf(xs, xs.length);
+        return pool.invoke(new CountTask<>(a, Arrays.copyOf(xs, xs.length), 0, a.length, comparator, Math.max(threshold, CUTOFF)));
+    }
+
+    /**
+     * Sort a[from] .. a[to-1] and count its inversions.
+     *
+     * @param a    the array to be sorted.
+     * @param aux  an auxiliary array of the same length as a.
+     * @param from the index of the first element.
+     * @param to   the index of the first element not to be considered.
+     * @param c    the order.
+     * @return the number of inversions of a[from] .. a[to-1] as it was.
+     */
+    private static <X> long count(X[] a, X[] aux, int from, int to, Comparator<? super X> c) {
+        if (to - from <= CUTOFF) return insertionCount(a, from, to, c);
+        final int mid = from + (to - from) / 2;
+        return count(a, aux, from, mid, c) + count(a, aux, mid, to, c) + merge(a, aux, from, mid, to, c);
+    }
+
+    private static <X> long insertionCount(X[] a, int from, int to, Comparator<? super X> c) {
+        long result = 0;
+        for (int i = from + 1; i < to; i++) {
+            final X x = a[i];
+            int j = i;
+            while (j > from && c.compare(a[j - 1], x) > 0) {
+                a[j] = a[j - 1];
+                j--;
+            }
+            a[j] = x;
+            result += i - j;
+        }
+        return result;
+    }
+
+    /**
+     * Merge the sorted sub-arrays a[from] .. a[mid-1] and a[mid] .. a[to-1] and count the inversions between them.
+     */
+    private static <X> long merge(X[] a, X[] aux, int from, int mid, int to, Comparator<? super X> c) {
+        if (c.compare(a[mid - 1], a[mid]) <= 0) return 0;
+        System.arraycopy(a, from, aux, from, to - from);
+        long result = 0;
+        int i = from, j = mid;
+        for (int k = from; k < to; k++)
+            if (i >= mid) a[k] = aux[j++];
+            else if (j >= to) a[k] = aux[i++];
+            else if (c.compare(aux[j], aux[i]) < 0) {
+                result += mid - i;
+                a[k] = aux[j++];
+            } else a[k] = aux[i++];
+        return result;
+    }
+
+    private static class CountTask<X> extends RecursiveTask<Long> {
+
+        CountTask(X[] a, X[] aux, int from, int to, Comparator<? super X> comparator, int threshold) {
+            this.a = a;
+            this.aux = aux;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) return count(a, aux, from, to, comparator);
+            final int mid = from + (to - from) / 2;
+            final CountTask<X> left = new CountTask<>(a, aux, from, mid, comparator, threshold);
+            left.fork();
+            final long right = new CountTask<>(a, aux, mid, to, comparator, threshold).compute();
+            return left.join() + right + merge(a, aux, from, mid, to, comparator);
+        }
+
+        private final X[] a;
+        private final X[] aux;
+        private final int from;
+        private final int to;
+        private final Comparator<? super X> comparator;
+        private final int threshold;
+    }
+
+    /**
+     * Arrays of at least this many elements are counted in parallel by BaseHelper.
+     */
+    public static final int THRESHOLD = 1 << 16;
+
+    private static final int CUTOFF = 16;
+}
@@ -2,21 +2,31 @@ package edu.neu.coe.info6205.sort;
 
 import edu.neu.coe.info6205.util.Config;
 
+import java.util.Comparator;
+
 /**
  * Base class for Sort with a Helper.
  * <p>
+ * All comparisons are made by the Helper so that, if the Helper has been given a Comparator,
+ * X does not need to be Comparable.
+ * <p>
  * CONSIDER extending GenericSortWithGenericHelper
  *
- * @param <X> underlying type which extends Comparable.
+ * @param <X> underlying type (which must be Comparable unless the Helper has a Comparator).
  */
-public abstract class SortWithHelper<X extends Comparable<X>> implements Sort<X> {
+public abstract class SortWithHelper<X> implements Sort<X> {
 
     public SortWithHelper(Helper<X> helper) {
         this.helper = helper;
     }
 
     public SortWithHelper(String description, int N, Config config) {
-        this(HelperFactory.create(description, N, config));
+        // NOTE: X is not known to be Comparable here, although it must be for the natural order.
+        this(description, N, BaseHelper.naturalOrder(), config);
+    }
+
+    public SortWithHelper(String description, int N, Comparator<X> comparator, Config config) {
+        this(HelperFactory.create(description, N, comparator, config));
         closeHelper = true;
     }
 
@@ -0,0 +1,139 @@
+package edu.neu.coe.info6205.sort.counting;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Class to sort Strings according to a Collator (i.e. in the order appropriate to a particular language)
+ * without calling the Collator for each comparison.
+ * <p>
+ * Instead, the collation key of each String is computed just once, as an array of bytes whose unsigned lexicographic order
+ * is the collation order, and the keys are sorted by an MSD radix sort.
+ * The keys are moved together with the original indices of their Strings,
+ * which are then used to permute the Strings themselves.
+ * <p>
+ * Strings whose keys are equal (according to the strength of the Collator) retain their original order, i.e. the sort is stable.
+ * <p>
+ * NOTE: the order is that of the CollationKeys, which is not quite the same as that of Collator.compare for every locale
+ * (the French collator, for example, disagrees with its own keys about some strings which contain ignorable characters).
+ */
+public class CollationSort {
+
+    /**
+     * Constructor for CollationSort.
+     *
+     * @param collator the Collator which defines the order.
+     */
+    public CollationSort(Collator collator) {
+        this.collator = collator;
+    }
+
+    /**
+     * Constructor for CollationSort which uses the default Collator for the given locale.
+     *
+     * @param locale the locale.
+     */
+    public CollationSort(Locale locale) {
+        this(Collator.getInstance(locale));
+    }
+
+    /**
+     * Sort an array of Strings using CollationSort with the default Collator for the given locale.
+     *
+     * @param a      the array to be sorted.
+     * @param locale the locale.
+     */
+    public static void sort(String[] a, Locale locale) {
+        new CollationSort(locale).sort(a, 0, a.length);
+    }
+
+    /**
+     * Sort the sub-array a[from] .. a[to-1].
+     *
+     * @param a    the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(String[] a, int from, int to) {
+        final int n = to - from;
+        final byte[][] keys = new byte[n][];
+        final int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = collator.getCollationKey(a[from + i]).toByteArray();
+            indices[i] = i;
+        }
+        sort(keys, indices, new byte[n][], new int[n], 0, n, 0);
+        final String[] copy = Arrays.copyOfRange(a, from, to);
+        for (int i = 0; i < n; i++) a[from + i] = copy[indices[i]];
+    }
+
+    public Collator getCollator() {
+        return collator;
+    }
+
+    /**
+     * Sort from keys[lo] to keys[hi] (exclusive), ignoring the first d bytes of each key, and moving the indices in step.
+     * This method is recursive.
+     *
+     * @param keys       the keys to be sorted.
+     * @param indices    the indices which correspond to the keys.
+     * @param auxKeys    the auxiliary array for keys.
+     * @param auxIndices the auxiliary array for indices.
+     * @param lo         the low index.
+     * @param hi         the high index (one above the highest actually processed).
+     * @param d          the number of bytes in each key to be skipped.
+     */
+    private static void sort(byte[][] keys, int[] indices, byte[][] auxKeys, int[] auxIndices, int lo, int hi, int d) {
+        if (hi < lo + cutoff) {
+            insertionSort(keys, indices, lo, hi, d);
+            return;
+        }
+        final int[] count = new int[radix + 2];        // Compute frequency counts.
+        for (int i = lo; i < hi; i++)
+            count[byteAt(keys[i], d) + 2]++;
+        for (int r = 0; r < radix + 1; r++)      // Transform counts to indices.
+            count[r + 1] += count[r];
+        for (int i = lo; i < hi; i++) {     // Distribute.
+            final int j = count[byteAt(keys[i], d) + 1]++;
+            auxKeys[j] = keys[i];
+            auxIndices[j] = indices[i];
+        }
+        // Copy back.
+        System.arraycopy(auxKeys, 0, keys, lo, hi - lo);
+        System.arraycopy(auxIndices, 0, indices, lo, hi - lo);
+        // Recursively sort for each byte value (the keys which have no byte at position d are equal, and so already in order).
+        for (int r = 0; r < radix; r++)
+            if (count[r + 1] - count[r] > 1) sort(keys, indices, auxKeys, auxIndices, lo + count[r], lo + count[r + 1], d + 1);
+    }
+
+    private static void insertionSort(byte[][] keys, int[] indices, int lo, int hi, int d) {
+        for (int i = lo + 1; i < hi; i++) {
+            final byte[] key = keys[i];
+            final int index = indices[i];
+            int j = i;
+            for (; j > lo && less(key, keys[j - 1], d); j--) {
+                keys[j] = keys[j - 1];
+                indices[j] = indices[j - 1];
+            }
+            keys[j] = key;
+            indices[j] = index;
+        }
+    }
+
+    private static boolean less(byte[] v, byte[] w, int d) {
+        for (int i = d; i < v.length && i < w.length; i++)
+            if (v[i] != w[i]) return (v[i] & 0xFF) < (w[i] & 0xFF);
+        return v.length < w.length;
+    }
+
+    private static int byteAt(byte[] key, int d) {
+        if (d < key.length) return key[d] & 0xFF;
+        else return -1;
+    }
+
+    private static final int radix = 256;
+    private static final int cutoff = 15;
+
+    private final Collator collator;
+}
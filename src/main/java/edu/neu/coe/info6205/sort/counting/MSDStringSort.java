@@ -1,56 +1,172 @@
 package edu.neu.coe.info6205.sort.counting;
 
 import edu.neu.coe.info6205.sort.elementary.InsertionSortMSD;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Class to implement Most significant digit string sort (a radix sort).
+ * <p>
+ * Each sort allocates its own auxiliary array, so that an instance may be used by several threads at once.
+ * After the distribution pass, each character bucket is sorted recursively:
+ * buckets of at least threshold elements are sorted by their own fork/join task, smaller buckets are sorted sequentially
+ * (and buckets smaller than cutoff are sorted by InsertionSortMSD).
+ * <p>
+ * Characters greater than or equal to radix-1 all share the last bucket which, since its strings may differ at position d,
+ * is sorted by comparison (all strings in a bucket share their first d characters so the natural order is correct).
  */
 public class MSDStringSort {
 
+    /**
+     * Constructor for MSDStringSort.
+     *
+     * @param threshold the size of bucket at or above which a new task is forked.
+     * @param pool      the ForkJoinPool on which to run the tasks.
+     */
+    public MSDStringSort(int threshold, ForkJoinPool pool) {
+        this.threshold = Math.max(threshold, cutoff);
+        this.pool = pool;
+    }
+
+    /**
+     * Constructor for MSDStringSort which takes its threshold from the configuration and uses the common pool.
+     *
+     * @param config the configuration.
+     */
+    public MSDStringSort(Config config) {
+        this(config.getInt(MSDSTRINGSORT, THRESHOLD, DEFAULT_THRESHOLD), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for MSDStringSort with the default threshold, using the common pool.
+     */
+    public MSDStringSort() {
+        this(DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
     /**
      * Sort an array of Strings using MSDStringSort.
      *
      * @param a the array to be sorted.
      */
     public static void sort(String[] a) {
-        int n = a.length;
-        aux = new String[n];
-        sort(a, 0, n, 0);
+        new MSDStringSort().sort(a, 0, a.length);
+    }
+
+    /**
+     * Sort the sub-array a[from] .. a[to-1].
+     *
+     * @param a    the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(String[] a, int from, int to) {
+        if (to - from < threshold) sort(a, new String[to - from], from, from, to, 0);
+        else pool.invoke(new MSDTask(a, new String[to - from], from, from, to, 0));
+    }
+
+    public int getThreshold() {
+        return threshold;
     }
 
     /**
      * Sort from a[lo] to a[hi] (exclusive), ignoring the first d characters of each String.
      * This method is recursive.
      *
-     * @param a the array to be sorted.
-     * @param lo the low index.
-     * @param hi the high index (one above the highest actually processed).
-     * @param d the number of characters in each String to be skipped.
+     * @param a    the array to be sorted.
+     * @param aux  the auxiliary array, where aux[0] corresponds to a[base].
+     * @param base the index of a which corresponds to aux[0].
+     * @param lo   the low index.
+     * @param hi   the high index (one above the highest actually processed).
+     * @param d    the number of characters in each String to be skipped.
      */
-    private static void sort(String[] a, int lo, int hi, int d) {
+    private static void sort(String[] a, String[] aux, int base, int lo, int hi, int d) {
         if (hi < lo + cutoff) InsertionSortMSD.sort(a, lo, hi, d);
         else {
-            int[] count = new int[radix + 2];        // Compute frequency counts.
-            for (int i = lo; i < hi; i++)
-                count[charAt(a[i], d) + 2]++;
-            for (int r = 0; r < radix + 1; r++)      // Transform counts to indices.
-                count[r + 1] += count[r];
-            for (int i = lo; i < hi; i++)     // Distribute.
-                aux[count[charAt(a[i], d) + 1]++] = a[i];
-            // Copy back.
-            if (hi - lo >= 0) System.arraycopy(aux, 0, a, lo, hi - lo);
+            int[] count = distribute(a, aux, base, lo, hi, d);
             // Recursively sort for each character value.
-            // FIXME
-            // END 
+            for (int r = 0; r < radix - 1; r++)
+                sort(a, aux, base, lo + count[r], lo + count[r + 1], d + 1);
+            Arrays.sort(a, lo + count[radix - 1], lo + count[radix]);
         }
     }
 
+    /**
+     * Distribute a[lo] to a[hi] (exclusive) according to the character at position d, using the region of aux which corresponds to lo..hi.
+     * On return, the strings with character r (0 &lt;= r &lt; radix) occupy a[lo+count[r]] to a[lo+count[r+1]] (exclusive),
+     * while the strings with no character at position d occupy a[lo] to a[lo+count[0]] (exclusive).
+     *
+     * @return the count array.
+     */
+    private static int[] distribute(String[] a, String[] aux, int base, int lo, int hi, int d) {
+        int[] count = new int[radix + 2];        // Compute frequency counts.
+        for (int i = lo; i < hi; i++)
+            count[charAt(a[i], d) + 2]++;
+        for (int r = 0; r < radix + 1; r++)      // Transform counts to indices.
+            count[r + 1] += count[r];
+        final int offset = lo - base;
+        for (int i = lo; i < hi; i++)     // Distribute.
+            aux[offset + count[charAt(a[i], d) + 1]++] = a[i];
+        // Copy back.
+        System.arraycopy(aux, offset, a, lo, hi - lo);
+        return count;
+    }
+
     private static int charAt(String s, int d) {
-        if (d < s.length()) return s.charAt(d);
+        if (d < s.length()) return Math.min(s.charAt(d), radix - 1);
         else return -1;
     }
 
+    /**
+     * Task to sort a[lo..hi), ignoring the first d characters of each String.
+     */
+    private class MSDTask extends RecursiveAction {
+
+        MSDTask(String[] a, String[] aux, int base, int lo, int hi, int d) {
+            this.a = a;
+            this.aux = aux;
+            this.base = base;
+            this.lo = lo;
+            this.hi = hi;
+            this.d = d;
+        }
+
+        @Override
+        protected void compute() {
+            int[] count = distribute(a, aux, base, lo, hi, d);
+            List<MSDTask> tasks = new ArrayList<>();
+            for (int r = 0; r < radix - 1; r++) {
+                int from = lo + count[r], to = lo + count[r + 1];
+                if (to - from >= threshold) {
+                    MSDTask task = new MSDTask(a, aux, base, from, to, d + 1);
+                    task.fork();
+                    tasks.add(task);
+                } else sort(a, aux, base, from, to, d + 1);
+            }
+            Arrays.sort(a, lo + count[radix - 1], lo + count[radix]);
+            for (MSDTask task : tasks) task.join();
+        }
+
+        private final String[] a;
+        private final String[] aux;
+        private final int base;
+        private final int lo;
+        private final int hi;
+        private final int d;
+    }
+
+    public static final String MSDSTRINGSORT = "msdstringsort";
+    public static final String THRESHOLD = "threshold";
+
     private static final int radix = 256;
     private static final int cutoff = 15;
-    private static String[] aux;       // auxiliary array for distribution
-}
\ No newline at end of file
+    private static final int DEFAULT_THRESHOLD = 4096;
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+}
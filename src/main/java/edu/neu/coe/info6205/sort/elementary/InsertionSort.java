@@ -8,7 +8,10 @@ import edu.neu.coe.info6205.sort.Helper;
 import edu.neu.coe.info6205.sort.SortWithHelper;
 import edu.neu.coe.info6205.util.Config;
 
-public class  InsertionSort<X extends Comparable<X>> extends SortWithHelper<X> {
+import java.io.IOException;
+import java.util.Comparator;
+
+public class  InsertionSort<X> extends SortWithHelper<X> {
 
     /**
      * Constructor for any sub-classes to use.
@@ -35,6 +38,33 @@ public class  InsertionSort<X extends Comparable<X>> extends SortWithHelper<X> {
         this(new BaseHelper<>(DESCRIPTION, config));
     }
 
+    /**
+     * Constructor for any sub-classes to use.
+     *
+     * @param description the description.
+     * @param N           the number of elements expected.
+     * @param comparator  the Comparator which defines the order of the elements.
+     * @param config      the configuration.
+     */
+    protected InsertionSort(String description, int N, Comparator<X> comparator, Config config) {
+        super(description, N, comparator, config);
+    }
+
+    /**
+     * Constructor for InsertionSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public InsertionSort(int N, Comparator<X> comparator, Config config) {
+        this(DESCRIPTION, N, comparator, config);
+    }
+
+    public InsertionSort(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
     /**
      * Constructor for InsertionSort
      *
@@ -45,7 +75,7 @@ public class  InsertionSort<X extends Comparable<X>> extends SortWithHelper<X> {
     }
 
     public InsertionSort() {
-        this(BaseHelper.getHelper(InsertionSort.class));
+        this(loadConfig());
     }
 
     /**
@@ -70,8 +100,47 @@ public class  InsertionSort<X extends Comparable<X>> extends SortWithHelper<X> {
         // END 
     }
 
+    /**
+     * Method to create the sort which is to be used for small sub-arrays by another sorter (for example, a quicksort).
+     * The choice is given by the smallsort option in the configuration section of that sorter and is one of:
+     * insertion (the default), binaryinsertion (InsertionSortOpt) or network (SortingNetwork).
+     *
+     * @param helper  the Helper to be shared with the sorter.
+     * @param section the configuration section of the sorter (for example, quicksort_dualpivot).
+     * @param <Y>     the underlying element type.
+     * @return an InsertionSort of Y.
+     */
+    public static <Y> InsertionSort<Y> create(Helper<Y> helper, String section) {
+        final Config config = helper.getConfig();
+        final String smallSort = config != null ? config.get(section, SMALLSORT) : null;
+        if (smallSort == null || smallSort.isEmpty()) return new InsertionSort<>(helper);
+        switch (smallSort) {
+            case INSERTION:
+                return new InsertionSort<>(helper);
+            case BINARYINSERTION:
+                return new InsertionSortOpt<>(helper);
+            case NETWORK:
+                return new SortingNetwork<>(helper);
+            default:
+                throw new RuntimeException("InsertionSort.create: unknown " + SMALLSORT + " in [" + section + "]: " + smallSort);
+        }
+    }
+
     public static final String DESCRIPTION = "Insertion sort";
 
+    public static final String SMALLSORT = "smallsort";
+    public static final String INSERTION = "insertion";
+    public static final String BINARYINSERTION = "binaryinsertion";
+    public static final String NETWORK = "network";
+
+    private static Config loadConfig() {
+        try {
+            return Config.load(InsertionSort.class);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public static <T extends Comparable<T>> void sort(T[] ts) {
         new InsertionSort<T>().mutatingSort(ts);
     }
@@ -8,8 +8,9 @@ import edu.neu.coe.info6205.sort.Helper;
 import edu.neu.coe.info6205.util.Config;
 
 import java.io.IOException;
+import java.util.Comparator;
 
-public class InsertionSortOpt<X extends Comparable<X>> extends InsertionSort<X> {
+public class InsertionSortOpt<X> extends InsertionSort<X> {
 
     /**
      * Constructor for InsertionSort
@@ -25,6 +26,21 @@ public class InsertionSortOpt<X extends Comparable<X>> extends InsertionSort<X>
         this(new BaseHelper<>(DESCRIPTION, config));
     }
 
+    /**
+     * Constructor for InsertionSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public InsertionSortOpt(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+    }
+
+    public InsertionSortOpt(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
     /**
      * Constructor for InsertionSort
      *
@@ -44,7 +60,7 @@ public class InsertionSortOpt<X extends Comparable<X>> extends InsertionSort<X>
     public void sort(X[] xs, int from, int to) {
         final Helper<X> helper = getHelper();
         for (int i = from + 1; i < to; i++) {
-            helper.swapIntoSorted(xs, i);
+            helper.swapIntoSorted(xs, from, i);
         }
     }
 
@@ -0,0 +1,64 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.IntHelper;
+import edu.neu.coe.info6205.sort.IntSortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+
+/**
+ * Insertion sort of arrays of int, long or double: the counterpart of InsertionSort which avoids boxing.
+ */
+public class IntInsertionSort extends IntSortWithHelper {
+
+    /**
+     * Constructor for IntInsertionSort
+     *
+     * @param helper an explicit instance of IntHelper to be used.
+     */
+    public IntInsertionSort(IntHelper helper) {
+        super(helper);
+    }
+
+    /**
+     * Constructor for IntInsertionSort
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public IntInsertionSort(int N, Config config) {
+        super(DESCRIPTION, N, config);
+    }
+
+    public IntInsertionSort(Config config) {
+        this(new IntHelper(DESCRIPTION, config));
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(int[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        for (int i = from + 1; i < to; i++)
+            for (int j = i; j > from && helper.less(xs[j], xs[j - 1]); j--)
+                helper.swap(xs, j - 1, j);
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        for (int i = from + 1; i < to; i++)
+            for (int j = i; j > from && helper.less(xs[j], xs[j - 1]); j--)
+                helper.swap(xs, j - 1, j);
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        for (int i = from + 1; i < to; i++)
+            for (int j = i; j > from && helper.less(xs[j], xs[j - 1]); j--)
+                helper.swap(xs, j - 1, j);
+    }
+
+    public static final String DESCRIPTION = "Insertion sort (primitive)";
+}
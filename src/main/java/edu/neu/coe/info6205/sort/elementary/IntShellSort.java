@@ -0,0 +1,86 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.IntHelper;
+import edu.neu.coe.info6205.sort.IntSortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+
+/**
+ * Shell sort of arrays of int, long or double: the counterpart of ShellSort which avoids boxing.
+ * The gap sequence is Knuth's (1, 4, 13, 40, ...), i.e. ShellSort with m = 3.
+ */
+public class IntShellSort extends IntSortWithHelper {
+
+    /**
+     * Constructor for IntShellSort
+     *
+     * @param helper an explicit instance of IntHelper to be used.
+     */
+    public IntShellSort(IntHelper helper) {
+        super(helper);
+    }
+
+    /**
+     * Constructor for IntShellSort
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public IntShellSort(int N, Config config) {
+        super(DESCRIPTION, N, config);
+    }
+
+    public IntShellSort(Config config) {
+        this(new IntHelper(DESCRIPTION, config));
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(int[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        int h = firstGap(to - from);
+        while (h > 0) {
+            for (int i = h + from; i < to; i++) {
+                int j = i;
+                while (j >= h + from && helper.swapConditional(xs, j - h, j)) j -= h;
+            }
+            h = h / 3;
+        }
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        int h = firstGap(to - from);
+        while (h > 0) {
+            for (int i = h + from; i < to; i++) {
+                int j = i;
+                while (j >= h + from && helper.swapConditional(xs, j - h, j)) j -= h;
+            }
+            h = h / 3;
+        }
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        int h = firstGap(to - from);
+        while (h > 0) {
+            for (int i = h + from; i < to; i++) {
+                int j = i;
+                while (j >= h + from && helper.swapConditional(xs, j - h, j)) j -= h;
+            }
+            h = h / 3;
+        }
+    }
+
+    public static final String DESCRIPTION = "Shell sort (primitive)";
+
+    private static int firstGap(int n) {
+        int h = 1;
+        while (h <= n / 3) h = h * 3 + 1;
+        return h;
+    }
+}
@@ -9,8 +9,9 @@ import edu.neu.coe.info6205.sort.SortWithHelper;
 import edu.neu.coe.info6205.util.Config;
 
 import java.io.IOException;
+import java.util.Comparator;
 
-public class SelectionSort<X extends Comparable<X>> extends SortWithHelper<X> {
+public class SelectionSort<X> extends SortWithHelper<X> {
 
     /**
      * Constructor for SelectionSort
@@ -26,6 +27,21 @@ public class SelectionSort<X extends Comparable<X>> extends SortWithHelper<X> {
         this(new BaseHelper<>(DESCRIPTION, config));
     }
 
+    /**
+     * Constructor for SelectionSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public SelectionSort(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+    }
+
+    public SelectionSort(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
     /**
      * Constructor for SelectionSort
      *
@@ -11,15 +11,16 @@ import edu.neu.coe.info6205.util.Config;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Consumer;
 
 /**
  * Class to implement Shell Sort.
  *
- * @param <X> the type of element on which we will be sorting (must implement Comparable).
+ * @param <X> the type of element on which we will be sorting (must implement Comparable unless the Helper has a Comparator).
  */
-public class ShellSort<X extends Comparable<X>> extends SortWithHelper<X> {
+public class ShellSort<X> extends SortWithHelper<X> {
 
     /**
      * Constructor for ShellSort
@@ -32,6 +33,18 @@ public class ShellSort<X extends Comparable<X>> extends SortWithHelper<X> {
         this.m = m;
     }
 
+    /**
+     * Constructor for ShellSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public ShellSort(int m, int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+        this.m = m;
+    }
+
     public ShellSort() throws IOException {
         this(5);
     }
@@ -40,6 +53,14 @@ public class ShellSort<X extends Comparable<X>> extends SortWithHelper<X> {
         this(m, new BaseHelper<>(DESCRIPTION, Config.load(ShellSort.class)));
     }
 
+    public ShellSort(Comparator<X> comparator) throws IOException {
+        this(5, comparator);
+    }
+
+    public ShellSort(int m, Comparator<X> comparator) throws IOException {
+        this(m, new BaseHelper<>(DESCRIPTION, 0, comparator, Config.load(ShellSort.class)));
+    }
+
     /**
      * Constructor for ShellSort
      *
@@ -70,6 +91,22 @@ public class ShellSort<X extends Comparable<X>> extends SortWithHelper<X> {
         this(m, new BaseHelper<>(DESCRIPTION, config));
     }
 
+    /**
+     * Constructor for ShellSort
+     *
+     * @param m          the "gap" (h) sequence to follow:
+     *                   1: ordinary insertion sort;
+     *                   2: use powers of two less one;
+     *                   3: use the sequence based on 3 (the one in the book): 1, 4, 13, etc.
+     *                   4: Sedgewick's sequence.
+     *                   5: Pratt Sequence 2^i*3^j with i, j >= 0.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public ShellSort(int m, Comparator<X> comparator, Config config) {
+        this(m, new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
     /**
      * Method to sort a sub-array of an array of Xs.
      * <p>
@@ -0,0 +1,225 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.Comparator;
+
+/**
+ * Sort of small sub-arrays by means of a (size-optimal) sorting network, i.e. a fixed sequence of compare-exchanges,
+ * each of which is a call of Helper.swapConditional.
+ * <p>
+ * Because the sequence of comparisons does not depend on the data, there are no branches to mispredict
+ * (other than in the compare-exchange itself).
+ * Networks are defined for sub-arrays of up to MAX_NETWORK elements; longer sub-arrays are sorted by insertion sort.
+ * <p>
+ * NOTE: unlike insertion sort, a sorting network is not stable.
+ * <p>
+ * The networks for 2 thru 13 and 16 elements are those given by Knuth (TAOCP vol. 3, 5.3.4) and Codish et al.;
+ * those for 14 and 15 elements are obtained by removing the top wires from the network for 16 elements.
+ * Each was checked by the 0-1 principle.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class SortingNetwork<X> extends InsertionSort<X> {
+
+    /**
+     * Constructor for SortingNetwork
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public SortingNetwork(int N, Config config) {
+        super(DESCRIPTION, N, config);
+    }
+
+    public SortingNetwork(Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config));
+    }
+
+    /**
+     * Constructor for SortingNetwork
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public SortingNetwork(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+    }
+
+    public SortingNetwork(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
+    /**
+     * Constructor for SortingNetwork
+     *
+     * @param helper an explicit instance of Helper to be used.
+     */
+    public SortingNetwork(Helper<X> helper) {
+        super(helper);
+    }
+
+    /**
+     * Sort the sub-array xs:from:to using the appropriate sorting network (or insertion sort if there is none).
+     *
+     * @param xs   sort the array xs from "from" to "to".
+     * @param from the index of the first element to sort
+     * @param to   the index of the first element not to sort
+     */
+    public void sort(X[] xs, int from, int to) {
+        final int n = to - from;
+        if (n > MAX_NETWORK) {
+            super.sort(xs, from, to);
+            return;
+        }
+        final Helper<X> helper = getHelper();
+        final int[] network = NETWORKS[Math.max(n, 0)];
+        for (int k = 0; k < network.length; k += 2)
+            helper.swapConditional(xs, from + network[k], from + network[k + 1]);
+    }
+
+    /**
+     * Method to yield the number of comparators in the network for n elements.
+     *
+     * @param n the number of elements (no greater than MAX_NETWORK).
+     * @return the number of compare-exchanges required to sort n elements.
+     */
+    public static int comparators(int n) {
+        return NETWORKS[n].length / 2;
+    }
+
+    public static final String DESCRIPTION = "Sorting network";
+
+    /**
+     * The largest number of elements for which a network is defined.
+     */
+    public static final int MAX_NETWORK = 16;
+
+    /**
+     * The networks, indexed by the number of elements.
+     * Each network is flattened into pairs (i, j) with i less than j, one line per layer (whose comparators are independent).
+     */
+    private static final int[][] NETWORKS = {
+            {},
+            {},
+            // 2 elements: 1 comparator.
+            {0, 1},
+            // 3 elements: 3 comparators in 3 layers.
+            {0, 2,
+                    0, 1,
+                    1, 2},
+            // 4 elements: 5 comparators in 3 layers.
+            {0, 2, 1, 3,
+                    0, 1, 2, 3,
+                    1, 2},
+            // 5 elements: 9 comparators in 5 layers.
+            {0, 3, 1, 4,
+                    0, 2, 1, 3,
+                    0, 1, 2, 4,
+                    1, 2, 3, 4,
+                    2, 3},
+            // 6 elements: 12 comparators in 5 layers.
+            {0, 5, 1, 3, 2, 4,
+                    1, 2, 3, 4,
+                    0, 3, 2, 5,
+                    0, 1, 2, 3, 4, 5,
+                    1, 2, 3, 4},
+            // 7 elements: 16 comparators in 6 layers.
+            {0, 6, 2, 3, 4, 5,
+                    0, 2, 1, 4, 3, 6,
+                    0, 1, 2, 5, 3, 4,
+                    1, 2, 4, 6,
+                    2, 3, 4, 5,
+                    1, 2, 3, 4, 5, 6},
+            // 8 elements: 19 comparators in 6 layers.
+            {0, 2, 1, 3, 4, 6, 5, 7,
+                    0, 4, 1, 5, 2, 6, 3, 7,
+                    0, 1, 2, 3, 4, 5, 6, 7,
+                    2, 4, 3, 5,
+                    1, 4, 3, 6,
+                    1, 2, 3, 4, 5, 6},
+            // 9 elements: 25 comparators in 7 layers.
+            {0, 3, 1, 7, 2, 5, 4, 8,
+                    0, 7, 2, 4, 3, 8, 5, 6,
+                    0, 2, 1, 3, 4, 5, 7, 8,
+                    1, 4, 3, 6, 5, 7,
+                    0, 1, 2, 4, 3, 5, 6, 8,
+                    2, 3, 4, 5, 6, 7,
+                    1, 2, 3, 4, 5, 6},
+            // 10 elements: 29 comparators in 8 layers.
+            {0, 8, 1, 9, 2, 7, 3, 5, 4, 6,
+                    0, 2, 1, 4, 5, 8, 7, 9,
+                    0, 3, 2, 4, 5, 7, 6, 9,
+                    0, 1, 3, 6, 8, 9,
+                    1, 5, 2, 3, 4, 8, 6, 7,
+                    1, 2, 3, 5, 4, 6, 7, 8,
+                    2, 3, 4, 5, 6, 7,
+                    3, 4, 5, 6},
+            // 11 elements: 35 comparators in 8 layers.
+            {0, 9, 1, 6, 2, 4, 3, 7, 5, 8,
+                    0, 1, 3, 5, 4, 10, 6, 9, 7, 8,
+                    1, 3, 2, 5, 4, 7, 8, 10,
+                    0, 4, 1, 2, 3, 7, 5, 9, 6, 8,
+                    0, 1, 2, 6, 4, 5, 7, 8, 9, 10,
+                    2, 4, 3, 6, 5, 7, 8, 9,
+                    1, 2, 3, 4, 5, 6, 7, 8,
+                    2, 3, 4, 5, 6, 7},
+            // 12 elements: 39 comparators in 9 layers.
+            {0, 8, 1, 7, 2, 6, 3, 11, 4, 10, 5, 9,
+                    0, 1, 2, 5, 3, 4, 6, 9, 7, 8, 10, 11,
+                    0, 2, 1, 6, 5, 10, 9, 11,
+                    0, 3, 1, 2, 4, 6, 5, 7, 8, 11, 9, 10,
+                    1, 4, 3, 5, 6, 8, 7, 10,
+                    1, 3, 2, 5, 6, 9, 8, 10,
+                    2, 3, 4, 5, 6, 7, 8, 9,
+                    4, 6, 5, 7,
+                    3, 4, 5, 6, 7, 8},
+            // 13 elements: 45 comparators in 10 layers.
+            {0, 12, 1, 10, 2, 9, 3, 7, 5, 11, 6, 8,
+                    1, 6, 2, 3, 4, 11, 7, 9, 8, 10,
+                    0, 4, 1, 2, 3, 6, 7, 8, 9, 10, 11, 12,
+                    4, 6, 5, 9, 8, 11, 10, 12,
+                    0, 5, 3, 8, 4, 7, 6, 11, 9, 10,
+                    0, 1, 2, 5, 6, 9, 7, 8, 10, 11,
+                    1, 3, 2, 4, 5, 6, 9, 10,
+                    1, 2, 3, 4, 5, 7, 6, 8,
+                    2, 3, 4, 5, 6, 7, 8, 9,
+                    3, 4, 5, 6},
+            // 14 elements: 51 comparators in 10 layers.
+            {0, 13, 1, 12, 4, 8, 5, 6, 7, 11, 9, 10,
+                    0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 11, 12,
+                    0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13,
+                    0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9,
+                    1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11,
+                    1, 4, 2, 6, 5, 8, 7, 10, 9, 13,
+                    2, 4, 3, 6, 9, 12, 11, 13,
+                    3, 5, 6, 8, 7, 9, 10, 12,
+                    3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+                    6, 7, 8, 9},
+            // 15 elements: 56 comparators in 10 layers.
+            {0, 13, 1, 12, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10,
+                    0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14, 11, 12,
+                    0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13,
+                    0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 12, 14,
+                    1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14,
+                    1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 11, 14,
+                    2, 4, 3, 6, 9, 12, 11, 13,
+                    3, 5, 6, 8, 7, 9, 10, 12,
+                    3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+                    6, 7, 8, 9},
+            // 16 elements: 60 comparators in 10 layers.
+            {0, 13, 1, 12, 2, 15, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10,
+                    0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14, 10, 15, 11, 12,
+                    0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13, 14, 15,
+                    0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 12, 14, 13, 15,
+                    1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14,
+                    1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 11, 14,
+                    2, 4, 3, 6, 9, 12, 11, 13,
+                    3, 5, 6, 8, 7, 9, 10, 12,
+                    3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+                    6, 7, 8, 9},
+    };
+}
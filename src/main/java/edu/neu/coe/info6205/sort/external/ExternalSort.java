@@ -0,0 +1,371 @@
+package edu.neu.coe.info6205.sort.external;
+
+import edu.neu.coe.info6205.pq.PQException;
+import edu.neu.coe.info6205.pq.PriorityQueue;
+import edu.neu.coe.info6205.sort.SortException;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.LazyLogger;
+import edu.neu.coe.info6205.util.Utilities;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Class to sort a file of records which may be (much) larger than the heap.
+ * <p>
+ * The sort has two phases:
+ * <ol>
+ *     <li>createRuns: the input is read in chunks of chunkSize records, each chunk is sorted (in memory) by the given sorter
+ *     and written to its own temporary file (a "run");</li>
+ *     <li>merge: the runs are merged, at most fanIn at a time, using a (minimum) PriorityQueue which holds the next record of each run.
+ *     If there are more than fanIn runs, groups of fanIn runs are merged into longer (temporary) runs until no more than fanIn remain.</li>
+ * </ol>
+ * All I/O is buffered (with buffers of bufferSize chars) and uses UTF-8.
+ * The runs are merged in the order defined by the Comparator of the sorter's Helper, i.e. the order in which each run was sorted.
+ * Ties between runs are resolved in favor of the earlier run, so the external sort is stable if the sorter is stable.
+ * <p>
+ * The format of a record (and of the runs) is defined by a Format: either Lines (one record per line)
+ * or FixedWidth (each record occupies exactly width characters, with no separators).
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper of the sorter has a Comparator).
+ */
+public class ExternalSort<X> {
+
+    final static LazyLogger logger = new LazyLogger(ExternalSort.class);
+
+    /**
+     * Constructor for ExternalSort.
+     *
+     * @param sorter     the sorter to be used for each chunk.
+     * @param format     the format of the records.
+     * @param chunkSize  the number of records in each chunk (i.e. the number of records in memory at once).
+     * @param fanIn      the maximum number of runs to be merged at once (at least 2).
+     * @param bufferSize the size of the buffer for each file (in chars).
+     * @param directory  the directory for the temporary files (if null, the default temporary-file directory).
+     */
+    public ExternalSort(SortWithHelper<X> sorter, Format<X> format, int chunkSize, int fanIn, int bufferSize, File directory) {
+        if (chunkSize < 1) throw new SortException("ExternalSort: chunkSize must be positive: " + chunkSize);
+        if (fanIn < 2) throw new SortException("ExternalSort: fanIn must be at least 2: " + fanIn);
+        this.sorter = sorter;
+        this.format = format;
+        this.chunkSize = chunkSize;
+        this.fanIn = fanIn;
+        this.bufferSize = bufferSize;
+        this.directory = directory;
+    }
+
+    /**
+     * Constructor for ExternalSort which takes its options from the [externalsort] section of the configuration.
+     *
+     * @param sorter the sorter to be used for each chunk.
+     * @param format the format of the records.
+     * @param config the configuration.
+     */
+    public ExternalSort(SortWithHelper<X> sorter, Format<X> format, Config config) {
+        this(sorter, format, config.getInt(EXTERNALSORT, CHUNKSIZE, DEFAULT_CHUNKSIZE), config.getInt(EXTERNALSORT, FANIN, DEFAULT_FANIN),
+                config.getInt(EXTERNALSORT, BUFFERSIZE, DEFAULT_BUFFERSIZE), getDirectory(config));
+    }
+
+    /**
+     * Sort the records of input, writing them to output.
+     *
+     * @param input  the unsorted file.
+     * @param output the sorted file (which may be the same as input).
+     * @throws IOException if there is a problem reading or writing.
+     */
+    public void sort(File input, File output) throws IOException {
+        merge(createRuns(input), output);
+    }
+
+    /**
+     * Phase one of the sort: read input in chunks, sorting each and writing it to a temporary file.
+     *
+     * @param input the unsorted file.
+     * @return the list of runs (temporary files), in the order of the input.
+     * @throws IOException if there is a problem reading or writing.
+     */
+    public List<File> createRuns(File input) throws IOException {
+        final List<File> result = new ArrayList<>();
+        final List<X> chunk = new ArrayList<>(Math.min(chunkSize, MAX_INITIAL_CAPACITY));
+        try (BufferedReader reader = createReader(input)) {
+            X x;
+            while ((x = format.read(reader)) != null) {
+                chunk.add(x);
+                if (chunk.size() == chunkSize) result.add(writeRun(chunk));
+            }
+            if (!chunk.isEmpty() || result.isEmpty()) result.add(writeRun(chunk));
+        } catch (IOException | RuntimeException e) {
+            delete(result);
+            throw e;
+        }
+        logger.debug(() -> "ExternalSort.createRuns: " + result.size() + " runs from " + input);
+        return result;
+    }
+
+    /**
+     * Phase two of the sort: merge the given runs into output. The runs are deleted.
+     *
+     * @param runs   the runs, each of which is sorted.
+     * @param output the sorted file.
+     * @throws IOException if there is a problem reading or writing.
+     */
+    public void merge(List<File> runs, File output) throws IOException {
+        List<File> remaining = new ArrayList<>(runs);
+        try {
+            while (remaining.size() > fanIn) {
+                final List<File> merged = new ArrayList<>();
+                for (int i = 0; i < remaining.size(); i += fanIn) {
+                    final List<File> group = remaining.subList(i, Math.min(i + fanIn, remaining.size()));
+                    if (group.size() == 1) merged.add(group.get(0));
+                    else {
+                        final File run = createRunFile();
+                        merged.add(run);
+                        mergeRuns(group, run);
+                        delete(group);
+                    }
+                }
+                remaining = merged;
+            }
+            mergeRuns(remaining, output);
+        } finally {
+            delete(remaining);
+        }
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    /**
+     * Delete the given runs (silently ignoring any which have already been deleted).
+     *
+     * @param runs the runs to be deleted.
+     */
+    public static void delete(List<File> runs) {
+        for (File run : runs)
+            try {
+                Files.deleteIfExists(run.toPath());
+            } catch (IOException e) {
+                logger.warn("ExternalSort: unable to delete " + run, e);
+            }
+    }
+
+    /**
+     * Interface to define the format of a record.
+     *
+     * @param <X> the underlying type.
+     */
+    public interface Format<X> {
+        /**
+         * Read the next record.
+         *
+         * @param reader the reader.
+         * @return the record or null if there are no more records.
+         * @throws IOException if there is a problem reading.
+         */
+        X read(BufferedReader reader) throws IOException;
+
+        /**
+         * Write a record.
+         *
+         * @param writer the writer.
+         * @param x      the record.
+         * @throws IOException if there is a problem writing.
+         */
+        void write(BufferedWriter writer, X x) throws IOException;
+    }
+
+    /**
+     * Format in which each record occupies one line.
+     *
+     * @param <X> the underlying type.
+     */
+    public static class Lines<X> implements Format<X> {
+
+        /**
+         * Constructor for Lines.
+         *
+         * @param parser    the function to convert a line into a record.
+         * @param formatter the function to convert a record into a line (without its line separator).
+         */
+        public Lines(Function<String, X> parser, Function<X, String> formatter) {
+            this.parser = parser;
+            this.formatter = formatter;
+        }
+
+        public X read(BufferedReader reader) throws IOException {
+            final String line = reader.readLine();
+            return line != null ? parser.apply(line) : null;
+        }
+
+        public void write(BufferedWriter writer, X x) throws IOException {
+            writer.write(formatter.apply(x));
+            writer.newLine();
+        }
+
+        /**
+         * Method to create a Lines format for Strings.
+         *
+         * @return a Lines format in which each line is a String record.
+         */
+        public static Lines<String> strings() {
+            return new Lines<>(Function.identity(), Function.identity());
+        }
+
+        private final Function<String, X> parser;
+        private final Function<X, String> formatter;
+    }
+
+    /**
+     * Format in which each record occupies exactly width characters, with no separators.
+     *
+     * @param <X> the underlying type.
+     */
+    public static class FixedWidth<X> implements Format<X> {
+
+        /**
+         * Constructor for FixedWidth.
+         *
+         * @param width     the width of each record.
+         * @param parser    the function to convert width characters into a record.
+         * @param formatter the function to convert a record into exactly width characters.
+         */
+        public FixedWidth(int width, Function<String, X> parser, Function<X, String> formatter) {
+            this.width = width;
+            this.parser = parser;
+            this.formatter = formatter;
+            this.buffer = new char[width];
+        }
+
+        public X read(BufferedReader reader) throws IOException {
+            int n = 0;
+            while (n < width) {
+                final int read = reader.read(buffer, n, width - n);
+                if (read < 0) break;
+                n += read;
+            }
+            if (n == 0) return null;
+            if (n < width) throw new SortException("FixedWidth: incomplete record: " + new String(buffer, 0, n));
+            return parser.apply(new String(buffer));
+        }
+
+        public void write(BufferedWriter writer, X x) throws IOException {
+            final String s = formatter.apply(x);
+            if (s.length() != width) throw new SortException("FixedWidth: record does not have width " + width + ": " + s);
+            writer.write(s);
+        }
+
+        private final int width;
+        private final Function<String, X> parser;
+        private final Function<X, String> formatter;
+        // NOTE: a FixedWidth may not be shared by two threads.
+        private final char[] buffer;
+    }
+
+    private File writeRun(List<X> chunk) throws IOException {
+        final File result = createRunFile();
+        try (BufferedWriter writer = createWriter(result)) {
+            if (!chunk.isEmpty()) {
+                // NOTE: the last chunk is usually shorter than the others so we sort without (re-)initializing the sorter.
+                final X[] xs = Utilities.asArray(chunk);
+                sorter.sort(xs, 0, xs.length);
+                for (X x : xs) format.write(writer, x);
+            }
+        }
+        chunk.clear();
+        return result;
+    }
+
+    /**
+     * Merge the given runs into output, using a PriorityQueue of the next record from each run.
+     */
+    private void mergeRuns(List<File> runs, File output) throws IOException {
+        final List<BufferedReader> readers = new ArrayList<>();
+        try {
+            for (File run : runs) readers.add(createReader(run));
+            final Comparator<X> order = sorter.getHelper().getComparator();
+            final Comparator<Head<X>> comparator = (h1, h2) -> {
+                final int cf = order.compare(h1.x, h2.x);
+                return cf != 0 ? cf : Integer.compare(h1.run, h2.run);
+            };
+            final PriorityQueue<Head<X>> pq = new PriorityQueue<>(readers.size(), false, comparator, true);
+            for (int i = 0; i < readers.size(); i++) {
+                final X x = format.read(readers.get(i));
+                if (x != null) pq.give(new Head<>(x, i));
+            }
+            try (BufferedWriter writer = createWriter(output)) {
+                while (!pq.isEmpty()) {
+                    final Head<X> head = pq.take();
+                    format.write(writer, head.x);
+                    // NOTE: the Head is re-used for the next record of the same run.
+                    head.x = format.read(readers.get(head.run));
+                    if (head.x != null) pq.give(head);
+                }
+            }
+        } catch (PQException e) {
+            throw new SortException("ExternalSort: logic error", e);
+        } finally {
+            for (BufferedReader reader : readers) reader.close();
+        }
+    }
+
+    private File createRunFile() throws IOException {
+        final File result = File.createTempFile("run", ".tmp", directory);
+        result.deleteOnExit();
+        return result;
+    }
+
+    private BufferedReader createReader(File file) throws IOException {
+        return new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), bufferSize);
+    }
+
+    private BufferedWriter createWriter(File file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), bufferSize);
+    }
+
+    private static File getDirectory(Config config) {
+        final String directory = config.get(EXTERNALSORT, DIRECTORY);
+        return directory == null || directory.isEmpty() ? null : new File(directory);
+    }
+
+    /**
+     * The next record of a run.
+     */
+    private static class Head<X> {
+        Head(X x, int run) {
+            this.x = x;
+            this.run = run;
+        }
+
+        X x;
+        final int run;
+    }
+
+    public static final String EXTERNALSORT = "externalsort";
+    public static final String CHUNKSIZE = "chunksize";
+    public static final String FANIN = "fanin";
+    public static final String BUFFERSIZE = "buffersize";
+    public static final String DIRECTORY = "directory";
+
+    private static final int DEFAULT_CHUNKSIZE = 100000;
+    private static final int DEFAULT_FANIN = 64;
+    private static final int DEFAULT_BUFFERSIZE = 65536;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+
+    private final SortWithHelper<X> sorter;
+    private final Format<X> format;
+    private final int chunkSize;
+    private final int fanIn;
+    private final int bufferSize;
+    private final File directory;
+}
@@ -0,0 +1,30 @@
+package edu.neu.coe.info6205.sort.husky;
+
+/**
+ * Interface to define the encoding of an X as a long (the "husky" code) for HuskySort.
+ * <p>
+ * The encoding must be monotonic: if x is less than y, then huskyEncode(x) must not be greater than huskyEncode(y).
+ * It need not be one-to-one: elements with equal codes are put in order by the final insertion-sort pass of HuskySort.
+ *
+ * @param <X> the underlying type to be encoded.
+ */
+public interface HuskyCoder<X> {
+
+    /**
+     * Encode x as a long.
+     *
+     * @param x the X value to encode.
+     * @return a long which is consistent with the natural order of X.
+     */
+    long huskyEncode(X x);
+
+    /**
+     * Method to determine whether this encoding is perfect, i.e. one-to-one such that equal codes imply equal elements.
+     * If the encoding is perfect, HuskySort may skip the final insertion-sort pass.
+     *
+     * @return true if the encoding is perfect (false by default).
+     */
+    default boolean perfect() {
+        return false;
+    }
+}
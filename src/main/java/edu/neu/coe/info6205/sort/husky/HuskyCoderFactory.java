@@ -0,0 +1,45 @@
+package edu.neu.coe.info6205.sort.husky;
+
+import java.time.ZoneOffset;
+import java.time.chrono.ChronoLocalDateTime;
+
+/**
+ * Factory class for HuskyCoders.
+ */
+public final class HuskyCoderFactory {
+
+    /**
+     * Coder for Strings which takes the first four UTF-16 characters (16 bits each) of a String.
+     * Shorter Strings are padded with zero, so that a String always encodes no higher than any of its extensions.
+     * The sign bit is flipped so that the signed order of the codes matches the unsigned order of the characters.
+     */
+    public final static HuskyCoder<String> unicodeCoder = HuskyCoderFactory::unicodeEncode;
+
+    /**
+     * Coder for ChronoLocalDateTimes which yields the number of nanoseconds since the epoch (in UTC).
+     * Values outside the range of a long (roughly the years 1677 through 2262) saturate, which is still monotonic.
+     */
+    public final static HuskyCoder<ChronoLocalDateTime<?>> chronoLocalDateTimeCoder = HuskyCoderFactory::epochNanos;
+
+    static long unicodeEncode(String s) {
+        final int n = Math.min(s.length(), MAX_CHARS);
+        long result = 0L;
+        for (int i = 0; i < n; i++) result = result << BITS_PER_CHAR | s.charAt(i);
+        result <<= BITS_PER_CHAR * (MAX_CHARS - n);
+        return result ^ Long.MIN_VALUE;
+    }
+
+    static long epochNanos(ChronoLocalDateTime<?> x) {
+        final long seconds = x.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= Long.MAX_VALUE / NANOS_PER_SECOND) return Long.MAX_VALUE;
+        if (seconds < Long.MIN_VALUE / NANOS_PER_SECOND) return Long.MIN_VALUE;
+        return seconds * NANOS_PER_SECOND + x.toLocalTime().getNano();
+    }
+
+    private HuskyCoderFactory() {
+    }
+
+    private static final int BITS_PER_CHAR = 16;
+    private static final int MAX_CHARS = Long.SIZE / BITS_PER_CHAR;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+}
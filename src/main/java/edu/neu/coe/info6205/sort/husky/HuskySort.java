@@ -0,0 +1,156 @@
+package edu.neu.coe.info6205.sort.husky;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.util.Config;
+
+/**
+ * Sorter which first encodes each element as a long (according to a HuskyCoder) and sorts the codes,
+ * carrying the elements along with them, and then repairs any remaining inversions with a final pass of insertion sort.
+ * <p>
+ * The first phase compares only primitive longs, so that (for a good encoding) the only comparisons of elements are made
+ * by the final pass, which costs little more than n compares when the codes have put the elements almost in order.
+ * <p>
+ * NOTE that only the compares, swaps, etc. of the final pass are seen by the helper.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class HuskySort<X> extends SortWithHelper<X> {
+
+    /**
+     * Constructor for HuskySort
+     *
+     * @param helper an explicit instance of Helper to be used.
+     * @param coder  the coder which encodes each X as a long.
+     */
+    public HuskySort(Helper<X> helper, HuskyCoder<X> coder) {
+        super(helper);
+        this.coder = coder;
+        insertionSort = new InsertionSort<>(helper);
+    }
+
+    /**
+     * Constructor for HuskySort
+     *
+     * @param N      the number elements we expect to sort.
+     * @param coder  the coder which encodes each X as a long.
+     * @param config the configuration.
+     */
+    public HuskySort(int N, HuskyCoder<X> coder, Config config) {
+        super(DESCRIPTION, N, config);
+        this.coder = coder;
+        insertionSort = new InsertionSort<>(getHelper());
+    }
+
+    public HuskySort(HuskyCoder<X> coder, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config), coder);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(X[] xs, int from, int to) {
+        final int n = to - from;
+        if (n < 2) return;
+        final long[] keys = new long[n];
+        for (int i = 0; i < n; i++) keys[i] = coder.huskyEncode(xs[from + i]);
+        sort(keys, xs, from, 0, n, 2 * floor_lg(n));
+        if (!coder.perfect()) insertionSort.sort(xs, from, to);
+    }
+
+    public HuskyCoder<X> getCoder() {
+        return coder;
+    }
+
+    public static final String DESCRIPTION = "Husky sort";
+
+    /**
+     * Introsort of keys[lo..hi), such that each swap of keys is mirrored by a swap of the corresponding elements of xs.
+     *
+     * @param keys  the codes.
+     * @param xs    the elements, where xs[base+i] corresponds to keys[i].
+     * @param base  the index of xs which corresponds to keys[0].
+     * @param lo    the index of the first key to sort.
+     * @param hi    the index of the first key not to sort.
+     * @param depth the number of further partitions allowed before resorting to heapsort.
+     */
+    private void sort(long[] keys, X[] xs, int base, int lo, int hi, int depth) {
+        while (hi - lo > SMALL) {
+            if (depth-- == 0) {
+                heapSort(keys, xs, base, lo, hi);
+                return;
+            }
+            // NOTE: median of three is moved to lo and the greatest of the three to hi-1, where it acts as a sentinel.
+            int mid = lo + (hi - lo) / 2;
+            if (keys[mid] < keys[lo]) swap(keys, xs, base, lo, mid);
+            if (keys[hi - 1] < keys[lo]) swap(keys, xs, base, lo, hi - 1);
+            if (keys[hi - 1] < keys[mid]) swap(keys, xs, base, mid, hi - 1);
+            swap(keys, xs, base, lo, mid);
+            long v = keys[lo];
+            int i = lo, j = hi;
+            while (true) {
+                //noinspection StatementWithEmptyBody
+                while (keys[++i] < v) ;
+                //noinspection StatementWithEmptyBody
+                while (v < keys[--j]) ;
+                if (i >= j) break;
+                swap(keys, xs, base, i, j);
+            }
+            swap(keys, xs, base, lo, j);
+            // NOTE: recurse on the smaller partition and iterate on the larger so that the stack depth is logarithmic.
+            if (j - lo < hi - j) {
+                sort(keys, xs, base, lo, j, depth);
+                lo = j + 1;
+            } else {
+                sort(keys, xs, base, j + 1, hi, depth);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i < hi; i++)
+            for (int j = i; j > lo && keys[j] < keys[j - 1]; j--)
+                swap(keys, xs, base, j, j - 1);
+    }
+
+    private void heapSort(long[] keys, X[] xs, int base, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) downHeap(keys, xs, base, lo, i, n);
+        for (int m = n - 1; m > 0; m--) {
+            swap(keys, xs, base, lo, lo + m);
+            downHeap(keys, xs, base, lo, 0, m);
+        }
+    }
+
+    private void downHeap(long[] keys, X[] xs, int base, int lo, int i, int n) {
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && keys[lo + child] < keys[lo + child + 1]) child++;
+            if (keys[lo + i] >= keys[lo + child]) return;
+            swap(keys, xs, base, lo + i, lo + child);
+            i = child;
+        }
+    }
+
+    private static <Y> void swap(long[] keys, Y[] xs, int base, int i, int j) {
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        Y x = xs[base + i];
+        xs[base + i] = xs[base + j];
+        xs[base + j] = x;
+    }
+
+    private static int floor_lg(int a) {
+        return 31 - Integer.numberOfLeadingZeros(a);
+    }
+
+    private static final int SMALL = 16;
+
+    private final HuskyCoder<X> coder;
+    private final InsertionSort<X> insertionSort;
+}
@@ -0,0 +1,259 @@
+package edu.neu.coe.info6205.sort.keyed;
+
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.IntHelper;
+import edu.neu.coe.info6205.sort.IntSortWithHelper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.sort.counting.MSDStringSort;
+import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.sort.linearithmic.IntIntroSort;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Sort which extracts a key from each element just once (decorate-sort-undecorate),
+ * so that the (possibly expensive) comparison of two elements is not made at every step of the sort.
+ * <p>
+ * Each key is packed, together with the index of its element, into a long
+ * which is sorted by a primitive sorter (IntIntroSort); the elements are then permuted into the order of the packed keys.
+ * If the range of the keys is too great for a key to share a long with an index, each key is first replaced by its rank
+ * amongst the distinct keys.
+ * Because the index is in the low-order bits, elements with equal keys keep their original order, i.e. this sort is stable.
+ * <p>
+ * There are two concrete sorts: ByLong, for keys given by a ToLongFunction, and ByString, for keys given by a Function to String.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public abstract class KeyedSort<X> extends SortWithHelper<X> {
+
+    public static final String DESCRIPTION = "Keyed sort";
+
+    /**
+     * Constructor for KeyedSort
+     *
+     * @param helper an explicit instance of Helper to be used.
+     */
+    protected KeyedSort(Helper<X> helper) {
+        super(helper);
+        sorter = new IntIntroSort(new IntHelper(DESCRIPTION, helper.getConfig()));
+    }
+
+    /**
+     * Constructor for KeyedSort
+     *
+     * @param description the description.
+     * @param N           the number elements we expect to sort.
+     * @param config      the configuration.
+     */
+    protected KeyedSort(String description, int N, Config config) {
+        super(description, N, config);
+        sorter = new IntIntroSort(new IntHelper(DESCRIPTION, config));
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1] by key.
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    @Override
+    public void sort(X[] xs, int from, int to) {
+        final int n = to - from;
+        if (n < 2) return;
+        final int indexBits = 32 - Integer.numberOfLeadingZeros(n - 1);
+        final long[] packed = pack(xs, from, to, indexBits);
+        sorter.sort(packed, 0, n);
+        final Helper<X> helper = getHelper();
+        final X[] copy = Arrays.copyOfRange(xs, from, to);
+        final long mask = (1L << indexBits) - 1;
+        for (int i = 0; i < n; i++) xs[from + i] = copy[(int) (packed[i] & mask)];
+        helper.incrementCopies(2 * n);
+        if (!isPerfect()) fixUp(xs, from, packed, indexBits);
+    }
+
+    /**
+     * Method to extract the key of each element of xs[from] .. xs[to-1] and to pack it with the element's index (relative to from).
+     *
+     * @param xs        the array.
+     * @param from      the index of the first element.
+     * @param to        the index of the first element not to be included.
+     * @param indexBits the number of (low-order) bits to be reserved for the index.
+     * @return an array of to-from packed keys.
+     */
+    protected abstract long[] pack(X[] xs, int from, int to, int indexBits);
+
+    /**
+     * Method to determine whether the keys order the elements exactly as does the Helper.
+     * If not (i.e. the keys merely respect that order, as a truncated timestamp would), each run of equal keys is insertion-sorted.
+     *
+     * @return true if equal keys imply equal elements.
+     */
+    protected boolean isPerfect() {
+        return true;
+    }
+
+    /**
+     * Method to pack keys (in place) with their indexes, such that the packed keys are non-negative and are ordered as the keys.
+     *
+     * @param keys      the keys (which are overwritten).
+     * @param indexBits the number of (low-order) bits to be reserved for the index.
+     * @return keys.
+     */
+    protected long[] packKeys(long[] keys, int indexBits) {
+        final int n = keys.length;
+        long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+        for (long key : keys) {
+            if (key < min) min = key;
+            if (key > max) max = key;
+        }
+        // NOTE: max - min may overflow, but it is correct as an unsigned value.
+        if (64 - Long.numberOfLeadingZeros(max - min) + indexBits < 64) {
+            for (int i = 0; i < n; i++) keys[i] = (keys[i] - min) << indexBits | i;
+            return keys;
+        }
+        final long[] distinct = Arrays.copyOf(keys, n);
+        sorter.sort(distinct, 0, n);
+        final int m = removeDuplicates(distinct);
+        for (int i = 0; i < n; i++) keys[i] = (long) Arrays.binarySearch(distinct, 0, m, keys[i]) << indexBits | i;
+        return keys;
+    }
+
+    /**
+     * Method to insertion-sort each run of elements whose keys are equal.
+     */
+    private void fixUp(X[] xs, int from, long[] packed, int indexBits) {
+        final InsertionSort<X> insertionSort = new InsertionSort<>(getHelper());
+        int start = 0;
+        for (int i = 1; i <= packed.length; i++)
+            if (i == packed.length || packed[i] >>> indexBits != packed[start] >>> indexBits) {
+                if (i - start > 1) insertionSort.sort(xs, from + start, from + i);
+                start = i;
+            }
+    }
+
+    /**
+     * Method to remove the duplicates from an ordered array.
+     *
+     * @param xs an ordered array.
+     * @return the number of distinct elements, which now occupy the start of xs.
+     */
+    private static int removeDuplicates(long[] xs) {
+        int m = 1;
+        for (int i = 1; i < xs.length; i++) if (xs[i] != xs[m - 1]) xs[m++] = xs[i];
+        return m;
+    }
+
+    private static int removeDuplicates(String[] xs) {
+        int m = 1;
+        for (int i = 1; i < xs.length; i++) if (!xs[i].equals(xs[m - 1])) xs[m++] = xs[i];
+        return m;
+    }
+
+    /**
+     * KeyedSort whose keys are longs, given by a ToLongFunction.
+     *
+     * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+     */
+    public static class ByLong<X> extends KeyedSort<X> {
+
+        /**
+         * Constructor for ByLong
+         *
+         * @param key     the function which yields the key of an element.
+         * @param perfect true if the order of the keys is exactly the order of the elements;
+         *                false if it is only consistent with it (equal keys are then resolved by the Helper).
+         * @param helper  an explicit instance of Helper to be used.
+         */
+        public ByLong(ToLongFunction<? super X> key, boolean perfect, Helper<X> helper) {
+            super(helper);
+            this.key = key;
+            this.perfect = perfect;
+        }
+
+        public ByLong(ToLongFunction<? super X> key, Helper<X> helper) {
+            this(key, true, helper);
+        }
+
+        /**
+         * Constructor for ByLong
+         *
+         * @param key     the function which yields the key of an element.
+         * @param perfect true if the order of the keys is exactly the order of the elements.
+         * @param N       the number elements we expect to sort.
+         * @param config  the configuration.
+         */
+        public ByLong(ToLongFunction<? super X> key, boolean perfect, int N, Config config) {
+            super(DESCRIPTION, N, config);
+            this.key = key;
+            this.perfect = perfect;
+        }
+
+        @Override
+        protected long[] pack(X[] xs, int from, int to, int indexBits) {
+            final long[] keys = new long[to - from];
+            for (int i = from; i < to; i++) keys[i - from] = key.applyAsLong(xs[i]);
+            return packKeys(keys, indexBits);
+        }
+
+        @Override
+        protected boolean isPerfect() {
+            return perfect;
+        }
+
+        private final ToLongFunction<? super X> key;
+        private final boolean perfect;
+    }
+
+    /**
+     * KeyedSort whose keys are Strings, given by a Function.
+     * The keys are replaced by their ranks, found by sorting a copy of them (with MSDStringSort).
+     *
+     * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+     */
+    public static class ByString<X> extends KeyedSort<X> {
+
+        /**
+         * Constructor for ByString
+         *
+         * @param key    the function which yields the key of an element.
+         * @param helper an explicit instance of Helper to be used.
+         */
+        public ByString(Function<? super X, String> key, Helper<X> helper) {
+            super(helper);
+            this.key = key;
+        }
+
+        /**
+         * Constructor for ByString
+         *
+         * @param key    the function which yields the key of an element.
+         * @param N      the number elements we expect to sort.
+         * @param config the configuration.
+         */
+        public ByString(Function<? super X, String> key, int N, Config config) {
+            super(DESCRIPTION, N, config);
+            this.key = key;
+        }
+
+        @Override
+        protected long[] pack(X[] xs, int from, int to, int indexBits) {
+            final int n = to - from;
+            final String[] keys = new String[n];
+            for (int i = from; i < to; i++) keys[i - from] = key.apply(xs[i]);
+            final String[] distinct = Arrays.copyOf(keys, n);
+            MSDStringSort.sort(distinct);
+            final int m = removeDuplicates(distinct);
+            final long[] result = new long[n];
+            for (int i = 0; i < n; i++) result[i] = (long) Arrays.binarySearch(distinct, 0, m, keys[i]) << indexBits | i;
+            return result;
+        }
+
+        private final Function<? super X, String> key;
+    }
+
+    private final IntSortWithHelper sorter;
+}
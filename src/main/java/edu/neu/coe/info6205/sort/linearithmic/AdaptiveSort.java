@@ -0,0 +1,232 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Sort which takes a small sample of its input to estimate how presorted it is, and then dispatches to whichever
+ * of its registered sorters suits such input best:
+ * <ul>
+ *     <li>INSERTION (insertion sort): the (pessimistically) estimated number of inversions is no more than insertion times n;</li>
+ *     <li>RUNS (natural merge sort): the proportion of sampled triples which change direction (up then down, or down then up)
+ *     is no more than runs (which implies long ascending or descending runs);</li>
+ *     <li>DUPLICATES (3-way quicksort): the proportion of duplicates in the sample is at least duplicates;</li>
+ *     <li>GENERAL (dual-pivot quicksort): otherwise.</li>
+ * </ul>
+ * The thresholds (insertion, runs and duplicates) and the sample size are taken from the [adaptivesort] section of the configuration.
+ * Their default values were calibrated by the adaptivesort benchmark of SortBenchmark.
+ * <p>
+ * The sample costs about 4 * samples compares (plus the sort of samples elements),
+ * all of which go through the Helper, as do those of the sorter which is chosen (they all share the same Helper).
+ * <p>
+ * NOTE: an AdaptiveSort may not be used by two threads at once.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class AdaptiveSort<X> extends SortWithHelper<X> {
+
+    public static final String DESCRIPTION = "Adaptive sort";
+
+    /**
+     * The kinds of input, each of which has its own sorter.
+     */
+    public enum Strategy {INSERTION, RUNS, DUPLICATES, GENERAL}
+
+    /**
+     * Constructor for AdaptiveSort
+     *
+     * @param helper an explicit instance of Helper to be used.
+     */
+    public AdaptiveSort(Helper<X> helper) {
+        super(helper);
+        final Config config = helper.getConfig();
+        samples = config != null ? config.getInt(ADAPTIVESORT, SAMPLES, DEFAULT_SAMPLES) : DEFAULT_SAMPLES;
+        insertion = getDouble(config, INSERTION, DEFAULT_INSERTION);
+        runs = getDouble(config, RUNS, DEFAULT_RUNS);
+        duplicates = getDouble(config, DUPLICATES, DEFAULT_DUPLICATES);
+        register(Strategy.INSERTION, new InsertionSort<>(helper));
+        register(Strategy.RUNS, new NaturalMergeSort<>(helper));
+        register(Strategy.DUPLICATES, new QuickSort_3way<>(helper));
+        register(Strategy.GENERAL, new QuickSort_DualPivot<>(helper));
+    }
+
+    /**
+     * Constructor for AdaptiveSort
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public AdaptiveSort(int N, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, N, config));
+        closeHelper = true;
+    }
+
+    public AdaptiveSort(Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config));
+    }
+
+    /**
+     * Constructor for AdaptiveSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public AdaptiveSort(int N, Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, N, comparator, config));
+        closeHelper = true;
+    }
+
+    public AdaptiveSort(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
+    /**
+     * Register (or replace) the sorter to be used for the given strategy.
+     * The sorter should share the Helper of this AdaptiveSort.
+     *
+     * @param strategy the strategy.
+     * @param sorter   the sorter.
+     */
+    public void register(Strategy strategy, SortWithHelper<X> sorter) {
+        sorters.put(strategy, sorter);
+    }
+
+    public SortWithHelper<X> getSorter(Strategy strategy) {
+        return sorters.get(strategy);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1] using the sorter appropriate to the strategy chosen by sampling it.
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(X[] xs, int from, int to) {
+        if (to - from < 2) return;
+        sorters.get(choose(xs, from, to)).sort(xs, from, to);
+    }
+
+    /**
+     * Choose the strategy for the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     * @return the strategy.
+     */
+    public Strategy choose(X[] xs, int from, int to) {
+        final int n = to - from;
+        if (n < 3 || n <= getHelper().cutoff()) return Strategy.INSERTION;
+        return choose(n, sample(xs, from, to));
+    }
+
+    /**
+     * Choose the strategy for n elements with the given presortedness.
+     *
+     * @param n             the number of elements.
+     * @param presortedness the (estimated) presortedness of the elements.
+     * @return the strategy.
+     */
+    public Strategy choose(int n, Presortedness presortedness) {
+        // NOTE: a sample which has no inversions does not imply that the array has none, so we add one (pessimistically) to the sampled inversions.
+        if ((presortedness.inversionDensity + 1.0 / samples) * (n - 1) / 2 <= insertion) return Strategy.INSERTION;
+        if (presortedness.runRatio <= runs) return Strategy.RUNS;
+        if (presortedness.duplicateRatio >= duplicates) return Strategy.DUPLICATES;
+        return Strategy.GENERAL;
+    }
+
+    /**
+     * Estimate the presortedness of xs[from] .. xs[to-1] (which must have at least three elements) from a sample.
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to sample.
+     * @param to   the index of the first element not to sample.
+     * @return the estimated Presortedness.
+     */
+    public Presortedness sample(X[] xs, int from, int to) {
+        final Helper<X> helper = getHelper();
+        final int n = to - from;
+        final int m = Math.min(samples, n);
+        int changes = 0, inversions = 0;
+        final X[] sample = Arrays.copyOf(xs, m);
+        for (int s = 0; s < m; s++) {
+            // NOTE: a triple of consecutive elements, to detect a change of direction.
+            final int i = from + random.nextInt(n - 2);
+            final int cf1 = helper.compare(xs, i, i + 1);
+            final int cf2 = helper.compare(xs, i + 1, i + 2);
+            if (cf1 < 0 && cf2 > 0 || cf1 > 0 && cf2 < 0) changes++;
+            // NOTE: a random pair, to detect an inversion.
+            final int j = from + random.nextInt(n), k = from + random.nextInt(n);
+            if (j != k && helper.compare(xs, Math.min(j, k), Math.max(j, k)) > 0) inversions++;
+            // NOTE: one element from each of m equal strata, so that no index is sampled twice (which would look like a duplicate).
+            final int lo = (int) ((long) s * n / m), hi = (int) ((long) (s + 1) * n / m);
+            sample[s] = xs[from + lo + random.nextInt(hi - lo)];
+        }
+        Arrays.sort(sample, helper::compare);
+        int distinct = 1;
+        for (int s = 1; s < m; s++) if (helper.compare(sample[s - 1], sample[s]) != 0) distinct++;
+        return new Presortedness((double) changes / m, 1.0 - (double) distinct / m, (double) inversions / m);
+    }
+
+    /**
+     * The (estimated) presortedness of an array.
+     */
+    public static class Presortedness {
+
+        /**
+         * Constructor for Presortedness.
+         *
+         * @param runRatio         the proportion of triples of consecutive elements which change direction (2/3 for random input).
+         * @param duplicateRatio   the proportion of elements which are not distinct (0 if all are distinct).
+         * @param inversionDensity the proportion of pairs of elements which are inverted (1/2 for random input).
+         */
+        public Presortedness(double runRatio, double duplicateRatio, double inversionDensity) {
+            this.runRatio = runRatio;
+            this.duplicateRatio = duplicateRatio;
+            this.inversionDensity = inversionDensity;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("runRatio=%.3f, duplicateRatio=%.3f, inversionDensity=%.3f", runRatio, duplicateRatio, inversionDensity);
+        }
+
+        public final double runRatio;
+        public final double duplicateRatio;
+        public final double inversionDensity;
+    }
+
+    private static double getDouble(Config config, String option, double defaultValue) {
+        final String s = config != null ? config.get(ADAPTIVESORT, option) : null;
+        return s == null || s.isEmpty() ? defaultValue : Double.parseDouble(s);
+    }
+
+    public static final String ADAPTIVESORT = "adaptivesort";
+    public static final String SAMPLES = "samples";
+    public static final String INSERTION = "insertion";
+    public static final String RUNS = "runs";
+    public static final String DUPLICATES = "duplicates";
+
+    private static final int DEFAULT_SAMPLES = 64;
+    private static final double DEFAULT_INSERTION = 4;
+    private static final double DEFAULT_RUNS = 0.1;
+    private static final double DEFAULT_DUPLICATES = 0.01;
+
+    private final Map<Strategy, SortWithHelper<X>> sorters = new EnumMap<>(Strategy.class);
+    private final Random random = new Random(0L);
+    private final int samples;
+    private final double insertion;
+    private final double runs;
+    private final double duplicates;
+}
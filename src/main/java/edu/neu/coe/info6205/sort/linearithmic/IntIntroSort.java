@@ -0,0 +1,180 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.IntHelper;
+import edu.neu.coe.info6205.util.Config;
+
+/**
+ * Introsort of arrays of int, long or double: the counterpart of IntroSort which avoids boxing.
+ */
+public class IntIntroSort extends IntQuickSort_DualPivot {
+
+    /**
+     * Constructor for IntIntroSort
+     *
+     * @param helper an explicit instance of IntHelper to be used.
+     */
+    public IntIntroSort(IntHelper helper) {
+        super(helper);
+    }
+
+    /**
+     * Constructor for IntIntroSort
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public IntIntroSort(int N, Config config) {
+        super(DESCRIPTION, N, config);
+    }
+
+    public IntIntroSort(Config config) {
+        this(new IntHelper(DESCRIPTION, config));
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    @Override
+    public void sort(int[] xs, int from, int to) {
+        depthThreshold = 2 * floor_lg(to - from);
+        super.sort(xs, from, to);
+    }
+
+    @Override
+    public void sort(long[] xs, int from, int to) {
+        depthThreshold = 2 * floor_lg(to - from);
+        super.sort(xs, from, to);
+    }
+
+    @Override
+    public void sort(double[] xs, int from, int to) {
+        depthThreshold = 2 * floor_lg(to - from);
+        super.sort(xs, from, to);
+    }
+
+    /**
+     * Protected method to determine to terminate the recursion of this quick sort:
+     * small sub-arrays are sorted by insertion sort and, once the depth threshold is reached, by heapsort.
+     *
+     * @param xs    the array to be sorted.
+     * @param from  the index of the first element to sort.
+     * @param to    the index of the first element not to sort.
+     * @param depth the current depth of the recursion.
+     * @return true if there is no further work to be done.
+     */
+    @Override
+    protected boolean terminator(int[] xs, int from, int to, int depth) {
+        if (to - from <= sizeThreshold) {
+            if (to > from + 1) getInsertionSort().sort(xs, from, to);
+            return true;
+        }
+        if (depth >= depthThreshold) {
+            heapSort(xs, from, to);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean terminator(long[] xs, int from, int to, int depth) {
+        if (to - from <= sizeThreshold) {
+            if (to > from + 1) getInsertionSort().sort(xs, from, to);
+            return true;
+        }
+        if (depth >= depthThreshold) {
+            heapSort(xs, from, to);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean terminator(double[] xs, int from, int to, int depth) {
+        if (to - from <= sizeThreshold) {
+            if (to > from + 1) getInsertionSort().sort(xs, from, to);
+            return true;
+        }
+        if (depth >= depthThreshold) {
+            heapSort(xs, from, to);
+            return true;
+        }
+        return false;
+    }
+
+    public static final String DESCRIPTION = "Intro sort (primitive)";
+
+    /*
+     * Heapsort algorithm
+     */
+    private void heapSort(int[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        int n = to - from;
+        for (int k = n / 2 - 1; k >= 0; k--) downHeap(xs, from, k, n, helper);
+        for (int m = n - 1; m > 0; m--) {
+            helper.swap(xs, from, from + m);
+            downHeap(xs, from, 0, m, helper);
+        }
+    }
+
+    private void downHeap(int[] xs, int from, int k, int n, IntHelper helper) {
+        while (2 * k + 1 < n) {
+            int child = 2 * k + 1;
+            if (child + 1 < n && helper.less(xs[from + child], xs[from + child + 1])) child++;
+            if (!helper.less(xs[from + k], xs[from + child])) return;
+            helper.swap(xs, from + k, from + child);
+            k = child;
+        }
+    }
+
+    private void heapSort(long[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        int n = to - from;
+        for (int k = n / 2 - 1; k >= 0; k--) downHeap(xs, from, k, n, helper);
+        for (int m = n - 1; m > 0; m--) {
+            helper.swap(xs, from, from + m);
+            downHeap(xs, from, 0, m, helper);
+        }
+    }
+
+    private void downHeap(long[] xs, int from, int k, int n, IntHelper helper) {
+        while (2 * k + 1 < n) {
+            int child = 2 * k + 1;
+            if (child + 1 < n && helper.less(xs[from + child], xs[from + child + 1])) child++;
+            if (!helper.less(xs[from + k], xs[from + child])) return;
+            helper.swap(xs, from + k, from + child);
+            k = child;
+        }
+    }
+
+    private void heapSort(double[] xs, int from, int to) {
+        final IntHelper helper = getHelper();
+        int n = to - from;
+        for (int k = n / 2 - 1; k >= 0; k--) downHeap(xs, from, k, n, helper);
+        for (int m = n - 1; m > 0; m--) {
+            helper.swap(xs, from, from + m);
+            downHeap(xs, from, 0, m, helper);
+        }
+    }
+
+    private void downHeap(double[] xs, int from, int k, int n, IntHelper helper) {
+        while (2 * k + 1 < n) {
+            int child = 2 * k + 1;
+            if (child + 1 < n && helper.less(xs[from + child], xs[from + child + 1])) child++;
+            if (!helper.less(xs[from + k], xs[from + child])) return;
+            helper.swap(xs, from + k, from + child);
+            k = child;
+        }
+    }
+
+    private static int floor_lg(int a) {
+        return 31 - Integer.numberOfLeadingZeros(a);
+    }
+
+    private int depthThreshold = Integer.MAX_VALUE;
+
+    private static final int sizeThreshold = 16;
+}
@@ -0,0 +1,136 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.IntHelper;
+import edu.neu.coe.info6205.sort.IntSortWithHelper;
+import edu.neu.coe.info6205.sort.elementary.IntInsertionSort;
+import edu.neu.coe.info6205.util.Config;
+
+/**
+ * Top-down merge sort of arrays of int, long or double: the counterpart of MergeSort which avoids boxing.
+ * <p>
+ * Sub-arrays no larger than the helper's cutoff are sorted by insertion sort and the merge is skipped
+ * when the two halves are already in order.
+ * The auxiliary array is allocated once for each sort and is only as large as the sub-array being sorted.
+ */
+public class IntMergeSort extends IntSortWithHelper {
+
+    /**
+     * Constructor for IntMergeSort
+     *
+     * @param helper an explicit instance of IntHelper to be used.
+     */
+    public IntMergeSort(IntHelper helper) {
+        super(helper);
+        insertionSort = new IntInsertionSort(helper);
+    }
+
+    /**
+     * Constructor for IntMergeSort
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public IntMergeSort(int N, Config config) {
+        super(DESCRIPTION, N, config);
+        insertionSort = new IntInsertionSort(getHelper());
+    }
+
+    public IntMergeSort(Config config) {
+        this(new IntHelper(DESCRIPTION, config));
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(int[] xs, int from, int to) {
+        if (to - from <= getHelper().cutoff()) insertionSort.sort(xs, from, to);
+        else sort(xs, new int[to - from], from, from, to);
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        if (to - from <= getHelper().cutoff()) insertionSort.sort(xs, from, to);
+        else sort(xs, new long[to - from], from, from, to);
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        if (to - from <= getHelper().cutoff()) insertionSort.sort(xs, from, to);
+        else sort(xs, new double[to - from], from, from, to);
+    }
+
+    public static final String DESCRIPTION = "MergeSort (primitive)";
+
+    /**
+     * Sort xs[from] .. xs[to-1] using the region of aux which corresponds to from..to, where aux[0] corresponds to xs[base].
+     */
+    private void sort(int[] xs, int[] aux, int base, int from, int to) {
+        final IntHelper helper = getHelper();
+        if (to - from <= helper.cutoff()) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        int mid = from + (to - from) / 2;
+        sort(xs, aux, base, from, mid);
+        sort(xs, aux, base, mid, to);
+        // NOTE: if the two halves are already in order, there is nothing to merge.
+        if (!helper.less(xs[mid], xs[mid - 1])) return;
+        System.arraycopy(xs, from, aux, from - base, to - from);
+        helper.incrementCopies(to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++)
+            if (i >= mid) helper.copy(aux, j++ - base, xs, k);
+            else if (j >= to) helper.copy(aux, i++ - base, xs, k);
+            else if (helper.less(aux[j - base], aux[i - base])) helper.copy(aux, j++ - base, xs, k);
+            else helper.copy(aux, i++ - base, xs, k);
+    }
+
+    private void sort(long[] xs, long[] aux, int base, int from, int to) {
+        final IntHelper helper = getHelper();
+        if (to - from <= helper.cutoff()) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        int mid = from + (to - from) / 2;
+        sort(xs, aux, base, from, mid);
+        sort(xs, aux, base, mid, to);
+        // NOTE: if the two halves are already in order, there is nothing to merge.
+        if (!helper.less(xs[mid], xs[mid - 1])) return;
+        System.arraycopy(xs, from, aux, from - base, to - from);
+        helper.incrementCopies(to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++)
+            if (i >= mid) helper.copy(aux, j++ - base, xs, k);
+            else if (j >= to) helper.copy(aux, i++ - base, xs, k);
+            else if (helper.less(aux[j - base], aux[i - base])) helper.copy(aux, j++ - base, xs, k);
+            else helper.copy(aux, i++ - base, xs, k);
+    }
+
+    private void sort(double[] xs, double[] aux, int base, int from, int to) {
+        final IntHelper helper = getHelper();
+        if (to - from <= helper.cutoff()) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        int mid = from + (to - from) / 2;
+        sort(xs, aux, base, from, mid);
+        sort(xs, aux, base, mid, to);
+        // NOTE: if the two halves are already in order, there is nothing to merge.
+        if (!helper.less(xs[mid], xs[mid - 1])) return;
+        System.arraycopy(xs, from, aux, from - base, to - from);
+        helper.incrementCopies(to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++)
+            if (i >= mid) helper.copy(aux, j++ - base, xs, k);
+            else if (j >= to) helper.copy(aux, i++ - base, xs, k);
+            else if (helper.less(aux[j - base], aux[i - base])) helper.copy(aux, j++ - base, xs, k);
+            else helper.copy(aux, i++ - base, xs, k);
+    }
+
+    private final IntInsertionSort insertionSort;
+}
@@ -0,0 +1,262 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.IntHelper;
+import edu.neu.coe.info6205.sort.IntSortWithHelper;
+import edu.neu.coe.info6205.sort.elementary.IntInsertionSort;
+import edu.neu.coe.info6205.util.Config;
+
+/**
+ * Dual-pivot quicksort of arrays of int, long or double: the counterpart of QuickSort_DualPivot which avoids boxing.
+ * <p>
+ * The partitioning is done in place, rather than by a Partitioner, so that no Partition objects are created.
+ * <p>
+ * The pivots are the tertiles (the second and fourth) of a sample of five evenly spaced elements,
+ * so that sorted, reverse-sorted and similar input is divided evenly rather than degrading to quadratic time
+ * (as it would if the pivots were simply xs[lo] and xs[hi]).
+ */
+public class IntQuickSort_DualPivot extends IntSortWithHelper {
+
+    public static final String DESCRIPTION = "QuickSort dual pivot (primitive)";
+
+    /**
+     * Constructor for IntQuickSort_DualPivot
+     *
+     * @param helper an explicit instance of IntHelper to be used.
+     */
+    public IntQuickSort_DualPivot(IntHelper helper) {
+        super(helper);
+        insertionSort = new IntInsertionSort(helper);
+    }
+
+    /**
+     * Constructor for IntQuickSort_DualPivot
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public IntQuickSort_DualPivot(int N, Config config) {
+        this(DESCRIPTION, N, config);
+    }
+
+    public IntQuickSort_DualPivot(Config config) {
+        this(new IntHelper(DESCRIPTION, config));
+    }
+
+    /**
+     * Constructor for any sub-classes to use.
+     *
+     * @param description the description.
+     * @param N           the number of elements expected.
+     * @param config      the configuration.
+     */
+    protected IntQuickSort_DualPivot(String description, int N, Config config) {
+        super(description, N, config);
+        insertionSort = new IntInsertionSort(getHelper());
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(int[] xs, int from, int to) {
+        sort(xs, from, to, 0);
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        sort(xs, from, to, 0);
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        sort(xs, from, to, 0);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1]
+     *
+     * @param xs    the array to be sorted.
+     * @param from  the index of the first element to sort.
+     * @param to    the index of the first element not to sort.
+     * @param depth the depth of the recursion.
+     */
+    public void sort(int[] xs, int from, int to, int depth) {
+        if (terminator(xs, from, to, depth)) return;
+        final IntHelper helper = getHelper();
+        helper.registerDepth(depth);
+        final int lo = from;
+        final int hi = to - 1;
+        choosePivots(xs, lo, hi);
+        helper.swapConditional(xs, lo, hi);
+        final int p = xs[lo];
+        final int q = xs[hi];
+        int lt = lo + 1;
+        int gt = hi - 1;
+        int i = lt;
+        while (i <= gt) {
+            int x = xs[i];
+            if (helper.less(x, p)) helper.swap(xs, lt++, i++);
+            else if (helper.less(q, x)) helper.swap(xs, i, gt--);
+            else i++;
+        }
+        helper.swap(xs, lo, --lt);
+        helper.swap(xs, hi, ++gt);
+        sort(xs, lo, lt, depth + 1);
+        // NOTE: if the pivots are equal, then so are all the elements between them.
+        if (helper.less(p, q)) sort(xs, lt + 1, gt, depth + 1);
+        sort(xs, gt + 1, hi + 1, depth + 1);
+    }
+
+    public void sort(long[] xs, int from, int to, int depth) {
+        if (terminator(xs, from, to, depth)) return;
+        final IntHelper helper = getHelper();
+        helper.registerDepth(depth);
+        final int lo = from;
+        final int hi = to - 1;
+        choosePivots(xs, lo, hi);
+        helper.swapConditional(xs, lo, hi);
+        final long p = xs[lo];
+        final long q = xs[hi];
+        int lt = lo + 1;
+        int gt = hi - 1;
+        int i = lt;
+        while (i <= gt) {
+            long x = xs[i];
+            if (helper.less(x, p)) helper.swap(xs, lt++, i++);
+            else if (helper.less(q, x)) helper.swap(xs, i, gt--);
+            else i++;
+        }
+        helper.swap(xs, lo, --lt);
+        helper.swap(xs, hi, ++gt);
+        sort(xs, lo, lt, depth + 1);
+        // NOTE: if the pivots are equal, then so are all the elements between them.
+        if (helper.less(p, q)) sort(xs, lt + 1, gt, depth + 1);
+        sort(xs, gt + 1, hi + 1, depth + 1);
+    }
+
+    public void sort(double[] xs, int from, int to, int depth) {
+        if (terminator(xs, from, to, depth)) return;
+        final IntHelper helper = getHelper();
+        helper.registerDepth(depth);
+        final int lo = from;
+        final int hi = to - 1;
+        choosePivots(xs, lo, hi);
+        helper.swapConditional(xs, lo, hi);
+        final double p = xs[lo];
+        final double q = xs[hi];
+        int lt = lo + 1;
+        int gt = hi - 1;
+        int i = lt;
+        while (i <= gt) {
+            double x = xs[i];
+            if (helper.less(x, p)) helper.swap(xs, lt++, i++);
+            else if (helper.less(q, x)) helper.swap(xs, i, gt--);
+            else i++;
+        }
+        helper.swap(xs, lo, --lt);
+        helper.swap(xs, hi, ++gt);
+        sort(xs, lo, lt, depth + 1);
+        // NOTE: if the pivots are equal, then so are all the elements between them.
+        if (helper.less(p, q)) sort(xs, lt + 1, gt, depth + 1);
+        sort(xs, gt + 1, hi + 1, depth + 1);
+    }
+
+    /**
+     * Protected method to determine to terminate the recursion of this quick sort.
+     * NOTE that in this implementation, the depth is ignored.
+     *
+     * @param xs    the array to be sorted.
+     * @param from  the index of the first element to sort.
+     * @param to    the index of the first element not to sort.
+     * @param depth the current depth of the recursion.
+     * @return true if there is no further work to be done.
+     */
+    protected boolean terminator(int[] xs, int from, int to, int depth) {
+        if (to <= from + getHelper().cutoff()) {
+            insertionSort.sort(xs, from, to);
+            return true;
+        }
+        return false;
+    }
+
+    protected boolean terminator(long[] xs, int from, int to, int depth) {
+        if (to <= from + getHelper().cutoff()) {
+            insertionSort.sort(xs, from, to);
+            return true;
+        }
+        return false;
+    }
+
+    protected boolean terminator(double[] xs, int from, int to, int depth) {
+        if (to <= from + getHelper().cutoff()) {
+            insertionSort.sort(xs, from, to);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Move the second and fourth of five evenly spaced elements (once they have been sorted) to xs[lo] and xs[hi]
+     * where they will serve as the pivots.
+     * Sub-arrays of fewer than SAMPLE_MIN elements keep xs[lo] and xs[hi] as their pivots.
+     *
+     * @param xs the array.
+     * @param lo the index of the first element.
+     * @param hi the index of the last element.
+     */
+    private void choosePivots(int[] xs, int lo, int hi) {
+        final int[] e = samples(lo, hi);
+        if (e == null) return;
+        final IntHelper helper = getHelper();
+        for (int[] pair : NETWORK5) helper.swapConditional(xs, e[pair[0]], e[pair[1]]);
+        helper.swap(xs, lo, e[1]);
+        helper.swap(xs, hi, e[3]);
+    }
+
+    private void choosePivots(long[] xs, int lo, int hi) {
+        final int[] e = samples(lo, hi);
+        if (e == null) return;
+        final IntHelper helper = getHelper();
+        for (int[] pair : NETWORK5) helper.swapConditional(xs, e[pair[0]], e[pair[1]]);
+        helper.swap(xs, lo, e[1]);
+        helper.swap(xs, hi, e[3]);
+    }
+
+    private void choosePivots(double[] xs, int lo, int hi) {
+        final int[] e = samples(lo, hi);
+        if (e == null) return;
+        final IntHelper helper = getHelper();
+        for (int[] pair : NETWORK5) helper.swapConditional(xs, e[pair[0]], e[pair[1]]);
+        helper.swap(xs, lo, e[1]);
+        helper.swap(xs, hi, e[3]);
+    }
+
+    /**
+     * Get the indices of five evenly spaced elements strictly between lo and hi, in ascending order.
+     *
+     * @param lo the index of the first element.
+     * @param hi the index of the last element.
+     * @return the five indices, or null if the sub-array has fewer than SAMPLE_MIN elements.
+     */
+    private static int[] samples(int lo, int hi) {
+        final int n = hi - lo + 1;
+        if (n < SAMPLE_MIN) return null;
+        final int step = n / 7;
+        final int mid = lo + n / 2;
+        return new int[]{mid - 2 * step, mid - step, mid, mid + step, mid + 2 * step};
+    }
+
+    public IntInsertionSort getInsertionSort() {
+        return insertionSort;
+    }
+
+    /**
+     * An optimal sorting network (of nine comparators) for five elements.
+     */
+    private static final int[][] NETWORK5 = {{0, 1}, {3, 4}, {2, 4}, {2, 3}, {0, 3}, {0, 2}, {1, 4}, {1, 3}, {1, 2}};
+
+    private static final int SAMPLE_MIN = 16;
+
+    private final IntInsertionSort insertionSort;
+}
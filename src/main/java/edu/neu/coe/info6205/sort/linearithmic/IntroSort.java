@@ -8,8 +8,25 @@ import edu.neu.coe.info6205.sort.Helper;
 import edu.neu.coe.info6205.util.Config;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class IntroSort<X extends Comparable<X>> extends QuickSort_DualPivot<X> {
+/**
+ * Class to implement introspective sort: dual-pivot quicksort which resorts to heap sort when the recursion becomes too deep
+ * (and to insertion sort for small partitions).
+ * <p>
+ * The partitions are sorted without allocating any Partition objects (see QuickSort.sort(xs, from, to, depth, partitioner, bounds, stack)).
+ * <p>
+ * If parallel is set in [introsort], each partition larger than threshold is sorted by its own fork/join task
+ * (on the common pool); smaller partitions are sorted sequentially.
+ * The depth of the recursion is tracked for each task and the maximum is registered with the Helper once the sort is complete.
+ * NOTE that the Helper is shared by all of the threads, so an InstrumentedHelper will not give reliable counts in parallel mode.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class IntroSort<X> extends QuickSort_DualPivot<X> {
 
     /**
      * Constructor for QuickSort_3way
@@ -18,6 +35,9 @@ public class IntroSort<X extends Comparable<X>> extends QuickSort_DualPivot<X> {
      */
     public IntroSort(Helper<X> helper) {
         super(helper);
+        final Config config = helper.getConfig();
+        parallel = config != null && config.getBoolean(INTROSORT, PARALLEL, false);
+        threshold = getThreshold(config);
     }
 
     /**
@@ -27,7 +47,20 @@ public class IntroSort<X extends Comparable<X>> extends QuickSort_DualPivot<X> {
      * @param config the configuration.
      */
     public IntroSort(int N, Config config) {
-        super(DESCRIPTION, N, config);
+        this(DESCRIPTION, N, config);
+    }
+
+    /**
+     * Constructor for IntroSort
+     *
+     * @param description the description.
+     * @param N           the number elements we expect to sort.
+     * @param config      the configuration.
+     */
+    public IntroSort(String description, int N, Config config) {
+        super(description, N, config);
+        parallel = config.getBoolean(INTROSORT, PARALLEL, false);
+        threshold = getThreshold(config);
     }
 
     /**
@@ -40,13 +73,56 @@ public class IntroSort<X extends Comparable<X>> extends QuickSort_DualPivot<X> {
      * @param config the configuration for this sorter.
      */
     public IntroSort(int N, long seed, Config config) {
-        super(DESCRIPTION, N, config);
+        this(DESCRIPTION, N, config);
     }
 
     public IntroSort(Config config) {
         this(new BaseHelper<>(DESCRIPTION, config));
     }
 
+    /**
+     * Constructor for QuickSort_3way
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public IntroSort(int N, Comparator<X> comparator, Config config) {
+        this(DESCRIPTION, N, comparator, config);
+    }
+
+    /**
+     * Constructor for IntroSort
+     *
+     * @param description the description.
+     * @param N           the number elements we expect to sort.
+     * @param comparator  the Comparator which defines the order of the elements.
+     * @param config      the configuration.
+     */
+    public IntroSort(String description, int N, Comparator<X> comparator, Config config) {
+        super(description, N, comparator, config);
+        parallel = config.getBoolean(INTROSORT, PARALLEL, false);
+        threshold = getThreshold(config);
+    }
+
+    /**
+     * Constructor for QuickSort_3way which always uses an instrumented helper with a specific seed.
+     * <p>
+     * NOTE used by unit tests.
+     *
+     * @param N          the number of elements to be sorted.
+     * @param seed       the seed for the random number generator.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration for this sorter.
+     */
+    public IntroSort(int N, long seed, Comparator<X> comparator, Config config) {
+        this(DESCRIPTION, N, comparator, config);
+    }
+
+    public IntroSort(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
     @Override
     public X[] sort(X[] xs, boolean makeCopy) {
         getHelper().init(xs.length);
@@ -67,6 +143,32 @@ public class IntroSort<X extends Comparable<X>> extends QuickSort_DualPivot<X> {
         sort(xs, from, to, 2 * floor_lg(to - from));
     }
 
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1], in parallel if so configured (and the sub-array is larger than threshold).
+     *
+     * @param xs    the complete array from which this sub-array derives.
+     * @param from  the index of the first element to sort.
+     * @param to    the index of the first element not to sort.
+     * @param depth the depth of the recursion.
+     */
+    @Override
+    public void sort(X[] xs, int from, int to, int depth) {
+        if (partitioner == null) throw new RuntimeException("partitioner not set");
+        if (parallel && to - from > threshold) {
+            final AtomicInteger maxDepth = new AtomicInteger(depth);
+            ForkJoinPool.commonPool().invoke(new IntroSortTask(xs, from, to, depth, ThreadLocal.withInitial(this::createPartitioner), maxDepth));
+            getHelper().registerDepth(maxDepth.get());
+        } else super.sort(xs, from, to, depth);
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
     /**
      * Protected method to determine to terminate the recursion of this quick sort.
      * NOTE that in this implementation, the depth is ignored.
@@ -93,42 +195,52 @@ public class IntroSort<X extends Comparable<X>> extends QuickSort_DualPivot<X> {
         return false;
     }
 
-    public static final String DESCRIPTION = "Intro sort";
-
-    /*
-     * Heapsort algorithm
+    /**
+     * Fork/join task which sorts xs[from] .. xs[to-1], forking a task for each partition larger than threshold.
      */
-    private void heapSort(X[] a, int from, int to) {
-        Helper<X> helper = getHelper();
-        int n = to - from;
-        for (int i = n / 2; i >= 1; i = i - 1) {
-            downHeap(a, i, n, from, helper);
-        }
-        for (int i = n; i > 1; i = i - 1) {
-            helper.swap(a, from, from + i - 1);
-            downHeap(a, 1, i - 1, from, helper);
+    class IntroSortTask extends RecursiveAction {
+
+        IntroSortTask(X[] xs, int from, int to, int depth, ThreadLocal<Partitioner<X>> partitioners, AtomicInteger maxDepth) {
+            this.xs = xs;
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+            this.partitioners = partitioners;
+            this.maxDepth = maxDepth;
         }
-    }
 
-    private void downHeap(X[] a, int i, int n, int lo, Helper<X> helper) {
-        X d = a[lo + i - 1];
-        int child;
-        while (i <= n / 2) {
-            child = 2 * i;
-            if (helper.instrumented()) {
-                if (child < n && helper.compare(a, lo + child - 1, lo + child) < 0) child++;
-                if (helper.compare(d, a[lo + child - 1]) >= 0) break;
-            } else {
-                if (child < n && a[lo + child - 1].compareTo(a[lo + child]) < 0) child++;
-                if (d.compareTo(a[lo + child - 1]) >= 0) break;
+        @Override
+        protected void compute() {
+            // NOTE: each thread has its own partitioner because a block partitioner keeps a buffer.
+            final Partitioner<X> partitioner = partitioners.get();
+            final int[] bounds = new int[2 * MAX_PARTITIONS];
+            if (to - from <= threshold) {
+                final int d = sort(xs, from, to, depth, partitioner, bounds, new int[STACK_SIZE]);
+                maxDepth.accumulateAndGet(d, Math::max);
+            } else if (!terminator(xs, from, to, depth)) {
+                partitioner.partition(xs, from, to, bounds);
+                maxDepth.accumulateAndGet(depth, Math::max);
+                // NOTE: the (dual-pivot) partitioner always yields three partitions.
+                invokeAll(new IntroSortTask(xs, bounds[0], bounds[1], depth + 1, partitioners, maxDepth),
+                        new IntroSortTask(xs, bounds[2], bounds[3], depth + 1, partitioners, maxDepth),
+                        new IntroSortTask(xs, bounds[4], bounds[5], depth + 1, partitioners, maxDepth));
             }
-            helper.incrementFixes(1);
-            a[lo + i - 1] = a[lo + child - 1];
-            i = child;
         }
-        a[lo + i - 1] = d;
+
+        private final X[] xs;
+        private final int from;
+        private final int to;
+        private final int depth;
+        private final ThreadLocal<Partitioner<X>> partitioners;
+        private final AtomicInteger maxDepth;
     }
 
+    public static final String DESCRIPTION = "Intro sort";
+
+    public static final String INTROSORT = "introsort";
+    public static final String PARALLEL = "parallel";
+    public static final String THRESHOLD = "threshold";
+
     /**
      * exchange a[i] and a[j]
      *
@@ -146,6 +258,15 @@ public class IntroSort<X extends Comparable<X>> extends QuickSort_DualPivot<X> {
         return (int) (Math.floor(Math.log(a) / Math.log(2)));
     }
 
+    private static int getThreshold(Config config) {
+        return config != null ? config.getInt(INTROSORT, THRESHOLD, DEFAULT_THRESHOLD) : DEFAULT_THRESHOLD;
+    }
+
+    private static final int DEFAULT_THRESHOLD = 8192;
+
+    private final boolean parallel;
+    private final int threshold;
+
     private int depthThreshold = Integer.MAX_VALUE;
 
     private static final int sizeThreshold = 16;
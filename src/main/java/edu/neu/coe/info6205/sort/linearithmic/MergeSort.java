@@ -1,13 +1,34 @@
 package edu.neu.coe.info6205.sort.linearithmic;
 
 import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortException;
 import edu.neu.coe.info6205.sort.SortWithHelper;
 import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.sort.elementary.SortingNetwork;
 import edu.neu.coe.info6205.util.Config;
 
+import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.Comparator;
 
-public class MergeSort<X extends Comparable<X>> extends SortWithHelper<X> {
+/**
+ * Merge sort, with the following options (from the [mergesort] section of the configuration, read once at construction):
+ * <ul>
+ *     <li>insurance: skip the merge if the two halves are already in order;</li>
+ *     <li>nocopy: avoid copying into the auxiliary array before each merge by exchanging the roles of the array and the
+ *     auxiliary array at each level (so that each merge is from one into the other);</li>
+ *     <li>bottomup: instead of recursing, merge runs of width cutoff, 2*cutoff, 4*cutoff, etc. in successive passes.</li>
+ * </ul>
+ * The auxiliary array is allocated once for each sort and is only as large as the sub-array being sorted.
+ * <p>
+ * NOTE: the bulk copies (System.arraycopy) are not counted as copies by an instrumented helper: only those of the merges are.
+ * <p>
+ * NOTE: merge sort is stable, so the smallsort option must be insertion or binaryinsertion:
+ * a sorting network (network) is rejected (with a SortException) because it would not be stable.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class MergeSort<X> extends SortWithHelper<X> {
 
     public static final String DESCRIPTION = "MergeSort";
 
@@ -20,7 +41,11 @@ public class MergeSort<X extends Comparable<X>> extends SortWithHelper<X> {
      */
     public MergeSort(Helper<X> helper) {
         super(helper);
-        insertionSort = new InsertionSort<>(helper);
+        insertionSort = createSmallSort(helper);
+        final Config config = helper.getConfig();
+        insurance = config.getBoolean(MERGESORT, INSURANCE);
+        noCopy = config.getBoolean(MERGESORT, NOCOPY);
+        bottomUp = config.getBoolean(MERGESORT, BOTTOMUP);
     }
 
     /**
@@ -31,7 +56,25 @@ public class MergeSort<X extends Comparable<X>> extends SortWithHelper<X> {
      */
     public MergeSort(int N, Config config) {
         super(DESCRIPTION + ":" + getConfigString(config), N, config);
-        insertionSort = new InsertionSort<>(getHelper());
+        insertionSort = createSmallSort(getHelper());
+        insurance = config.getBoolean(MERGESORT, INSURANCE);
+        noCopy = config.getBoolean(MERGESORT, NOCOPY);
+        bottomUp = config.getBoolean(MERGESORT, BOTTOMUP);
+    }
+
+    /**
+     * Constructor for MergeSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public MergeSort(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION + ":" + getConfigString(config), N, comparator, config);
+        insertionSort = createSmallSort(getHelper());
+        insurance = config.getBoolean(MERGESORT, INSURANCE);
+        noCopy = config.getBoolean(MERGESORT, NOCOPY);
+        bottomUp = config.getBoolean(MERGESORT, BOTTOMUP);
     }
 
     @Override
@@ -42,37 +85,102 @@ public class MergeSort<X extends Comparable<X>> extends SortWithHelper<X> {
         return result;
     }
 
+    /**
+     * Sort the sub-array a[from] .. a[to-1].
+     * <p>
+     * In the private methods which follow, index k (from 0 thru n-1) refers to a[k + aOffset] and aux[k + auxOffset].
+     *
+     * @param a    the complete array from which this sub-array derives.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
     @Override
     public void sort(X[] a, int from, int to) {
-        // TODO don't copy but just allocate according to the xs/aux interchange optimization
-        X[] aux = Arrays.copyOf(a, a.length);
-        sort(a, aux, from, to);
+        final int n = to - from;
+        if (n <= getHelper().cutoff()) {
+            insertionSort.sort(a, from, to);
+            return;
+        }
+        // NOTE: for the no-copy option, aux must start out with the same elements as a.
+        @SuppressWarnings("unchecked") final X[] aux = noCopy ? Arrays.copyOfRange(a, from, to) : (X[]) Array.newInstance(a.getClass().getComponentType(), n);
+        if (bottomUp) sortBottomUp(a, from, aux, 0, n);
+        else sort(a, from, aux, 0, 0, n);
     }
 
-    private void sort(X[] a, X[] aux, int lo, int hi) {
+    /**
+     * Recursive (top-down) merge sort of elements lo thru hi-1 such that they end up in a.
+     */
+    private void sort(X[] a, int aOffset, X[] aux, int auxOffset, int lo, int hi) {
         final Helper<X> helper = getHelper();
-        Config config = helper.getConfig();
-        boolean insurance = config.getBoolean(MERGESORT, INSURANCE);
-        boolean noCopy = config.getBoolean(MERGESORT, NOCOPY);
         if (hi <= lo + helper.cutoff()) {
-            insertionSort.sort(a, lo, hi);
+            insertionSort.sort(a, lo + aOffset, hi + aOffset);
             return;
         }
+        int mid = lo + (hi - lo) / 2;
+        if (noCopy) {
+            // NOTE: sort each half into aux, then merge them into a.
+            sort(aux, auxOffset, a, aOffset, lo, mid);
+            sort(aux, auxOffset, a, aOffset, mid, hi);
+            if (insurance && !helper.less(aux[mid + auxOffset], aux[mid - 1 + auxOffset]))
+                System.arraycopy(aux, lo + auxOffset, a, lo + aOffset, hi - lo);
+            else merge(aux, auxOffset, a, aOffset, lo, mid, hi);
+        } else {
+            sort(a, aOffset, aux, auxOffset, lo, mid);
+            sort(a, aOffset, aux, auxOffset, mid, hi);
+            if (insurance && !helper.less(a[mid + aOffset], a[mid - 1 + aOffset])) return;
+            System.arraycopy(a, lo + aOffset, aux, lo + auxOffset, hi - lo);
+            merge(aux, auxOffset, a, aOffset, lo, mid, hi);
+        }
+    }
 
-        // FIXME : implement merge sort with insurance and no-copy optimizations
-        // END 
+    /**
+     * Iterative (bottom-up) merge sort of elements 0 thru n-1 such that they end up in a.
+     * Runs of cutoff elements are first sorted by insertion sort and then each pass merges pairs of adjacent runs.
+     */
+    private void sortBottomUp(X[] a, int aOffset, X[] aux, int auxOffset, int n) {
+        final Helper<X> helper = getHelper();
+        final int width = helper.cutoff();
+        for (int lo = 0; lo < n; lo += width) insertionSort.sort(a, lo + aOffset, Math.min(lo + width, n) + aOffset);
+        // NOTE: for the no-copy option, each pass merges from src into dst, and then the two exchange roles.
+        X[] src = a, dst = aux;
+        int srcOffset = aOffset, dstOffset = auxOffset;
+        for (int w = width; w < n; w += w) {
+            for (int lo = 0; lo < n; lo += w + w) {
+                final int mid = Math.min(lo + w, n);
+                final int hi = Math.min(lo + w + w, n);
+                final boolean ordered = mid == hi || insurance && !helper.less(src[mid + srcOffset], src[mid - 1 + srcOffset]);
+                if (noCopy) {
+                    if (ordered) System.arraycopy(src, lo + srcOffset, dst, lo + dstOffset, hi - lo);
+                    else merge(src, srcOffset, dst, dstOffset, lo, mid, hi);
+                } else if (!ordered) {
+                    System.arraycopy(a, lo + aOffset, aux, lo + auxOffset, hi - lo);
+                    merge(aux, auxOffset, a, aOffset, lo, mid, hi);
+                }
+            }
+            if (noCopy) {
+                final X[] xs = src;
+                src = dst;
+                dst = xs;
+                final int offset = srcOffset;
+                srcOffset = dstOffset;
+                dstOffset = offset;
+            }
+        }
+        if (src != a) System.arraycopy(src, srcOffset, a, aOffset, n);
     }
 
     // TODO combine with MergeSortBasic perhaps.
-    private void merge(X[] from, X[] to, int lo, int mid, int hi) {
+    private void merge(X[] from, int fromOffset, X[] to, int toOffset, int lo, int mid, int hi) {
         final Helper<X> helper = getHelper();
-        int i = lo;
-        int j = mid;
-        for (int k = lo; k < hi; k++)
-            if (i >= mid) helper.copy(from, j++, to, k);
-            else if (j >= hi) helper.copy(from, i++, to, k);
+        int i = lo + fromOffset;
+        int j = mid + fromOffset;
+        final int m = mid + fromOffset;
+        final int h = hi + fromOffset;
+        for (int k = lo + toOffset; k < hi + toOffset; k++)
+            if (i >= m) helper.copy(from, j++, to, k);
+            else if (j >= h) helper.copy(from, i++, to, k);
             else if (helper.less(from[j], from[i])) {
-                helper.incrementFixes(mid - i);
+                helper.incrementFixes(m - i);
                 helper.copy(from, j++, to, k);
             } else helper.copy(from, i++, to, k);
     }
@@ -80,14 +188,26 @@ public class MergeSort<X extends Comparable<X>> extends SortWithHelper<X> {
     public static final String MERGESORT = "mergesort";
     public static final String NOCOPY = "nocopy";
     public static final String INSURANCE = "insurance";
+    public static final String BOTTOMUP = "bottomup";
 
     private static String getConfigString(Config config) {
         StringBuilder stringBuilder = new StringBuilder();
         if (config.getBoolean(MERGESORT, INSURANCE)) stringBuilder.append(" with insurance comparison");
         if (config.getBoolean(MERGESORT, NOCOPY)) stringBuilder.append(" with no copy");
+        if (config.getBoolean(MERGESORT, BOTTOMUP)) stringBuilder.append(" bottom-up");
         return stringBuilder.toString();
     }
 
     private final InsertionSort<X> insertionSort;
+
+    private static <Y> InsertionSort<Y> createSmallSort(Helper<Y> helper) {
+        final InsertionSort<Y> result = InsertionSort.create(helper, MERGESORT);
+        if (result instanceof SortingNetwork)
+            throw new SortException("MergeSort: " + InsertionSort.SMALLSORT + " = " + InsertionSort.NETWORK + " is not stable");
+        return result;
+    }
+    private final boolean insurance;
+    private final boolean noCopy;
+    private final boolean bottomUp;
 }
 
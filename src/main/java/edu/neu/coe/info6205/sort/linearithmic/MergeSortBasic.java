@@ -6,8 +6,9 @@ import edu.neu.coe.info6205.sort.elementary.InsertionSort;
 import edu.neu.coe.info6205.util.Config;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
-public class MergeSortBasic<X extends Comparable<X>> extends SortWithHelper<X> {
+public class MergeSortBasic<X> extends SortWithHelper<X> {
 
     public static final String DESCRIPTION = "MergeSort";
 
@@ -34,6 +35,18 @@ public class MergeSortBasic<X extends Comparable<X>> extends SortWithHelper<X> {
         insertionSort = new InsertionSort<>(getHelper());
     }
 
+    /**
+     * Constructor for MergeSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public MergeSortBasic(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION + ":" + getConfigString(config), N, comparator, config);
+        insertionSort = new InsertionSort<>(getHelper());
+    }
+
     private static String getConfigString(Config config) {
         StringBuilder stringBuilder = new StringBuilder();
         if (config.getBoolean("mergesort", "insurance")) stringBuilder.append(" with insurance comparison");
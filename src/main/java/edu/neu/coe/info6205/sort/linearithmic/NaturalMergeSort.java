@@ -0,0 +1,488 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+
+/**
+ * Natural (run-adaptive) merge sort, after Tim Peters' Timsort (as in java.util.TimSort),
+ * but such that every compare, swap and copy goes through the Helper (unlike TimSort, which delegates to Arrays.sort).
+ * <p>
+ * The array is divided into runs: each run is an ascending (or strictly descending, which is then reversed) sequence,
+ * extended by binary insertion sort to at least minRun elements.
+ * The runs are pushed on to a stack and merged so that the lengths on the stack remain (roughly) Fibonacci-like,
+ * which keeps the merges balanced.
+ * While merging, whenever one run has "won" minGallop times in a row, we gallop (exponential then binary search)
+ * to find how many elements can be copied as a block.
+ * <p>
+ * So, input which is already sorted (or reverse-sorted) costs only n-1 compares,
+ * and input which consists of a few sorted runs costs little more than the merges of those runs.
+ * <p>
+ * NOTE: the bulk copies (System.arraycopy) are counted as copies by an instrumented helper, as are the fixes implied
+ * by each element of the second run which is placed before elements of the first run.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class NaturalMergeSort<X> extends SortWithHelper<X> {
+
+    public static final String DESCRIPTION = "Natural merge sort";
+
+    /**
+     * Constructor for NaturalMergeSort
+     *
+     * @param helper an explicit instance of Helper to be used.
+     */
+    public NaturalMergeSort(Helper<X> helper) {
+        super(helper);
+    }
+
+    /**
+     * Constructor for NaturalMergeSort
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public NaturalMergeSort(int N, Config config) {
+        super(DESCRIPTION, N, config);
+    }
+
+    public NaturalMergeSort(Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config));
+    }
+
+    /**
+     * Constructor for NaturalMergeSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public NaturalMergeSort(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+    }
+
+    public NaturalMergeSort(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(X[] xs, int from, int to) {
+        int n = to - from;
+        if (n < 2) return;
+        if (n < MIN_MERGE) {
+            binarySort(xs, from, to, from + countRunAndMakeAscending(xs, from, to));
+            return;
+        }
+        final Merger merger = new Merger(xs);
+        final int minRun = minRunLength(n);
+        int lo = from;
+        do {
+            int runLength = countRunAndMakeAscending(xs, lo, to);
+            if (runLength < minRun) {
+                final int force = Math.min(n, minRun);
+                binarySort(xs, lo, lo + force, lo + runLength);
+                runLength = force;
+            }
+            merger.pushRun(lo, runLength);
+            merger.mergeCollapse();
+            lo += runLength;
+            n -= runLength;
+        } while (n != 0);
+        merger.mergeForceCollapse();
+    }
+
+    /**
+     * Method to find the length of the run which begins at xs[lo] and, if it is (strictly) descending, to reverse it.
+     * A strictly descending run is required so that reversing it does not upset stability.
+     *
+     * @return the length of the run (which is now ascending).
+     */
+    private int countRunAndMakeAscending(X[] xs, int lo, int hi) {
+        final Helper<X> helper = getHelper();
+        int runHi = lo + 1;
+        if (runHi == hi) return 1;
+        if (helper.less(xs[runHi++], xs[lo])) {
+            while (runHi < hi && helper.less(xs[runHi], xs[runHi - 1])) runHi++;
+            for (int i = lo, j = runHi - 1; i < j; i++, j--) helper.swap(xs, i, j);
+        } else
+            while (runHi < hi && !helper.less(xs[runHi], xs[runHi - 1])) runHi++;
+        return runHi - lo;
+    }
+
+    /**
+     * Binary insertion sort of xs[lo] .. xs[hi-1], given that xs[lo] .. xs[start-1] is already sorted.
+     */
+    private void binarySort(X[] xs, int lo, int hi, int start) {
+        final Helper<X> helper = getHelper();
+        if (start == lo) start++;
+        for (; start < hi; start++) {
+            final X pivot = xs[start];
+            int left = lo;
+            int right = start;
+            // NOTE: find the place after any elements equal to pivot (for stability).
+            while (left < right) {
+                final int mid = (left + right) >>> 1;
+                if (helper.less(pivot, xs[mid])) right = mid;
+                else left = mid + 1;
+            }
+            helper.swapInto(xs, left, start);
+        }
+    }
+
+    /**
+     * Method to find how far the length of a run should be extended: a value k between MIN_MERGE/2 and MIN_MERGE,
+     * such that n/k is close to, but no more than, a power of two.
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Class to maintain the stack of pending runs (and the temporary storage for merging them) for one sort.
+     */
+    private class Merger {
+
+        Merger(X[] xs) {
+            this.xs = xs;
+        }
+
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Merge runs until the lengths of the runs on the stack satisfy these invariants
+         * (where X, Y, Z are the lengths of the top three runs):
+         * <ol>
+         *     <li>Z &gt; Y + X (and similarly for the runs below);</li>
+         *     <li>Y &gt; X.</li>
+         * </ol>
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1] || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) n--;
+                } else if (runLength[n] > runLength[n + 1]) break;
+                mergeAt(n);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merge the two runs at stack indices i and i+1.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            final int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+            // NOTE: elements of the first run which are not greater than the first element of the second run are already in place.
+            final int k = gallopRight(xs[base2], xs, base1, length1, 0);
+            base1 += k;
+            length1 -= k;
+            if (length1 == 0) return;
+            // NOTE: elements of the second run which are not less than the last element of the first run are already in place.
+            length2 = gallopLeft(xs[base1 + length1 - 1], xs, base2, length2, length2 - 1);
+            if (length2 == 0) return;
+            if (length1 <= length2) mergeLo(base1, length1, base2, length2);
+            else mergeHi(base1, length1, base2, length2);
+        }
+
+        /**
+         * Method to find the index (relative to base) at which key should be inserted into the sorted a[base] .. a[base+length-1],
+         * before any elements equal to key. The search starts at base+hint and gallops away from it.
+         */
+        private int gallopLeft(X key, X[] a, int base, int length, int hint) {
+            final Helper<X> helper = getHelper();
+            int lastOffset = 0;
+            int offset = 1;
+            if (helper.less(a[base + hint], key)) {
+                final int maxOffset = length - hint;
+                while (offset < maxOffset && helper.less(a[base + hint + offset], key)) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                final int maxOffset = hint + 1;
+                while (offset < maxOffset && !helper.less(a[base + hint - offset], key)) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                final int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            }
+            // NOTE: now a[base+lastOffset] < key <= a[base+offset], so binary search in between.
+            lastOffset++;
+            while (lastOffset < offset) {
+                final int m = lastOffset + ((offset - lastOffset) >>> 1);
+                if (helper.less(a[base + m], key)) lastOffset = m + 1;
+                else offset = m;
+            }
+            return offset;
+        }
+
+        /**
+         * Like gallopLeft, except that the index returned is after any elements equal to key.
+         */
+        private int gallopRight(X key, X[] a, int base, int length, int hint) {
+            final Helper<X> helper = getHelper();
+            int lastOffset = 0;
+            int offset = 1;
+            if (helper.less(key, a[base + hint])) {
+                final int maxOffset = hint + 1;
+                while (offset < maxOffset && helper.less(key, a[base + hint - offset])) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                final int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            } else {
+                final int maxOffset = length - hint;
+                while (offset < maxOffset && !helper.less(key, a[base + hint + offset])) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lastOffset += hint;
+                offset += hint;
+            }
+            // NOTE: now a[base+lastOffset] <= key < a[base+offset], so binary search in between.
+            lastOffset++;
+            while (lastOffset < offset) {
+                final int m = lastOffset + ((offset - lastOffset) >>> 1);
+                if (helper.less(key, a[base + m])) offset = m;
+                else lastOffset = m + 1;
+            }
+            return offset;
+        }
+
+        /**
+         * Merge the adjacent runs in place, where the first run is the shorter (and is copied to tmp).
+         * Given the trimming done by mergeAt, the first element of run 2 belongs first and the last element of run 1 belongs last.
+         */
+        private void mergeLo(int base1, int length1, int base2, int length2) {
+            final Helper<X> helper = getHelper();
+            final X[] tmp = ensureCapacity(length1);
+            copyBlock(xs, base1, tmp, 0, length1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+            helper.incrementFixes(length1);
+            helper.copy(xs, cursor2++, xs, dest++);
+            if (--length2 == 0) {
+                copyBlock(tmp, cursor1, xs, dest, length1);
+                return;
+            }
+            if (length1 == 1) {
+                copyBlock(xs, cursor2, xs, dest, length2);
+                helper.incrementFixes(length2);
+                helper.copy(tmp, cursor1, xs, dest + length2);
+                return;
+            }
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                // NOTE: merge one element at a time until one run starts winning consistently.
+                do {
+                    if (helper.less(xs[cursor2], tmp[cursor1])) {
+                        helper.incrementFixes(length1);
+                        helper.copy(xs, cursor2++, xs, dest++);
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0) break outer;
+                    } else {
+                        helper.copy(tmp, cursor1++, xs, dest++);
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1) break outer;
+                    }
+                } while ((count1 | count2) < minGallop);
+                // NOTE: gallop until neither run is winning consistently.
+                do {
+                    count1 = gallopRight(xs[cursor2], tmp, cursor1, length1, 0);
+                    if (count1 != 0) {
+                        copyBlock(tmp, cursor1, xs, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) break outer;
+                    }
+                    helper.incrementFixes(length1);
+                    helper.copy(xs, cursor2++, xs, dest++);
+                    if (--length2 == 0) break outer;
+                    count2 = gallopLeft(tmp[cursor1], xs, cursor2, length2, 0);
+                    if (count2 != 0) {
+                        copyBlock(xs, cursor2, xs, dest, count2);
+                        helper.incrementFixes(count2 * length1);
+                        dest += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) break outer;
+                    }
+                    helper.copy(tmp, cursor1++, xs, dest++);
+                    if (--length1 == 1) break outer;
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if (minGallop < 0) minGallop = 0;
+                minGallop += 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+            if (length1 == 1) {
+                copyBlock(xs, cursor2, xs, dest, length2);
+                helper.incrementFixes(length2);
+                helper.copy(tmp, cursor1, xs, dest + length2);
+            } else if (length1 == 0)
+                throw new IllegalArgumentException("Comparison method violates its general contract");
+            else copyBlock(tmp, cursor1, xs, dest, length1);
+        }
+
+        /**
+         * Like mergeLo, except that the second run is the shorter (and is copied to tmp) and the merge proceeds from the right.
+         */
+        private void mergeHi(int base1, int length1, int base2, int length2) {
+            final Helper<X> helper = getHelper();
+            final X[] tmp = ensureCapacity(length2);
+            copyBlock(xs, base2, tmp, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+            helper.incrementFixes(length2);
+            helper.copy(xs, cursor1--, xs, dest--);
+            if (--length1 == 0) {
+                copyBlock(tmp, 0, xs, dest - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                copyBlock(xs, cursor1 + 1, xs, dest + 1, length1);
+                helper.incrementFixes(length1);
+                helper.copy(tmp, cursor2, xs, dest);
+                return;
+            }
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                do {
+                    if (helper.less(tmp[cursor2], xs[cursor1])) {
+                        helper.incrementFixes(length2);
+                        helper.copy(xs, cursor1--, xs, dest--);
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 0) break outer;
+                    } else {
+                        helper.copy(tmp, cursor2--, xs, dest--);
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 1) break outer;
+                    }
+                } while ((count1 | count2) < minGallop);
+                do {
+                    count1 = length1 - gallopRight(tmp[cursor2], xs, base1, length1, length1 - 1);
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        copyBlock(xs, cursor1 + 1, xs, dest + 1, count1);
+                        helper.incrementFixes(count1 * length2);
+                        if (length1 == 0) break outer;
+                    }
+                    helper.copy(tmp, cursor2--, xs, dest--);
+                    if (--length2 == 1) break outer;
+                    count2 = length2 - gallopLeft(xs[cursor1], tmp, 0, length2, length2 - 1);
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        copyBlock(tmp, cursor2 + 1, xs, dest + 1, count2);
+                        if (length2 <= 1) break outer;
+                    }
+                    helper.incrementFixes(length2);
+                    helper.copy(xs, cursor1--, xs, dest--);
+                    if (--length1 == 0) break outer;
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if (minGallop < 0) minGallop = 0;
+                minGallop += 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                copyBlock(xs, cursor1 + 1, xs, dest + 1, length1);
+                helper.incrementFixes(length1);
+                helper.copy(tmp, cursor2, xs, dest);
+            } else if (length2 == 0)
+                throw new IllegalArgumentException("Comparison method violates its general contract");
+            else copyBlock(tmp, 0, xs, dest - (length2 - 1), length2);
+        }
+
+        private void copyBlock(X[] source, int i, X[] target, int j, int n) {
+            System.arraycopy(source, i, target, j, n);
+            getHelper().incrementCopies(n);
+        }
+
+        @SuppressWarnings("unchecked")
+        private X[] ensureCapacity(int n) {
+            if (tmp == null || tmp.length < n) tmp = (X[]) Array.newInstance(xs.getClass().getComponentType(), Math.max(n, Math.min(xs.length >>> 1, 256)));
+            return tmp;
+        }
+
+        private final X[] xs;
+        // NOTE: 49 runs suffice for any array whose length is an int (the run lengths grow at least as fast as the Fibonacci numbers).
+        private final int[] runBase = new int[49];
+        private final int[] runLength = new int[49];
+        private int stackSize = 0;
+        private int minGallop = MIN_GALLOP;
+        private X[] tmp;
+    }
+
+    private static final int MIN_MERGE = 32;
+    private static final int MIN_GALLOP = 7;
+}
@@ -5,7 +5,7 @@ package edu.neu.coe.info6205.sort.linearithmic;
  *
  * @param <X> the underlying type of the array.
  */
-public class Partition<X extends Comparable<X>> {
+public class Partition<X> {
     /**
      * @param xs the array to be sorted.
      * @param from the index of the first element to be sorted.
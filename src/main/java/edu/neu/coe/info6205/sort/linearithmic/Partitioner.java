@@ -2,7 +2,7 @@ package edu.neu.coe.info6205.sort.linearithmic;
 
 import java.util.List;
 
-public interface Partitioner<X extends Comparable<X>> {
+public interface Partitioner<X> {
 
     /**
      * Method to partition the given partition into smaller partitions.
@@ -11,4 +11,26 @@ public interface Partitioner<X extends Comparable<X>> {
      * @return an array of partitions, whose length depends on the sorting method being used.
      */
     List<Partition<X>> partition(Partition<X> partition);
+
+    /**
+     * Method to partition xs[from] .. xs[to-1] into smaller partitions, without allocating any Partition objects.
+     * The bounds of the kth partition are written to bounds[2k] (its from) and bounds[2k+1] (its to).
+     * <p>
+     * This default implementation does allocate: partitioners which are used in inner loops should override it.
+     *
+     * @param xs     the array.
+     * @param from   the index of the first element to partition.
+     * @param to     the index of the first element not to partition.
+     * @param bounds an array (of length at least twice the number of partitions) to hold the bounds of the partitions.
+     * @return the number of partitions.
+     */
+    default int partition(X[] xs, int from, int to, int[] bounds) {
+        final List<Partition<X>> partitions = partition(new Partition<>(xs, from, to));
+        int k = 0;
+        for (Partition<X> p : partitions) {
+            bounds[k++] = p.from;
+            bounds[k++] = p.to;
+        }
+        return partitions.size();
+    }
 }
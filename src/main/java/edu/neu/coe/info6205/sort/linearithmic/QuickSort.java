@@ -6,19 +6,26 @@ import edu.neu.coe.info6205.sort.elementary.InsertionSort;
 import edu.neu.coe.info6205.util.Config;
 import edu.neu.coe.info6205.util.LazyLogger;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 
-public abstract class QuickSort<X extends Comparable<X>> extends SortWithHelper<X> {
+public abstract class QuickSort<X> extends SortWithHelper<X> {
 
     public QuickSort(String description, int N, Config config) {
         super(description, N, config);
-        insertionSort = new InsertionSort<>(getHelper());
+        insertionSort = InsertionSort.create(getHelper(), getClass().getSimpleName().toLowerCase());
+    }
+
+    public QuickSort(String description, int N, Comparator<X> comparator, Config config) {
+        super(description, N, comparator, config);
+        insertionSort = InsertionSort.create(getHelper(), getClass().getSimpleName().toLowerCase());
     }
 
     public QuickSort(Helper<X> helper) {
         super(helper);
-        insertionSort = new InsertionSort<>(helper);
+        insertionSort = InsertionSort.create(helper, getClass().getSimpleName().toLowerCase());
     }
 
     /**
@@ -63,12 +70,54 @@ public abstract class QuickSort<X extends Comparable<X>> extends SortWithHelper<
      * @param depth the depth of the recursion.
      */
     public void sort(X[] xs, int from, int to, int depth) {
-        if (terminator(xs, from, to, depth)) return;
-        getHelper().registerDepth(depth);
-        Partition<X> partition = createPartition(xs, from, to);
         if (partitioner == null) throw new RuntimeException("partitioner not set");
-        Collection<Partition<X>> partitions = partitioner.partition(partition);
-        partitions.forEach(p -> sort(p.xs, p.from, p.to, depth + 1));
+        // NOTE: the buffers belong to this call (not to this QuickSort) so that a QuickSort with a stateless partitioner is reentrant.
+        getHelper().registerDepth(sort(xs, from, to, depth, partitioner, new int[2 * MAX_PARTITIONS], new int[STACK_SIZE]));
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1] without recursion (and without allocation),
+     * using an explicit stack of the partitions still to be sorted.
+     * <p>
+     * The largest partition resulting from each partitioning is pushed first (and so is sorted last).
+     * Every other partition is at most half the size of its parent, so the stack never holds more than
+     * (k-1) lg n + k partitions, where k is the number of partitions yielded by the partitioner.
+     *
+     * @param xs          the complete array from which this sub-array derives.
+     * @param from        the index of the first element to sort.
+     * @param to          the index of the first element not to sort.
+     * @param depth       the depth of the recursion (of the sub-array).
+     * @param partitioner the partitioner (which must not be in use by any other thread).
+     * @param bounds      a buffer for the bounds of the partitions (see Partitioner.partition(xs, from, to, bounds)).
+     * @param stack       a buffer of at least STACK_SIZE elements for the stack.
+     * @return the greatest depth at which a partition was partitioned (or 0 if none was).
+     */
+    protected int sort(X[] xs, int from, int to, int depth, Partitioner<X> partitioner, int[] bounds, int[] stack) {
+        int result = 0;
+        int sp = push(stack, 0, from, to, depth);
+        while (sp > 0) {
+            final int d = stack[--sp];
+            final int hi = stack[--sp];
+            final int lo = stack[--sp];
+            if (terminator(xs, lo, hi, d)) continue;
+            if (d > result) result = d;
+            final int k = partitioner.partition(xs, lo, hi, bounds);
+            int largest = 0;
+            for (int i = 1; i < k; i++)
+                if (bounds[2 * i + 1] - bounds[2 * i] > bounds[2 * largest + 1] - bounds[2 * largest]) largest = i;
+            if (sp + 3 * k > stack.length) throw new RuntimeException("QuickSort: stack overflow");
+            sp = push(stack, sp, bounds[2 * largest], bounds[2 * largest + 1], d + 1);
+            for (int i = k - 1; i >= 0; i--)
+                if (i != largest) sp = push(stack, sp, bounds[2 * i], bounds[2 * i + 1], d + 1);
+        }
+        return result;
+    }
+
+    private static int push(int[] stack, int sp, int from, int to, int depth) {
+        stack[sp++] = from;
+        stack[sp++] = to;
+        stack[sp++] = depth;
+        return sp;
     }
 
     /**
@@ -79,7 +128,7 @@ public abstract class QuickSort<X extends Comparable<X>> extends SortWithHelper<
      * @param to   the index of the first element not to sort.
      */
     public void sort(X[] xs, int from, int to) {
-        throw new RuntimeException("This sort signature is not used for Quicksort");
+        sort(xs, from, to, 0);
     }
 
     /**
@@ -101,6 +150,64 @@ public abstract class QuickSort<X extends Comparable<X>> extends SortWithHelper<
         return false;
     }
 
+    /**
+     * Heapsort of the sub-array a[from] .. a[to-1].
+     * This is used by sub-classes (IntroSort, QuickSort_PDQ) when quicksort is not making sufficient progress.
+     *
+     * @param a    the complete array from which this sub-array derives.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    protected void heapSort(X[] a, int from, int to) {
+        Helper<X> helper = getHelper();
+        int n = to - from;
+        for (int i = n / 2; i >= 1; i = i - 1) {
+            downHeap(a, i, n, from, helper);
+        }
+        for (int i = n; i > 1; i = i - 1) {
+            helper.swap(a, from, from + i - 1);
+            downHeap(a, 1, i - 1, from, helper);
+        }
+    }
+
+    private void downHeap(X[] a, int i, int n, int lo, Helper<X> helper) {
+        final Comparator<X> comparator = helper.getComparator();
+        X d = a[lo + i - 1];
+        int child;
+        while (i <= n / 2) {
+            child = 2 * i;
+            if (helper.instrumented()) {
+                if (child < n && helper.compare(a, lo + child - 1, lo + child) < 0) child++;
+                if (helper.compare(d, a[lo + child - 1]) >= 0) break;
+            } else {
+                if (child < n && comparator.compare(a[lo + child - 1], a[lo + child]) < 0) child++;
+                if (comparator.compare(d, a[lo + child - 1]) >= 0) break;
+            }
+            helper.incrementFixes(1);
+            a[lo + i - 1] = a[lo + child - 1];
+            i = child;
+        }
+        a[lo + i - 1] = d;
+    }
+
+    /**
+     * Method to determine whether the given section of the configuration calls for block partitioning,
+     * i.e. a partitioner which does its comparisons a block (of BLOCK_SIZE elements) at a time.
+     *
+     * @param section the configuration section of the sorter (for example, quicksort_dualpivot).
+     * @return true if the blockpartition option of section is set.
+     */
+    protected boolean blockPartitioning(String section) {
+        final Config config = getHelper().getConfig();
+        return config != null && config.getBoolean(section, BLOCKPARTITION, false);
+    }
+
+    /**
+     * Method to get the sort used for small partitions: insertion sort, binary insertion sort or a sorting network,
+     * according to the smallsort option of the configuration section of this sorter.
+     *
+     * @return an InsertionSort of X.
+     */
     public InsertionSort<X> getInsertionSort() {
         return insertionSort;
     }
@@ -114,14 +221,46 @@ public abstract class QuickSort<X extends Comparable<X>> extends SortWithHelper<
      * @param <Y>  the underlying type of ys.
      * @return a Partition of Y.
      */
-    public static <Y extends Comparable<Y>> Partition<Y> createPartition(Y[] ys, int from, int to) {
+    public static <Y> Partition<Y> createPartition(Y[] ys, int from, int to) {
         return new Partition<>(ys, from, to);
     }
 
-    public static <Y extends Comparable<Y>> Partition<Y> createPartition(Y[] ys) {
+    public static <Y> Partition<Y> createPartition(Y[] ys) {
         return createPartition(ys, 0, ys.length);
     }
 
+    /**
+     * Create the partitions whose bounds have been written to bounds by Partitioner.partition(xs, from, to, bounds).
+     *
+     * @param ys     the array which was partitioned.
+     * @param bounds the bounds of the partitions.
+     * @param n      the number of partitions.
+     * @param <Y>    the underlying type of ys.
+     * @return a List of Partition of Y.
+     */
+    static <Y> List<Partition<Y>> createPartitions(Y[] ys, int[] bounds, int n) {
+        final List<Partition<Y>> partitions = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) partitions.add(new Partition<>(ys, bounds[2 * k], bounds[2 * k + 1]));
+        return partitions;
+    }
+
+    public static final String BLOCKPARTITION = "blockpartition";
+
+    /**
+     * The number of elements compared (and whose offsets are buffered) at a time by a block partitioner.
+     */
+    static final int BLOCK_SIZE = 128;
+
+    /**
+     * The greatest number of partitions yielded by any of the partitioners.
+     */
+    static final int MAX_PARTITIONS = 3;
+
+    /**
+     * The size of the stack for the non-recursive sort: each partition takes three elements (from, to and depth).
+     */
+    static final int STACK_SIZE = 3 * ((MAX_PARTITIONS - 1) * Integer.SIZE + MAX_PARTITIONS);
+
     private final InsertionSort<X> insertionSort;
 
     protected Partitioner<X> partitioner;
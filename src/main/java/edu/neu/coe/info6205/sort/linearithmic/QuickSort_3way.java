@@ -5,10 +5,10 @@ import edu.neu.coe.info6205.sort.Helper;
 import edu.neu.coe.info6205.sort.InstrumentedHelper;
 import edu.neu.coe.info6205.util.Config;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
-public class QuickSort_3way<X extends Comparable<X>> extends QuickSort<X> {
+public class QuickSort_3way<X> extends QuickSort<X> {
 
     public static final String DESCRIPTION = "QuickSort 3 way";
 
@@ -49,6 +49,36 @@ public class QuickSort_3way<X extends Comparable<X>> extends QuickSort<X> {
         this(new InstrumentedHelper<>(DESCRIPTION, N, config));
     }
 
+    public QuickSort_3way(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
+    /**
+     * Constructor for QuickSort_3way
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public QuickSort_3way(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+        setPartitioner(createPartitioner());
+    }
+
+    /**
+     * Constructor for QuickSort_3way which always uses an instrumented helper with a specific seed.
+     * <p>
+     * NOTE used by unit tests.
+     *
+     * @param N          the number of elements to be sorted.
+     * @param seed       the seed for the random number generator.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration for this sorter.
+     */
+    public QuickSort_3way(int N, long seed, Comparator<X> comparator, Config config) {
+        this(new InstrumentedHelper<>(DESCRIPTION, N, comparator, config));
+    }
+
     public Partitioner<X> createPartitioner() {
         return new Partitioner_3Way(getHelper());
     }
@@ -62,10 +92,25 @@ public class QuickSort_3way<X extends Comparable<X>> extends QuickSort<X> {
          * @return an array of partitions, whose length depends on the sorting method being used.
          */
         public List<Partition<X>> partition(Partition<X> partition) {
+            final int[] bounds = new int[4];
+            return createPartitions(partition.xs, bounds, partition(partition.xs, partition.from, partition.to, bounds));
+        }
+
+        /**
+         * Method to partition xs[from] .. xs[to-1] into two partitions (the elements equal to the pivot lie between them),
+         * without allocating any Partition objects.
+         *
+         * @param xs     the array.
+         * @param from   the index of the first element to partition.
+         * @param to     the index of the first element not to partition.
+         * @param bounds an array of (at least) four elements to hold the bounds of the two partitions.
+         * @return 2.
+         */
+        @Override
+        public int partition(X[] xs, int from, int to, int[] bounds) {
             // CONSIDER merge with Partitioner_DualPivot
-            X[] xs = partition.xs;
-            int lt = partition.from;
-            int gt = partition.to - 1;
+            int lt = from;
+            int gt = to - 1;
             helper.swapConditional(xs, lt, gt);
             X v = xs[lt];
             int i = lt + 1;
@@ -78,18 +123,21 @@ public class QuickSort_3way<X extends Comparable<X>> extends QuickSort<X> {
                     else if (cmp > 0) helper.swap(xs, i, gt--);
                     else i++;
                 }
-            else
+            else {
+                final Comparator<X> comparator = helper.getComparator();
                 while (i <= gt) {
-                    int cmp = xs[i].compareTo(v);
+                    int cmp = comparator.compare(xs[i], v);
                     if (cmp < 0) swap(xs, lt++, i++);
                     else if (cmp > 0) swap(xs, i, gt--);
                     else i++;
                 }
+            }
 
-            List<Partition<X>> partitions = new ArrayList<>();
-            partitions.add(new Partition<>(xs, partition.from, lt));
-            partitions.add(new Partition<>(xs, gt + 1, partition.to));
-            return partitions;
+            bounds[0] = from;
+            bounds[1] = lt;
+            bounds[2] = gt + 1;
+            bounds[3] = to;
+            return 2;
         }
 
         public Partitioner_3Way(Helper<X> helper) {
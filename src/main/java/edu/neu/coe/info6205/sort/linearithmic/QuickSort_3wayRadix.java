@@ -0,0 +1,115 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+
+/**
+ * Three-way radix quicksort (multikey quicksort) for Strings.
+ * <p>
+ * Each partition is three-way on the character at position d (rather than on the whole String),
+ * so that the strings which share the pivot character are then sorted on position d+1 and
+ * a long common prefix is examined only once rather than on every comparison.
+ * <p>
+ * Each character comparison is counted as a compare by the helper (via incrementCompares) so that the
+ * compares reported by an InstrumentedHelper can be set against those of QuickSort_3way.
+ */
+public class QuickSort_3wayRadix extends SortWithHelper<String> {
+
+    public static final String DESCRIPTION = "QuickSort 3 way radix";
+
+    /**
+     * Constructor for QuickSort_3wayRadix
+     *
+     * @param helper an explicit instance of Helper to be used.
+     */
+    public QuickSort_3wayRadix(Helper<String> helper) {
+        super(helper);
+    }
+
+    public QuickSort_3wayRadix(Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config));
+    }
+
+    /**
+     * Constructor for QuickSort_3wayRadix
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public QuickSort_3wayRadix(int N, Config config) {
+        super(DESCRIPTION, N, config);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1]
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(String[] xs, int from, int to) {
+        sort(xs, from, to, 0);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1], all of whose elements share their first d characters.
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     * @param d    the position of the character on which to partition.
+     */
+    private void sort(String[] xs, int from, int to, int d) {
+        final Helper<String> helper = getHelper();
+        if (to <= from + helper.cutoff()) {
+            insertionSort(xs, from, to, d);
+            return;
+        }
+        // NOTE: take the pivot from the middle so that sorted (or reverse-sorted) input does not lead to quadratic behavior.
+        helper.swap(xs, from, from + (to - from) / 2);
+        int lt = from;
+        int gt = to - 1;
+        int v = charAt(xs[lt], d);
+        int i = lt + 1;
+        while (i <= gt) {
+            int t = charAt(xs[i], d);
+            if (t < v) helper.swap(xs, lt++, i++);
+            else if (t > v) helper.swap(xs, i, gt--);
+            else i++;
+        }
+        helper.incrementCompares(to - from - 1);
+        sort(xs, from, lt, d);
+        if (v >= 0) sort(xs, lt, gt + 1, d + 1);
+        sort(xs, gt + 1, to, d);
+    }
+
+    private void insertionSort(String[] xs, int from, int to, int d) {
+        final Helper<String> helper = getHelper();
+        for (int i = from + 1; i < to; i++)
+            for (int j = i; j > from && less(xs[j], xs[j - 1], d); j--)
+                helper.swap(xs, j, j - 1);
+    }
+
+    /**
+     * Method to compare two Strings, ignoring their first d characters (which are known to be equal).
+     *
+     * @return true if v is less than w.
+     */
+    private boolean less(String v, String w, int d) {
+        getHelper().incrementCompares(1);
+        final int n = Math.min(v.length(), w.length());
+        for (int k = d; k < n; k++) {
+            char a = v.charAt(k);
+            char b = w.charAt(k);
+            if (a != b) return a < b;
+        }
+        return v.length() < w.length();
+    }
+
+    private static int charAt(String s, int d) {
+        if (d < s.length()) return s.charAt(d);
+        else return -1;
+    }
+}
@@ -3,10 +3,10 @@ package edu.neu.coe.info6205.sort.linearithmic;
 import edu.neu.coe.info6205.sort.Helper;
 import edu.neu.coe.info6205.util.Config;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
-public class QuickSort_Basic<X extends Comparable<X>> extends QuickSort<X> {
+public class QuickSort_Basic<X> extends QuickSort<X> {
 
     public static final String DESCRIPTION = "QuickSort basic";
 
@@ -15,6 +15,11 @@ public class QuickSort_Basic<X extends Comparable<X>> extends QuickSort<X> {
         setPartitioner(createPartitioner());
     }
 
+    public QuickSort_Basic(String description, int N, Comparator<X> comparator, Config config) {
+        super(description, N, comparator, config);
+        setPartitioner(createPartitioner());
+    }
+
     /**
      * Constructor for QuickSort_Basic
      *
@@ -44,11 +49,39 @@ public class QuickSort_Basic<X extends Comparable<X>> extends QuickSort<X> {
         this(0, config);
     }
 
+    /**
+     * Constructor for QuickSort_Basic
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public QuickSort_Basic(int N, Comparator<X> comparator, Config config) {
+        this(DESCRIPTION, N, comparator, config);
+    }
+
+    /**
+     * Constructor for QuickSort_Basic
+     *
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public QuickSort_Basic(Comparator<X> comparator, Config config) {
+        this(0, comparator, config);
+    }
+
+    /**
+     * Method to create a Partitioner: Partitioner_BasicBlock if blockpartition is set in [quicksort_basic], otherwise Partitioner_Basic.
+     *
+     * @return a Partitioner of X.
+     */
     @Override
     public Partitioner<X> createPartitioner() {
-        return new Partitioner_Basic(getHelper());
+        return blockPartitioning(QUICKSORT_BASIC) ? new Partitioner_BasicBlock(getHelper()) : new Partitioner_Basic(getHelper());
     }
 
+    public static final String QUICKSORT_BASIC = "quicksort_basic";
+
     public class Partitioner_Basic implements Partitioner<X> {
 
         public Partitioner_Basic(Helper<X> helper) {
@@ -62,9 +95,21 @@ public class QuickSort_Basic<X extends Comparable<X>> extends QuickSort<X> {
          * @return an array of partitions, whose length depends on the sorting method being used.
          */
         public List<Partition<X>> partition(Partition<X> partition) {
-            final X[] xs = partition.xs;
-            final int from = partition.from;
-            final int to = partition.to;
+            final int[] bounds = new int[4];
+            return createPartitions(partition.xs, bounds, partition(partition.xs, partition.from, partition.to, bounds));
+        }
+
+        /**
+         * Method to partition xs[from] .. xs[to-1] into two partitions, without allocating any Partition objects.
+         *
+         * @param xs     the array.
+         * @param from   the index of the first element to partition.
+         * @param to     the index of the first element not to partition.
+         * @param bounds an array of (at least) four elements to hold the bounds of the two partitions.
+         * @return 2.
+         */
+        @Override
+        public int partition(X[] xs, int from, int to, int[] bounds) {
             final int hi = to - 1;
             X v = xs[from];
             int i = from;
@@ -79,20 +124,143 @@ public class QuickSort_Basic<X extends Comparable<X>> extends QuickSort<X> {
                     helper.swap(xs, i, j);
                 }
                 helper.swap(xs, from, j);
+            } else {
+                final Comparator<X> comparator = helper.getComparator();
+                while (true) {
+                    while (i < hi && comparator.compare(xs[++i], v) < 0) {}
+                    while (j > from && comparator.compare(xs[--j], v) > 0) {}
+                    if (i >= j) break;
+                    swap(xs, i, j);
+                }
+                swap(xs, from, j);
+            }
+
+            bounds[0] = from;
+            bounds[1] = j;
+            bounds[2] = j + 1;
+            bounds[3] = to;
+            return 2;
+        }
+
+        private void swap(X[] ys, int i, int j) {
+            X temp = ys[i];
+            ys[i] = ys[j];
+            ys[j] = temp;
+        }
+
+        private final Helper<X> helper;
+    }
+
+    /**
+     * Partitioner which, like Partitioner_Basic, partitions about the element at from, but which does its comparisons
+     * a block at a time (after Edelkamp and Weiss, BlockQuicksort).
+     * <p>
+     * The offsets of the elements which are on the wrong side are recorded in a buffer for each end
+     * and then as many pairs of them as possible are swapped in bulk.
+     * The result of each comparison only ever increments a count, rather than deciding what to do next,
+     * so there is no branch for the processor to mispredict.
+     * Once no more than two blocks remain, the partition is finished in the ordinary way.
+     * <p>
+     * NOTE: this partitioner keeps buffers and so must not be shared by concurrent sorts.
+     */
+    public class Partitioner_BasicBlock implements Partitioner<X> {
+
+        public Partitioner_BasicBlock(Helper<X> helper) {
+            this.helper = helper;
+        }
+
+        /**
+         * Method to partition the given partition into smaller partitions.
+         *
+         * @param partition the partition to divide up.
+         * @return an array of partitions, whose length depends on the sorting method being used.
+         */
+        public List<Partition<X>> partition(Partition<X> partition) {
+            final int[] bounds = new int[4];
+            return createPartitions(partition.xs, bounds, partition(partition.xs, partition.from, partition.to, bounds));
+        }
+
+        /**
+         * Method to partition xs[from] .. xs[to-1] into two partitions, without allocating any Partition objects.
+         *
+         * @param xs     the array.
+         * @param from   the index of the first element to partition.
+         * @param to     the index of the first element not to partition.
+         * @param bounds an array of (at least) four elements to hold the bounds of the two partitions.
+         * @return 2.
+         */
+        @Override
+        public int partition(X[] xs, int from, int to, int[] bounds) {
+            final int hi = to - 1;
+            final boolean instrumented = helper.instrumented();
+            final Comparator<X> comparator = helper.getComparator();
+            X v = xs[from];
+            int l = from + 1;
+            int r = hi;
+            int numL = 0, numR = 0, startL = 0, startR = 0;
+            while (r - l + 1 > 2 * BLOCK_SIZE) {
+                if (numL == 0) {
+                    startL = 0;
+                    // NOTE: record the offset of every element (in the left block) which is not less than v.
+                    if (instrumented) for (int k = 0; k < BLOCK_SIZE; k++) {
+                        offsetsL[numL] = k;
+                        numL += helper.less(xs[l + k], v) ? 0 : 1;
+                    }
+                    else for (int k = 0; k < BLOCK_SIZE; k++) {
+                        offsetsL[numL] = k;
+                        numL += comparator.compare(xs[l + k], v) < 0 ? 0 : 1;
+                    }
+                }
+                if (numR == 0) {
+                    startR = 0;
+                    // NOTE: record the offset of every element (in the right block) which is not greater than v.
+                    if (instrumented) for (int k = 0; k < BLOCK_SIZE; k++) {
+                        offsetsR[numR] = k;
+                        numR += helper.less(v, xs[r - k]) ? 0 : 1;
+                    }
+                    else for (int k = 0; k < BLOCK_SIZE; k++) {
+                        offsetsR[numR] = k;
+                        numR += comparator.compare(xs[r - k], v) > 0 ? 0 : 1;
+                    }
+                }
+                final int num = Math.min(numL, numR);
+                if (instrumented) for (int k = 0; k < num; k++)
+                    helper.swap(xs, l + offsetsL[startL + k], r - offsetsR[startR + k]);
+                else for (int k = 0; k < num; k++)
+                    swap(xs, l + offsetsL[startL + k], r - offsetsR[startR + k]);
+                numL -= num;
+                numR -= num;
+                startL += num;
+                startR += num;
+                if (numL == 0) l += BLOCK_SIZE;
+                if (numR == 0) r -= BLOCK_SIZE;
+            }
+            // NOTE: everything before l is now not greater than v and everything after r is not less than v.
+            int i = l - 1;
+            int j = r + 1;
+            if (instrumented) {
+                while (true) {
+                    while (i < hi && helper.less(xs[++i], v)) {}
+                    while (j > from && helper.less(v, xs[--j])) {}
+                    if (i >= j) break;
+                    helper.swap(xs, i, j);
+                }
+                helper.swap(xs, from, j);
             } else {
                 while (true) {
-                    while (i < hi && xs[++i].compareTo(v) < 0) {}
-                    while (j > from && xs[--j].compareTo(v) > 0) {}
+                    while (i < hi && comparator.compare(xs[++i], v) < 0) {}
+                    while (j > from && comparator.compare(xs[--j], v) > 0) {}
                     if (i >= j) break;
                     swap(xs, i, j);
                 }
                 swap(xs, from, j);
             }
 
-            List<Partition<X>> partitions = new ArrayList<>();
-            partitions.add(new Partition<>(xs, from, j));
-            partitions.add(new Partition<>(xs, j + 1, to));
-            return partitions;
+            bounds[0] = from;
+            bounds[1] = j;
+            bounds[2] = j + 1;
+            bounds[3] = to;
+            return 2;
         }
 
         private void swap(X[] ys, int i, int j) {
@@ -102,6 +270,8 @@ public class QuickSort_Basic<X extends Comparable<X>> extends QuickSort<X> {
         }
 
         private final Helper<X> helper;
+        private final int[] offsetsL = new int[BLOCK_SIZE];
+        private final int[] offsetsR = new int[BLOCK_SIZE];
     }
 }
 
@@ -3,10 +3,10 @@ package edu.neu.coe.info6205.sort.linearithmic;
 import edu.neu.coe.info6205.sort.Helper;
 import edu.neu.coe.info6205.util.Config;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
-public class QuickSort_DualPivot<X extends Comparable<X>> extends QuickSort<X> {
+public class QuickSort_DualPivot<X> extends QuickSort<X> {
 
     public static final String DESCRIPTION = "QuickSort dual pivot";
 
@@ -15,6 +15,11 @@ public class QuickSort_DualPivot<X extends Comparable<X>> extends QuickSort<X> {
         setPartitioner(createPartitioner());
     }
 
+    public QuickSort_DualPivot(String description, int N, Comparator<X> comparator, Config config) {
+        super(description, N, comparator, config);
+        setPartitioner(createPartitioner());
+    }
+
     /**
      * Constructor for QuickSort_3way
      *
@@ -35,9 +40,47 @@ public class QuickSort_DualPivot<X extends Comparable<X>> extends QuickSort<X> {
         this(DESCRIPTION, N, config);
     }
 
+    /**
+     * Constructor for QuickSort_3way
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public QuickSort_DualPivot(int N, Comparator<X> comparator, Config config) {
+        this(DESCRIPTION, N, comparator, config);
+    }
+
+    /**
+     * Method to create a Partitioner: Partitioner_DualPivotBlock if blockpartition is set in [quicksort_dualpivot], otherwise Partitioner_DualPivot.
+     *
+     * @return a Partitioner of X.
+     */
     @Override
     public Partitioner<X> createPartitioner() {
-        return new Partitioner_DualPivot(getHelper());
+        return blockPartitioning(QUICKSORT_DUALPIVOT) ? new Partitioner_DualPivotBlock(getHelper()) : new Partitioner_DualPivot(getHelper());
+    }
+
+    public static final String QUICKSORT_DUALPIVOT = "quicksort_dualpivot";
+
+    /**
+     * Method to record the bounds of the three partitions which result from placing the pivots at lt and gt.
+     *
+     * @param bounds the array to hold the bounds.
+     * @param lo     the index of the first element partitioned.
+     * @param lt     the final index of the lower pivot.
+     * @param gt     the final index of the upper pivot.
+     * @param hi     the index of the last element partitioned.
+     * @return the number of partitions, i.e. 3.
+     */
+    private static int setBounds(int[] bounds, int lo, int lt, int gt, int hi) {
+        bounds[0] = lo;
+        bounds[1] = lt;
+        bounds[2] = lt + 1;
+        bounds[3] = gt;
+        bounds[4] = gt + 1;
+        bounds[5] = hi + 1;
+        return 3;
     }
 
     public class Partitioner_DualPivot implements Partitioner<X> {
@@ -53,9 +96,23 @@ public class QuickSort_DualPivot<X extends Comparable<X>> extends QuickSort<X> {
          * @return an array of partitions, whose length depends on the sorting method being used.
          */
         public List<Partition<X>> partition(Partition<X> partition) {
-            final X[] xs = partition.xs;
-            final int lo = partition.from;
-            final int hi = partition.to - 1;
+            final int[] bounds = new int[6];
+            return createPartitions(partition.xs, bounds, partition(partition.xs, partition.from, partition.to, bounds));
+        }
+
+        /**
+         * Method to partition xs[from] .. xs[to-1] into three partitions, without allocating any Partition objects.
+         *
+         * @param xs     the array.
+         * @param from   the index of the first element to partition.
+         * @param to     the index of the first element not to partition.
+         * @param bounds an array of (at least) six elements to hold the bounds of the three partitions.
+         * @return 3.
+         */
+        @Override
+        public int partition(X[] xs, int from, int to, int[] bounds) {
+            final int lo = from;
+            final int hi = to - 1;
             helper.swapConditional(xs, lo, hi);
             int lt = lo + 1;
             int gt = hi - 1;
@@ -71,21 +128,17 @@ public class QuickSort_DualPivot<X extends Comparable<X>> extends QuickSort<X> {
                 helper.swap(xs, lo, --lt);
                 helper.swap(xs, hi, ++gt);
             } else {
+                final Comparator<X> comparator = helper.getComparator();
                 while (i <= gt) {
                     X x = xs[i];
-                    if (x.compareTo(xs[lo]) < 0) swap(xs, lt++, i++);
-                    else if (x.compareTo(xs[hi]) > 0) swap(xs, i, gt--);
+                    if (comparator.compare(x, xs[lo]) < 0) swap(xs, lt++, i++);
+                    else if (comparator.compare(x, xs[hi]) > 0) swap(xs, i, gt--);
                     else i++;
                 }
                 swap(xs, lo, --lt);
                 swap(xs, hi, ++gt);
             }
-
-            List<Partition<X>> partitions = new ArrayList<>();
-            partitions.add(new Partition<>(xs, lo, lt));
-            partitions.add(new Partition<>(xs, lt + 1, gt));
-            partitions.add(new Partition<>(xs, gt + 1, hi + 1));
-            return partitions;
+            return setBounds(bounds, lo, lt, gt, hi);
         }
 
         // CONSIDER invoke swap in BaseHelper.
@@ -97,5 +150,108 @@ public class QuickSort_DualPivot<X extends Comparable<X>> extends QuickSort<X> {
 
         private final Helper<X> helper;
     }
+
+    /**
+     * Partitioner which yields the same three partitions as Partitioner_DualPivot, but which does its comparisons
+     * a block at a time (after Aumueller and Hass, block Lomuto partitioning).
+     * <p>
+     * The first pass moves the elements not greater than the upper pivot to the left;
+     * the second pass moves those of them which are less than the lower pivot further to the left.
+     * Each pass records, for a block, the offsets of the elements to be moved (the result of each comparison
+     * only ever increments a count, so there is no branch for the processor to mispredict) and then moves them in bulk.
+     * <p>
+     * NOTE: this partitioner keeps a buffer and so must not be shared by concurrent sorts.
+     */
+    public class Partitioner_DualPivotBlock implements Partitioner<X> {
+
+        public Partitioner_DualPivotBlock(Helper<X> helper) {
+            this.helper = helper;
+        }
+
+        /**
+         * Method to partition the given partition into smaller partitions.
+         *
+         * @param partition the partition to divide up.
+         * @return an array of partitions, whose length depends on the sorting method being used.
+         */
+        public List<Partition<X>> partition(Partition<X> partition) {
+            final int[] bounds = new int[6];
+            return createPartitions(partition.xs, bounds, partition(partition.xs, partition.from, partition.to, bounds));
+        }
+
+        /**
+         * Method to partition xs[from] .. xs[to-1] into three partitions, without allocating any Partition objects.
+         *
+         * @param xs     the array.
+         * @param from   the index of the first element to partition.
+         * @param to     the index of the first element not to partition.
+         * @param bounds an array of (at least) six elements to hold the bounds of the three partitions.
+         * @return 3.
+         */
+        @Override
+        public int partition(X[] xs, int from, int to, int[] bounds) {
+            final int lo = from;
+            final int hi = to - 1;
+            helper.swapConditional(xs, lo, hi);
+            // NOTE: neither pass moves the pivots at lo and hi.
+            int gt = partitionBlockwise(xs, lo + 1, hi, hi, true);
+            int lt = partitionBlockwise(xs, lo + 1, gt, lo, false);
+            if (helper.instrumented()) {
+                helper.swap(xs, lo, --lt);
+                helper.swap(xs, hi, gt);
+            } else {
+                swap(xs, lo, --lt);
+                swap(xs, hi, gt);
+            }
+            return setBounds(bounds, lo, lt, gt, hi);
+        }
+
+        /**
+         * Method to move the elements of xs[from] .. xs[to-1] which belong to the left of the pivot (at index p) to the left.
+         *
+         * @param xs    the array.
+         * @param from  the index of the first element to partition.
+         * @param to    the index of the first element not to partition.
+         * @param p     the index of the pivot (which must lie outside of from .. to-1).
+         * @param upper if true, the elements which belong to the left are those not greater than the pivot;
+         *              otherwise, they are those less than the pivot.
+         * @return the index of the first element which does not belong to the left.
+         */
+        private int partitionBlockwise(X[] xs, int from, int to, int p, boolean upper) {
+            final boolean instrumented = helper.instrumented();
+            final Comparator<X> comparator = helper.getComparator();
+            int boundary = from;
+            for (int start = from; start < to; start += BLOCK_SIZE) {
+                final int end = Math.min(start + BLOCK_SIZE, to);
+                int num = 0;
+                if (instrumented) for (int k = start; k < end; k++) {
+                    offsets[num] = k;
+                    final int cf = helper.compare(xs, k, p);
+                    num += (upper ? cf <= 0 : cf < 0) ? 1 : 0;
+                }
+                else {
+                    final X v = xs[p];
+                    for (int k = start; k < end; k++) {
+                        offsets[num] = k;
+                        final int cf = comparator.compare(xs[k], v);
+                        num += (upper ? cf <= 0 : cf < 0) ? 1 : 0;
+                    }
+                }
+                // NOTE: offsets[k] is never less than boundary, and the element at boundary (if they differ) belongs to the right.
+                if (instrumented) for (int k = 0; k < num; k++) helper.swap(xs, boundary++, offsets[k]);
+                else for (int k = 0; k < num; k++) swap(xs, boundary++, offsets[k]);
+            }
+            return boundary;
+        }
+
+        private void swap(X[] ys, int i, int j) {
+            X temp = ys[i];
+            ys[i] = ys[j];
+            ys[j] = temp;
+        }
+
+        private final Helper<X> helper;
+        private final int[] offsets = new int[BLOCK_SIZE];
+    }
 }
 
@@ -0,0 +1,303 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Pattern-defeating quicksort (after Orson Peters' pdqsort).
+ * <p>
+ * This differs from the other quicksorts in the following ways:
+ * <ul>
+ *     <li>the pivot is the median of three (or, for larger partitions, Tukey's ninther);</li>
+ *     <li>if a partition required no swaps (as happens for ordered input), each side is given a partial insertion sort,
+ *     which is abandoned after a small number of moves: if both succeed, the partition is sorted;</li>
+ *     <li>if a partition is highly unbalanced, a few elements of each side are swapped so as to break up whatever pattern
+ *     caused the bad pivot and, after lg(n) such bad partitions, the partition is heap sorted;</li>
+ *     <li>if the pivot is equal to the element just before the partition (the pivot of an earlier partition),
+ *     all of the elements equal to the pivot are gathered on the left and need not be sorted further.</li>
+ * </ul>
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class QuickSort_PDQ<X> extends QuickSort<X> {
+
+    public static final String DESCRIPTION = "QuickSort pattern-defeating";
+
+    /**
+     * Constructor for QuickSort_PDQ
+     *
+     * @param helper an explicit instance of Helper to be used.
+     */
+    public QuickSort_PDQ(Helper<X> helper) {
+        super(helper);
+        setPartitioner(createPartitioner());
+    }
+
+    /**
+     * Constructor for QuickSort_PDQ
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public QuickSort_PDQ(int N, Config config) {
+        super(DESCRIPTION, N, config);
+        setPartitioner(createPartitioner());
+    }
+
+    public QuickSort_PDQ(Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config));
+    }
+
+    /**
+     * Constructor for QuickSort_PDQ
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public QuickSort_PDQ(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+        setPartitioner(createPartitioner());
+    }
+
+    public QuickSort_PDQ(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
+    @Override
+    public Partitioner<X> createPartitioner() {
+        return new Partitioner_PDQ(getHelper());
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1]
+     *
+     * @param xs    the complete array from which this sub-array derives.
+     * @param from  the index of the first element to sort.
+     * @param to    the index of the first element not to sort.
+     * @param depth the depth of the recursion.
+     */
+    @Override
+    public void sort(X[] xs, int from, int to, int depth) {
+        sort(xs, from, to, depth, floor_lg(to - from), true);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs       the complete array from which this sub-array derives.
+     * @param from     the index of the first element to sort.
+     * @param to       the index of the first element not to sort.
+     * @param depth    the depth of the recursion.
+     * @param badLimit the number of highly unbalanced partitions still allowed before resorting to heapsort.
+     * @param leftmost true if this sub-array is the leftmost, i.e. there is no earlier pivot at xs[from-1].
+     */
+    private void sort(X[] xs, int from, int to, int depth, int badLimit, boolean leftmost) {
+        final Helper<X> helper = getHelper();
+        if (partitioner == null) throw new RuntimeException("partitioner not set");
+        final Partitioner_PDQ pdq = (Partitioner_PDQ) partitioner;
+        while (true) {
+            final int n = to - from;
+            if (n <= INSERTION_THRESHOLD) {
+                if (n > 1) getInsertionSort().sort(xs, from, to);
+                return;
+            }
+            helper.registerDepth(depth);
+            pdq.choosePivot(xs, from, to);
+            // NOTE: xs[from-1] is not greater than any element of this partition, so if it is not less than the pivot, they are equal.
+            if (!leftmost && !helper.less(xs[from - 1], xs[from])) {
+                from = pdq.partitionLeft(xs, from, to) + 1;
+                continue;
+            }
+            int p = pdq.partitionRight(xs, from, to);
+            final boolean alreadyPartitioned = p < 0;
+            if (alreadyPartitioned) p = -p - 1;
+            final int leftSize = p - from;
+            final int rightSize = to - p - 1;
+            if (leftSize < n / 8 || rightSize < n / 8) {
+                if (--badLimit == 0) {
+                    heapSort(xs, from, to);
+                    return;
+                }
+                breakPatterns(xs, from, p, leftSize, helper);
+                breakPatterns(xs, p + 1, to, rightSize, helper);
+            } else if (alreadyPartitioned && pdq.partialInsertionSort(xs, from, p) && pdq.partialInsertionSort(xs, p + 1, to))
+                return;
+            // NOTE: recurse on the left and iterate on the right.
+            sort(xs, from, p, depth + 1, badLimit, leftmost);
+            from = p + 1;
+            leftmost = false;
+            depth++;
+        }
+    }
+
+    /**
+     * Swap a few elements of xs[from] .. xs[to-1] (near each end) with elements a quarter of the way in,
+     * so as to break up a pattern which gave rise to a bad pivot.
+     */
+    private void breakPatterns(X[] xs, int from, int to, int size, Helper<X> helper) {
+        if (size < INSERTION_THRESHOLD) return;
+        final int q = size / 4;
+        helper.swap(xs, from, from + q);
+        helper.swap(xs, to - 1, to - q);
+        if (size > NINTHER_THRESHOLD) {
+            helper.swap(xs, from + 1, from + q + 1);
+            helper.swap(xs, from + 2, from + q + 2);
+            helper.swap(xs, to - 2, to - q - 1);
+            helper.swap(xs, to - 3, to - q - 2);
+        }
+    }
+
+    public class Partitioner_PDQ implements Partitioner<X> {
+
+        public Partitioner_PDQ(Helper<X> helper) {
+            this.helper = helper;
+        }
+
+        /**
+         * Method to partition the given partition into smaller partitions.
+         *
+         * @param partition the partition to divide up.
+         * @return two partitions: the elements less than the pivot and those not less than the pivot
+         * (the pivot itself is in place between them).
+         */
+        public List<Partition<X>> partition(Partition<X> partition) {
+            final int[] bounds = new int[4];
+            return createPartitions(partition.xs, bounds, partition(partition.xs, partition.from, partition.to, bounds));
+        }
+
+        /**
+         * Method to partition xs[from] .. xs[to-1] into two partitions, without allocating any Partition objects.
+         *
+         * @param xs     the array.
+         * @param from   the index of the first element to partition.
+         * @param to     the index of the first element not to partition.
+         * @param bounds an array of (at least) four elements to hold the bounds of the two partitions.
+         * @return 2.
+         */
+        @Override
+        public int partition(X[] xs, int from, int to, int[] bounds) {
+            choosePivot(xs, from, to);
+            int p = partitionRight(xs, from, to);
+            if (p < 0) p = -p - 1;
+            bounds[0] = from;
+            bounds[1] = p;
+            bounds[2] = p + 1;
+            bounds[3] = to;
+            return 2;
+        }
+
+        /**
+         * Method to choose the pivot of xs[from] .. xs[to-1] (which must have at least three elements) and move it to xs[from].
+         * On return, at least one of the last three elements is not less than the pivot (which bounds the scan of partitionRight).
+         */
+        void choosePivot(X[] xs, int from, int to) {
+            final int n = to - from;
+            final int mid = from + n / 2;
+            if (n > NINTHER_THRESHOLD) {
+                sort3(xs, from, mid, to - 1);
+                sort3(xs, from + 1, mid - 1, to - 2);
+                sort3(xs, from + 2, mid + 1, to - 3);
+                sort3(xs, mid - 1, mid, mid + 1);
+                helper.swap(xs, from, mid);
+            } else sort3(xs, mid, from, to - 1);
+        }
+
+        /**
+         * Method to partition xs[from] .. xs[to-1] about the pivot at xs[from], such that the elements equal to the pivot go to the right.
+         *
+         * @return the final index p of the pivot; but if no elements had to be swapped (i.e. the partition was already partitioned),
+         * the result is -(p+1) (cf. Arrays.binarySearch).
+         */
+        int partitionRight(X[] xs, int from, int to) {
+            final X pivot = xs[from];
+            int first = from;
+            int last = to;
+            // NOTE: the scan from the left must stop because choosePivot left an element not less than the pivot near the end.
+            //noinspection StatementWithEmptyBody
+            while (helper.less(xs[++first], pivot)) ;
+            // NOTE: if an element less than the pivot was found, the scan from the right must stop there.
+            if (first - 1 == from)
+                //noinspection StatementWithEmptyBody
+                while (first < last && !helper.less(xs[--last], pivot)) ;
+            else
+                //noinspection StatementWithEmptyBody
+                while (!helper.less(xs[--last], pivot)) ;
+            final boolean alreadyPartitioned = first >= last;
+            while (first < last) {
+                helper.swap(xs, first, last);
+                //noinspection StatementWithEmptyBody
+                while (helper.less(xs[++first], pivot)) ;
+                //noinspection StatementWithEmptyBody
+                while (!helper.less(xs[--last], pivot)) ;
+            }
+            final int p = first - 1;
+            helper.swap(xs, from, p);
+            return alreadyPartitioned ? -p - 1 : p;
+        }
+
+        /**
+         * Method to partition xs[from] .. xs[to-1] about the pivot at xs[from], such that the elements equal to the pivot go to the left.
+         *
+         * @return the final index of the pivot.
+         */
+        int partitionLeft(X[] xs, int from, int to) {
+            final X pivot = xs[from];
+            int first = from;
+            int last = to;
+            //noinspection StatementWithEmptyBody
+            while (helper.less(pivot, xs[--last])) ;
+            if (last + 1 == to)
+                //noinspection StatementWithEmptyBody
+                while (first < last && !helper.less(pivot, xs[++first])) ;
+            else
+                //noinspection StatementWithEmptyBody
+                while (!helper.less(pivot, xs[++first])) ;
+            while (first < last) {
+                helper.swap(xs, first, last);
+                //noinspection StatementWithEmptyBody
+                while (helper.less(pivot, xs[--last])) ;
+                //noinspection StatementWithEmptyBody
+                while (!helper.less(pivot, xs[++first])) ;
+            }
+            helper.swap(xs, from, last);
+            return last;
+        }
+
+        /**
+         * Method to attempt an insertion sort of xs[from] .. xs[to-1], giving up once more than PARTIAL_INSERTION_LIMIT elements have been moved.
+         *
+         * @return true if the sub-array is now sorted.
+         */
+        boolean partialInsertionSort(X[] xs, int from, int to) {
+            int moves = 0;
+            for (int i = from + 1; i < to; i++) {
+                if (moves > PARTIAL_INSERTION_LIMIT) return false;
+                int j = i;
+                for (; j > from && helper.less(xs[j], xs[j - 1]); j--) helper.swap(xs, j - 1, j);
+                moves += i - j;
+            }
+            return true;
+        }
+
+        private void sort3(X[] xs, int a, int b, int c) {
+            helper.swapConditional(xs, a, b);
+            helper.swapConditional(xs, b, c);
+            helper.swapConditional(xs, a, b);
+        }
+
+        private final Helper<X> helper;
+    }
+
+    private static int floor_lg(int a) {
+        return 31 - Integer.numberOfLeadingZeros(a);
+    }
+
+    private static final int INSERTION_THRESHOLD = 24;
+    private static final int NINTHER_THRESHOLD = 128;
+    private static final int PARTIAL_INSERTION_LIMIT = 8;
+}
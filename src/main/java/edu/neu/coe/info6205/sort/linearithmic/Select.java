@@ -0,0 +1,223 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.pq.PQException;
+import edu.neu.coe.info6205.pq.PriorityQueue;
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortException;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class to select the kth smallest element(s) of an array (or of a stream) without fully sorting it.
+ * <p>
+ * The array methods are based on the partitioner of a QuickSort (by default, dual-pivot quicksort):
+ * <ul>
+ *     <li>select (quickselect): partition, then continue with only the partition which contains index k,
+ *     until index k is the final position of a pivot or the partition is small enough for insertion sort:
+ *     linear on average but quadratic in the worst case;</li>
+ *     <li>introSelect (introselect): as for select, but after 2 lg(n) partitionings, the remaining partition is finished by a heap select,
+ *     which guarantees O(n log n) in the worst case;</li>
+ *     <li>partialSort: introSelect the (k-1)th element and then sort the first k-1 elements.</li>
+ * </ul>
+ * On return from each of these, xs[k] is the element which would be at index k if xs were sorted,
+ * no element before index k is greater than it and no element after it is less than it.
+ * <p>
+ * The method topK takes an Iterable and retains only the k smallest elements seen so far, in a (bounded) PriorityQueue,
+ * so that it uses O(k) memory regardless of the length of the stream.
+ * <p>
+ * NOTE: a Select may not be used by two threads at once.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class Select<X> {
+
+    public static final String DESCRIPTION = "Select";
+
+    /**
+     * Constructor for Select.
+     *
+     * @param quickSort the QuickSort whose helper, partitioner and small sort will be used.
+     */
+    public Select(QuickSort<X> quickSort) {
+        this.quickSort = quickSort;
+        this.helper = quickSort.getHelper();
+        this.partitioner = quickSort.createPartitioner();
+    }
+
+    /**
+     * Constructor for Select which uses dual-pivot quicksort.
+     *
+     * @param helper an explicit instance of Helper to be used.
+     */
+    public Select(Helper<X> helper) {
+        this(new QuickSort_DualPivot<>(helper));
+    }
+
+    public Select(Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config));
+    }
+
+    /**
+     * Quickselect the kth smallest element of xs.
+     *
+     * @param xs the array (which will be partially reordered).
+     * @param k  the index (from 0) of the required element in the sorted order.
+     * @return the kth smallest element.
+     */
+    public X select(X[] xs, int k) {
+        return select(xs, 0, xs.length, k);
+    }
+
+    /**
+     * Quickselect the element of xs[from] .. xs[to-1] which belongs at index k.
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to consider.
+     * @param to   the index of the first element not to consider.
+     * @param k    the index (from &lt;= k &lt; to) of the required element.
+     * @return the element which belongs at index k.
+     */
+    public X select(X[] xs, int from, int to, int k) {
+        return select(xs, from, to, k, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Introselect the kth smallest element of xs.
+     *
+     * @param xs the array (which will be partially reordered).
+     * @param k  the index (from 0) of the required element in the sorted order.
+     * @return the kth smallest element.
+     */
+    public X introSelect(X[] xs, int k) {
+        return introSelect(xs, 0, xs.length, k);
+    }
+
+    /**
+     * Introselect the element of xs[from] .. xs[to-1] which belongs at index k.
+     *
+     * @param xs   the complete array from which this sub-array derives.
+     * @param from the index of the first element to consider.
+     * @param to   the index of the first element not to consider.
+     * @param k    the index (from &lt;= k &lt; to) of the required element.
+     * @return the element which belongs at index k.
+     */
+    public X introSelect(X[] xs, int from, int to, int k) {
+        return select(xs, from, to, k, 2 * floor_lg(to - from));
+    }
+
+    /**
+     * Rearrange xs such that its first k elements are the k smallest, in order.
+     *
+     * @param xs the array.
+     * @param k  the number of elements required to be in order.
+     */
+    public void partialSort(X[] xs, int k) {
+        if (k <= 0) return;
+        if (k >= xs.length) {
+            quickSort.sort(xs, 0, xs.length);
+            return;
+        }
+        introSelect(xs, 0, xs.length, k - 1);
+        quickSort.sort(xs, 0, k - 1);
+    }
+
+    /**
+     * Get the k smallest elements of the given stream, in order.
+     *
+     * @param xs the stream of elements.
+     * @param k  the number of elements required.
+     * @return a list of the (at most) k smallest elements of xs, in order.
+     */
+    public List<X> topK(Iterable<X> xs, int k) {
+        if (k < 0) throw new IllegalArgumentException("Select.topK: k may not be negative: " + k);
+        final List<X> result = new ArrayList<>();
+        if (k == 0) return result;
+        // NOTE: the PriorityQueue is a max PQ, so that its root is the greatest of the k smallest elements seen so far.
+        final PriorityQueue<X> pq = new PriorityQueue<>(k, true, helper::compare, true);
+        try {
+            for (X x : xs)
+                if (pq.size() < k) pq.give(x);
+                else if (helper.less(x, pq.peek())) {
+                    pq.take();
+                    pq.give(x);
+                }
+            while (!pq.isEmpty()) result.add(pq.take());
+        } catch (PQException e) {
+            throw new SortException("Select.topK: logic error", e);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public Helper<X> getHelper() {
+        return helper;
+    }
+
+    /**
+     * Select the element of xs[from] .. xs[to-1] which belongs at index k, resorting to a heap select after limit partitionings.
+     * <p>
+     * NOTE: this is package-private for testing.
+     */
+    X select(X[] xs, int from, int to, int k, int limit) {
+        if (k < from || k >= to)
+            throw new IllegalArgumentException("Select: k (" + k + ") must be in the range " + from + " to " + (to - 1));
+        int lo = from, hi = to;
+        while (hi - lo > helper.cutoff()) {
+            if (limit-- <= 0) {
+                heapSelect(xs, lo, hi, k);
+                return xs[k];
+            }
+            final int n = partitioner.partition(xs, lo, hi, bounds);
+            int i = 0;
+            while (i < n && (k < bounds[2 * i] || k >= bounds[2 * i + 1])) i++;
+            // NOTE: if k is in none of the partitions, it is the final position of a pivot.
+            if (i == n) return xs[k];
+            lo = bounds[2 * i];
+            hi = bounds[2 * i + 1];
+        }
+        quickSort.getInsertionSort().sort(xs, lo, hi);
+        return xs[k];
+    }
+
+    /**
+     * Select the element of xs[lo] .. xs[hi-1] which belongs at index k using a max-heap of xs[lo] .. xs[k]:
+     * each remaining element which is less than the root replaces it.
+     * In the end, the heap holds the k-lo+1 smallest elements and its root (which is moved to index k) is the greatest of them.
+     */
+    private void heapSelect(X[] xs, int lo, int hi, int k) {
+        final int m = k - lo + 1;
+        for (int i = m / 2; i >= 1; i--) sink(xs, lo, i, m);
+        for (int j = k + 1; j < hi; j++)
+            if (helper.less(xs[j], xs[lo])) {
+                helper.swap(xs, lo, j);
+                sink(xs, lo, 1, m);
+            }
+        helper.swap(xs, lo, k);
+    }
+
+    /**
+     * Sink the element at (1-based) index i of the heap of m elements which starts at xs[lo].
+     */
+    private void sink(X[] xs, int lo, int i, int m) {
+        while (2 * i <= m) {
+            int child = 2 * i;
+            if (child < m && helper.less(xs[lo + child - 1], xs[lo + child])) child++;
+            if (!helper.less(xs[lo + i - 1], xs[lo + child - 1])) break;
+            helper.swap(xs, lo + i - 1, lo + child - 1);
+            i = child;
+        }
+    }
+
+    private static int floor_lg(int a) {
+        return 31 - Integer.numberOfLeadingZeros(a);
+    }
+
+    private final QuickSort<X> quickSort;
+    private final Helper<X> helper;
+    private final Partitioner<X> partitioner;
+    private final int[] bounds = new int[2 * QuickSort.MAX_PARTITIONS];
+}
@@ -10,13 +10,16 @@ import edu.neu.coe.info6205.util.Config;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * Sorter which delegates to Timsort via Arrays.sort.
+ * <p>
+ * NOTE: the helper is therefore used only for its Comparator (and cannot count anything): see NaturalMergeSort for a version which uses it.
  *
  * @param <X>
  */
-public class TimSort<X extends Comparable<X>> extends SortWithHelper<X> {
+public class TimSort<X> extends SortWithHelper<X> {
 
     /**
      * Constructor for TimSort
@@ -41,8 +44,23 @@ public class TimSort<X extends Comparable<X>> extends SortWithHelper<X> {
         this(new BaseHelper<>(DESCRIPTION, Config.load(TimSort.class)));
     }
 
+    /**
+     * Constructor for TimSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public TimSort(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+    }
+
+    public TimSort(Comparator<X> comparator) throws IOException {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, Config.load(TimSort.class)));
+    }
+
     public void sort(X[] xs, int from, int to) {
-        Arrays.sort(xs, from, to);
+        Arrays.sort(xs, from, to, getHelper().getComparator());
     }
 
     public static final String DESCRIPTION = "Timsort";
@@ -0,0 +1,253 @@
+package edu.neu.coe.info6205.sort.par;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class to implement a parallel merge sort for arrays of elements (Comparable, or ordered by the Comparator of the Helper), based on the fork/join framework.
+ * <p>
+ * A single auxiliary array is allocated (and filled) once per sort.
+ * Thereafter, the roles of the array and the auxiliary array are interchanged at each level of the recursion,
+ * so that no further copying is required (the "no-copy" optimization).
+ * Sub-arrays no larger than threshold are sorted sequentially; and sub-arrays no larger than helper.cutoff()
+ * are sorted by insertion sort.
+ * <p>
+ * Merges of runs larger than threshold are themselves done in parallel: the output is split in half by finding
+ * the co-rank of its middle position (see ParSort.coRank) and each pair of sub-runs is merged as its own task.
+ * <p>
+ * NOTE that the Helper is shared by all of the threads, so an InstrumentedHelper will not give reliable counts.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class ParMergeSort<X> extends SortWithHelper<X> {
+
+    public static final String DESCRIPTION = "Parallel MergeSort";
+
+    /**
+     * Constructor for ParMergeSort
+     *
+     * @param helper    an explicit instance of Helper to be used.
+     * @param threshold the size of sub-array below which we do not fork new tasks.
+     * @param pool      the ForkJoinPool on which to run the tasks.
+     */
+    public ParMergeSort(Helper<X> helper, int threshold, ForkJoinPool pool) {
+        super(helper);
+        this.threshold = threshold;
+        this.pool = pool;
+        insertionSort = new InsertionSort<>(helper);
+    }
+
+    /**
+     * Constructor for ParMergeSort which uses the common pool.
+     *
+     * @param helper an explicit instance of Helper to be used.
+     */
+    public ParMergeSort(Helper<X> helper) {
+        this(helper, getThreshold(helper.getConfig()), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for ParMergeSort
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     */
+    public ParMergeSort(int N, Config config) {
+        super(DESCRIPTION, N, config);
+        this.threshold = getThreshold(config);
+        this.pool = ForkJoinPool.commonPool();
+        insertionSort = new InsertionSort<>(getHelper());
+    }
+
+    public ParMergeSort(Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config));
+    }
+
+    /**
+     * Constructor for ParMergeSort
+     *
+     * @param N          the number elements we expect to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param config     the configuration.
+     */
+    public ParMergeSort(int N, Comparator<X> comparator, Config config) {
+        super(DESCRIPTION, N, comparator, config);
+        this.threshold = getThreshold(config);
+        this.pool = ForkJoinPool.commonPool();
+        insertionSort = new InsertionSort<>(getHelper());
+    }
+
+    public ParMergeSort(Comparator<X> comparator, Config config) {
+        this(new BaseHelper<>(DESCRIPTION, 0, comparator, config));
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1] using parallel merge sort.
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    @Override
+    public void sort(X[] xs, int from, int to) {
+        if (to - from <= getHelper().cutoff()) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        // NOTE: this is the only allocation (and the only bulk copy) of the entire sort.
+        X[] aux = Arrays.copyOf(xs, to);
+        getHelper().incrementCopies(to - from);
+        pool.invoke(new MergeSortTask(aux, xs, from, to));
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sort the sub-array from[lo] .. from[hi-1] placing the result in to[lo] .. to[hi-1].
+     * On entry, both arrays must have the same content in the range lo .. hi-1.
+     * This method runs sequentially.
+     *
+     * @param from the source array.
+     * @param to   the target array.
+     * @param lo   the index of the first element to sort.
+     * @param hi   the index of the first element not to sort.
+     */
+    void sort(X[] from, X[] to, int lo, int hi) {
+        if (hi - lo <= getHelper().cutoff()) {
+            insertionSort.sort(to, lo, hi);
+            return;
+        }
+        int mid = lo + (hi - lo) / 2;
+        sort(to, from, lo, mid);
+        sort(to, from, mid, hi);
+        merge(from, to, lo, mid, hi);
+    }
+
+    /**
+     * Merge from[lo] .. from[mid-1] with from[mid] .. from[hi-1] into to[lo] .. to[hi-1].
+     */
+    private void merge(X[] from, X[] to, int lo, int mid, int hi) {
+        merge(from, lo, mid, mid, hi, to, lo);
+    }
+
+    /**
+     * Fork/join task which sorts from[lo] .. from[hi-1] into to[lo] .. to[hi-1].
+     */
+    class MergeSortTask extends RecursiveAction {
+
+        MergeSortTask(X[] from, X[] to, int lo, int hi) {
+            this.from = from;
+            this.to = to;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= Math.max(threshold, getHelper().cutoff())) sort(from, to, lo, hi);
+            else {
+                int mid = lo + (hi - lo) / 2;
+                invokeAll(new MergeSortTask(to, from, lo, mid), new MergeSortTask(to, from, mid, hi));
+                new MergeTask(from, lo, mid, mid, hi, to, lo).compute();
+            }
+        }
+
+        private final X[] from;
+        private final X[] to;
+        private final int lo;
+        private final int hi;
+    }
+
+    /**
+     * Fork/join task which merges xs[aLo] .. xs[aHi-1] with xs[bLo] .. xs[bHi-1] into ys[k] .. .
+     */
+    class MergeTask extends RecursiveAction {
+
+        MergeTask(X[] xs, int aLo, int aHi, int bLo, int bHi, X[] ys, int k) {
+            this.xs = xs;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.ys = ys;
+            this.k = k;
+        }
+
+        @Override
+        protected void compute() {
+            int n = aHi - aLo + bHi - bLo;
+            if (n <= Math.max(threshold, 1)) merge(xs, aLo, aHi, bLo, bHi, ys, k);
+            else {
+                int half = n / 2;
+                int i = coRank(half, xs, aLo, aHi, bLo, bHi);
+                int j = half - i;
+                invokeAll(new MergeTask(xs, aLo, aLo + i, bLo, bLo + j, ys, k), new MergeTask(xs, aLo + i, aHi, bLo + j, bHi, ys, k + half));
+            }
+        }
+
+        private final X[] xs;
+        private final int aLo;
+        private final int aHi;
+        private final int bLo;
+        private final int bHi;
+        private final X[] ys;
+        private final int k;
+    }
+
+    /**
+     * Method to determine the co-rank of output position k when merging xs[aLo..aHi) with xs[bLo..bHi).
+     * Ties are resolved in favor of the left run so that the merge is stable.
+     *
+     * @return the number of the first k merged elements which come from the left run.
+     */
+    int coRank(int k, X[] xs, int aLo, int aHi, int bLo, int bHi) {
+        final Helper<X> helper = getHelper();
+        int lo = Math.max(0, k - (bHi - bLo));
+        int hi = Math.min(k, aHi - aLo);
+        while (lo < hi) {
+            int i = (lo + hi) >>> 1;
+            if (!helper.less(xs[bLo + k - i - 1], xs[aLo + i])) lo = i + 1;
+            else hi = i;
+        }
+        return lo;
+    }
+
+    /**
+     * Merge xs[aLo] .. xs[aHi-1] with xs[bLo] .. xs[bHi-1] into ys[k] .. (sequentially).
+     */
+    private void merge(X[] xs, int aLo, int aHi, int bLo, int bHi, X[] ys, int k) {
+        final Helper<X> helper = getHelper();
+        int i = aLo;
+        int j = bLo;
+        for (; i < aHi || j < bHi; k++)
+            if (i >= aHi) helper.copy(xs, j++, ys, k);
+            else if (j >= bHi) helper.copy(xs, i++, ys, k);
+            else if (helper.less(xs[j], xs[i])) {
+                helper.incrementFixes(aHi - i);
+                helper.copy(xs, j++, ys, k);
+            } else helper.copy(xs, i++, ys, k);
+    }
+
+    public static final String PARMERGESORT = "parmergesort";
+    public static final String THRESHOLD = "threshold";
+
+    private static int getThreshold(Config config) {
+        return config != null ? config.getInt(PARMERGESORT, THRESHOLD, DEFAULT_THRESHOLD) : DEFAULT_THRESHOLD;
+    }
+
+    private static final int DEFAULT_THRESHOLD = 8192;
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+    private final InsertionSort<X> insertionSort;
+}
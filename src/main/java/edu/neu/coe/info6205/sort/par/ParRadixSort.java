@@ -0,0 +1,203 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.neu.coe.info6205.sort.par.ParUtilities.chunkStart;
+import static edu.neu.coe.info6205.sort.par.ParUtilities.forEach;
+import static edu.neu.coe.info6205.sort.par.ParUtilities.offsets;
+
+/**
+ * Parallel least-significant-digit radix sort for arrays of int and long, using byte-wide digits (radix 256).
+ * <p>
+ * Unlike sort.counting.RadixSort, this sort handles negative numbers: the sign bit is flipped when each digit is extracted,
+ * so that the most significant digit orders negative numbers before non-negative numbers.
+ * <p>
+ * The algorithm proceeds as follows:
+ * <ol>
+ *     <li>the histograms of all digits are built in a single pass, each chunk of the input being counted by its own task;</li>
+ *     <li>any digit for which every key falls into the same bucket is skipped entirely;</li>
+ *     <li>for each remaining digit, per-chunk counts are converted into per-chunk positions and each chunk is scattered
+ *     (stably) by its own task into the other of the two arrays;</li>
+ * </ol>
+ * A single scratch array is allocated for each sort and its role is interchanged with that of the array after each pass.
+ */
+public class ParRadixSort {
+
+    /**
+     * Constructor for ParRadixSort.
+     *
+     * @param pool the ForkJoinPool on which to run the tasks.
+     */
+    public ParRadixSort(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Constructor for ParRadixSort which uses the common pool.
+     */
+    public ParRadixSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public void sort(int[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    public void sort(long[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(int[] xs, int from, int to) {
+        final int n = to - from;
+        if (n < SMALL) {
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        final int chunks = chunks(n);
+        final int[][][] histograms = new int[chunks][Integer.BYTES][RADIX];
+        forEach(pool, chunks, c -> {
+            final int[][] h = histograms[c];
+            for (int i = from + chunkStart(c, n, chunks), hi = from + chunkStart(c + 1, n, chunks); i < hi; i++) {
+                final int x = xs[i] ^ Integer.MIN_VALUE;
+                h[0][x & MASK]++;
+                h[1][(x >>> 8) & MASK]++;
+                h[2][(x >>> 16) & MASK]++;
+                h[3][x >>> 24]++;
+            }
+        });
+
+        int[] src = xs;
+        int srcOff = from;
+        int[] aux = null;
+        boolean counted = true;
+        for (int d = 0; d < Integer.BYTES; d++) {
+            if (isTrivial(histograms, d, n)) continue;
+            if (aux == null) aux = new int[n];
+            final int shift = d * 8;
+            final int[] source = src;
+            final int sourceOff = srcOff;
+            final int[] target = src == xs ? aux : xs;
+            final int targetOff = src == xs ? 0 : from;
+            final int[][] counts = new int[chunks][];
+            if (counted)
+                for (int c = 0; c < chunks; c++) counts[c] = histograms[c][d];
+            else
+                forEach(pool, chunks, c -> {
+                    final int[] count = new int[RADIX];
+                    for (int i = sourceOff + chunkStart(c, n, chunks), hi = sourceOff + chunkStart(c + 1, n, chunks); i < hi; i++)
+                        count[((source[i] ^ Integer.MIN_VALUE) >>> shift) & MASK]++;
+                    counts[c] = count;
+                });
+            offsets(counts);
+            forEach(pool, chunks, c -> {
+                final int[] position = counts[c];
+                for (int i = sourceOff + chunkStart(c, n, chunks), hi = sourceOff + chunkStart(c + 1, n, chunks); i < hi; i++) {
+                    final int x = source[i];
+                    target[targetOff + position[((x ^ Integer.MIN_VALUE) >>> shift) & MASK]++] = x;
+                }
+            });
+            src = target;
+            srcOff = targetOff;
+            // NOTE: the histograms of the original array are no longer valid for the per-chunk counts of the next pass.
+            counted = false;
+        }
+        if (src != xs) System.arraycopy(src, 0, xs, from, n);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(long[] xs, int from, int to) {
+        final int n = to - from;
+        if (n < SMALL) {
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        final int chunks = chunks(n);
+        final int[][][] histograms = new int[chunks][Long.BYTES][RADIX];
+        forEach(pool, chunks, c -> {
+            final int[][] h = histograms[c];
+            for (int i = from + chunkStart(c, n, chunks), hi = from + chunkStart(c + 1, n, chunks); i < hi; i++) {
+                final long x = xs[i] ^ Long.MIN_VALUE;
+                for (int d = 0; d < Long.BYTES; d++) h[d][(int) (x >>> (d * 8)) & MASK]++;
+            }
+        });
+
+        long[] src = xs;
+        int srcOff = from;
+        long[] aux = null;
+        boolean counted = true;
+        for (int d = 0; d < Long.BYTES; d++) {
+            if (isTrivial(histograms, d, n)) continue;
+            if (aux == null) aux = new long[n];
+            final int shift = d * 8;
+            final long[] source = src;
+            final int sourceOff = srcOff;
+            final long[] target = src == xs ? aux : xs;
+            final int targetOff = src == xs ? 0 : from;
+            final int[][] counts = new int[chunks][];
+            if (counted)
+                for (int c = 0; c < chunks; c++) counts[c] = histograms[c][d];
+            else
+                forEach(pool, chunks, c -> {
+                    final int[] count = new int[RADIX];
+                    for (int i = sourceOff + chunkStart(c, n, chunks), hi = sourceOff + chunkStart(c + 1, n, chunks); i < hi; i++)
+                        count[(int) ((source[i] ^ Long.MIN_VALUE) >>> shift) & MASK]++;
+                    counts[c] = count;
+                });
+            offsets(counts);
+            forEach(pool, chunks, c -> {
+                final int[] position = counts[c];
+                for (int i = sourceOff + chunkStart(c, n, chunks), hi = sourceOff + chunkStart(c + 1, n, chunks); i < hi; i++) {
+                    final long x = source[i];
+                    target[targetOff + position[(int) ((x ^ Long.MIN_VALUE) >>> shift) & MASK]++] = x;
+                }
+            });
+            src = target;
+            srcOff = targetOff;
+            counted = false;
+        }
+        if (src != xs) System.arraycopy(src, 0, xs, from, n);
+    }
+
+    /**
+     * Method to determine whether every one of the n keys has the same value of digit d, in which case the pass can be skipped.
+     *
+     * @param histograms the per-chunk histograms of each digit.
+     * @param d          the digit.
+     * @param n          the total number of keys.
+     * @return true if one bucket of digit d contains all n keys.
+     */
+    static boolean isTrivial(int[][][] histograms, int d, int n) {
+        for (int b = 0; b < RADIX; b++) {
+            int total = 0;
+            for (int[][] histogram : histograms) total += histogram[d][b];
+            if (total == n) return true;
+            if (total > 0) return false;
+        }
+        return false;
+    }
+
+    private int chunks(int n) {
+        return Math.max(1, Math.min(pool.getParallelism(), n / MIN_CHUNK));
+    }
+
+    private static final int RADIX = 256;
+    private static final int MASK = RADIX - 1;
+    private static final int SMALL = 256;
+    private static final int MIN_CHUNK = 1 << 14;
+
+    private final ForkJoinPool pool;
+}
@@ -1,58 +1,145 @@
 package edu.neu.coe.info6205.sort.par;
 
 import java.util.Arrays;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * This code has been fleshed out by Ziyao Qiao. Thanks very much.
- * TODO tidy it up a bit.
+ * <p>
+ * Parallel merge sort of int arrays, based on the fork/join framework.
+ * Both the sorting of the two halves and the merging of the sorted halves are done in parallel.
+ * The merge splits its output into two equal halves by binary-searching for the "co-rank" of the middle output position,
+ * i.e. the number of elements which come from the left run, and then merges each pair of sub-runs as its own task.
+ * <p>
+ * A single auxiliary array is allocated for each sort and its role is interchanged with that of the array at each level.
  */
-class ParSort {
+public class ParSort {
 
     public static int cutoff = 1000;
     public static ForkJoinPool pool;
+
     public static void sort(int[] array, int from, int to) {
         if (to - from < cutoff) Arrays.sort(array, from, to);
         else {
-            // FIXME next few lines should be removed from public repo.
-            CompletableFuture<int[]> parsort1 = parsort(array, from, from + (to - from) / 2); // TO IMPLEMENT
-            CompletableFuture<int[]> parsort2 = parsort(array, from + (to - from) / 2, to); // TO IMPLEMENT
-            CompletableFuture<int[]> parsort = parsort1.thenCombine(parsort2, (xs1, xs2) -> {
-                int[] result = new int[xs1.length + xs2.length];
-                // TO IMPLEMENT
-                int i = 0;
-                int j = 0;
-                for (int k = 0; k < result.length; k++) {
-                    if (i >= xs1.length) {
-                        result[k] = xs2[j++];
-                    } else if (j >= xs2.length) {
-                        result[k] = xs1[i++];
-                    } else if (xs2[j] < xs1[i]) {
-                        result[k] = xs2[j++];
-                    } else {
-                        result[k] = xs1[i++];
-                    }
-                }
-                return result;
-            });
-
-            parsort.whenComplete((result, throwable) -> System.arraycopy(result, 0, array, from, result.length));
-//            System.out.println("# threads: "+ ForkJoinPool.commonPool().getRunningThreadCount());
-            parsort.join();
+            int[] aux = Arrays.copyOf(array, to);
+            getPool().invoke(new SortTask(aux, array, from, to));
+        }
+    }
+
+    /**
+     * Merge the sorted runs xs[aLo..aHi) and xs[bLo..bHi) into ys, starting at index k, in parallel.
+     *
+     * @param xs  the source array.
+     * @param aLo the index of the first element of the left run.
+     * @param aHi the index of the first element not in the left run.
+     * @param bLo the index of the first element of the right run.
+     * @param bHi the index of the first element not in the right run.
+     * @param ys  the target array.
+     * @param k   the index in ys of the first merged element.
+     */
+    static void merge(int[] xs, int aLo, int aHi, int bLo, int bHi, int[] ys, int k) {
+        getPool().invoke(new MergeTask(xs, aLo, aHi, bLo, bHi, ys, k));
+    }
+
+    /**
+     * Method to determine the co-rank of output position k when merging the sorted runs a[aLo..aHi) and b[bLo..bHi).
+     * The result i is the number of elements of the first k merged elements which are taken from a (the remaining k-i come from b).
+     * Ties are resolved in favor of a so that the merge is stable.
+     *
+     * @param k   the output position (0 &lt;= k &lt;= total length of both runs).
+     * @param a   the array containing the left run.
+     * @param aLo the index of the first element of the left run.
+     * @param aHi the index of the first element not in the left run.
+     * @param b   the array containing the right run.
+     * @param bLo the index of the first element of the right run.
+     * @param bHi the index of the first element not in the right run.
+     * @return the co-rank i, such that a[aLo+i-1] &lt;= b[bLo+k-i] and b[bLo+k-i-1] &lt; a[aLo+i].
+     */
+    static int coRank(int k, int[] a, int aLo, int aHi, int[] b, int bLo, int bHi) {
+        int lo = Math.max(0, k - (bHi - bLo));
+        int hi = Math.min(k, aHi - aLo);
+        while (lo < hi) {
+            int i = (lo + hi) >>> 1;
+            if (a[aLo + i] <= b[bLo + k - i - 1]) lo = i + 1;
+            else hi = i;
+        }
+        return lo;
+    }
+
+    private static void mergeSequential(int[] xs, int aLo, int aHi, int bLo, int bHi, int[] ys, int k) {
+        int i = aLo;
+        int j = bLo;
+        while (i < aHi && j < bHi) ys[k++] = xs[j] < xs[i] ? xs[j++] : xs[i++];
+        while (i < aHi) ys[k++] = xs[i++];
+        while (j < bHi) ys[k++] = xs[j++];
+    }
+
+    private static ForkJoinPool getPool() {
+        return pool != null ? pool : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Task to sort from[lo..hi) into to[lo..hi). On entry, both arrays have the same content in that range.
+     */
+    private static class SortTask extends RecursiveAction {
+
+        SortTask(int[] from, int[] to, int lo, int hi) {
+            this.from = from;
+            this.to = to;
+            this.lo = lo;
+            this.hi = hi;
         }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < Math.max(cutoff, 2)) Arrays.sort(to, lo, hi);
+            else {
+                int mid = lo + (hi - lo) / 2;
+                invokeAll(new SortTask(to, from, lo, mid), new SortTask(to, from, mid, hi));
+                new MergeTask(from, lo, mid, mid, hi, to, lo).compute();
+            }
+        }
+
+        private final int[] from;
+        private final int[] to;
+        private final int lo;
+        private final int hi;
     }
 
-    private static CompletableFuture<int[]> parsort(int[] array, int from, int to) {
-        return CompletableFuture.supplyAsync(
-                () -> {
-                    int[] result = new int[to - from];
-                    // TO IMPLEMENT
-                    System.arraycopy(array, from, result, 0, result.length);
-                    sort(result, 0, to - from);
-                    return result;
-
-                }, pool
-        );
+    /**
+     * Task to merge xs[aLo..aHi) with xs[bLo..bHi) into ys[k..).
+     */
+    private static class MergeTask extends RecursiveAction {
+
+        MergeTask(int[] xs, int aLo, int aHi, int bLo, int bHi, int[] ys, int k) {
+            this.xs = xs;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.ys = ys;
+            this.k = k;
+        }
+
+        @Override
+        protected void compute() {
+            int n = aHi - aLo + bHi - bLo;
+            if (n < Math.max(cutoff, 2)) mergeSequential(xs, aLo, aHi, bLo, bHi, ys, k);
+            else {
+                int half = n / 2;
+                int i = coRank(half, xs, aLo, aHi, xs, bLo, bHi);
+                int j = half - i;
+                invokeAll(new MergeTask(xs, aLo, aLo + i, bLo, bLo + j, ys, k), new MergeTask(xs, aLo + i, aHi, bLo + j, bHi, ys, k + half));
+            }
+        }
+
+        private final int[] xs;
+        private final int aLo;
+        private final int aHi;
+        private final int bLo;
+        private final int bHi;
+        private final int[] ys;
+        private final int k;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Utilities shared by the distribution-based parallel sorts in this package.
+ */
+class ParUtilities {
+
+    /**
+     * Method to invoke action on each of 0 thru count-1 as a separate task in pool, and wait for all to complete.
+     *
+     * @param pool   the ForkJoinPool.
+     * @param count  the number of tasks.
+     * @param action the action, which takes the index of the task.
+     */
+    static void forEach(ForkJoinPool pool, int count, IntConsumer action) {
+        if (count == 1) {
+            action.accept(0);
+            return;
+        }
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int k = i;
+            tasks.add(ForkJoinTask.adapt(() -> action.accept(k)));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * Method to yield the index of the first element of chunk c when n elements are divided into the given number of chunks.
+     *
+     * @param c      the chunk index (may be equal to chunks in order to get the end of the last chunk).
+     * @param n      the number of elements.
+     * @param chunks the number of chunks.
+     * @return the index of the first element of chunk c.
+     */
+    static int chunkStart(int c, int n, int chunks) {
+        return (int) ((long) n * c / chunks);
+    }
+
+    /**
+     * Method to convert the per-chunk bucket counts into per-chunk starting positions (in place).
+     * The buckets are laid out in order and, within each bucket, the chunks are laid out in order,
+     * so that a scatter based on these positions is stable.
+     *
+     * @param counts the count of elements of each bucket (the second index) in each chunk (the first index).
+     * @return the starting position of each bucket, plus a final element which is the total number of elements.
+     */
+    static int[] offsets(int[][] counts) {
+        final int p = counts[0].length;
+        final int[] starts = new int[p + 1];
+        int position = 0;
+        for (int b = 0; b < p; b++) {
+            starts[b] = position;
+            for (int[] count : counts) {
+                int x = count[b];
+                count[b] = position;
+                position += x;
+            }
+        }
+        starts[p] = position;
+        return starts;
+    }
+}
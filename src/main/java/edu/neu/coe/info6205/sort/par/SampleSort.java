@@ -0,0 +1,300 @@
+package edu.neu.coe.info6205.sort.par;
+
+import edu.neu.coe.info6205.util.Config;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.neu.coe.info6205.sort.par.ParUtilities.chunkStart;
+import static edu.neu.coe.info6205.sort.par.ParUtilities.forEach;
+import static edu.neu.coe.info6205.sort.par.ParUtilities.offsets;
+
+/**
+ * Parallel sample sort for arrays of int, long and Comparable elements (or elements of any type, given a Comparator).
+ * <p>
+ * The algorithm proceeds as follows:
+ * <ol>
+ *     <li>a random sample of p * oversampling elements is taken and sorted, and every oversampling-th element
+ *     becomes one of the p-1 splitters;</li>
+ *     <li>the input is divided into chunks and, in parallel, each element of each chunk is classified into one of the p buckets
+ *     (the bucket of each element is remembered in a byte array, the "oracle");</li>
+ *     <li>the chunks are scattered (in parallel) into an auxiliary array such that each bucket is contiguous;</li>
+ *     <li>each bucket is sorted independently (and in parallel) and copied back into the original array.</li>
+ * </ol>
+ * Thus, each element is moved only once (plus one copy back), rather than once for each level of a merge sort.
+ * <p>
+ * The number of buckets (p) and the oversampling factor are taken from the [samplesort] section of the configuration.
+ * Because the oracle is an array of bytes, the number of buckets may not exceed 256.
+ */
+public class SampleSort {
+
+    /**
+     * Constructor for SampleSort.
+     *
+     * @param buckets      the number of buckets (p), between 2 and 256.
+     * @param oversampling the number of samples taken for each bucket.
+     * @param pool         the ForkJoinPool on which to run the tasks.
+     * @param random       the source of randomness for sampling.
+     */
+    public SampleSort(int buckets, int oversampling, ForkJoinPool pool, Random random) {
+        if (buckets < 2 || buckets > MAX_BUCKETS)
+            throw new IllegalArgumentException("SampleSort: buckets must be between 2 and " + MAX_BUCKETS + ": " + buckets);
+        if (oversampling < 1)
+            throw new IllegalArgumentException("SampleSort: oversampling must be positive: " + oversampling);
+        this.buckets = buckets;
+        this.oversampling = oversampling;
+        this.pool = pool;
+        this.random = random;
+        this.chunks = pool.getParallelism();
+    }
+
+    /**
+     * Constructor for SampleSort which takes its parameters from the configuration and uses the common pool.
+     *
+     * @param config the configuration.
+     */
+    public SampleSort(Config config) {
+        this(getBuckets(config), config.getInt(SAMPLESORT, OVERSAMPLING, DEFAULT_OVERSAMPLING), ForkJoinPool.commonPool(), new Random(config.getLong("helper", "seed", System.currentTimeMillis())));
+    }
+
+    public void sort(int[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    public void sort(long[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    public <X extends Comparable<X>> void sort(X[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    public <X> void sort(X[] xs, Comparator<? super X> comparator) {
+        sort(xs, 0, xs.length, comparator);
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(int[] xs, int from, int to) {
+        final int n = to - from;
+        if (n < getThreshold()) {
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        final int[] sample = new int[buckets * oversampling];
+        for (int i = 0; i < sample.length; i++) sample[i] = xs[from + random.nextInt(n)];
+        Arrays.sort(sample);
+        final int[] splitters = new int[buckets - 1];
+        for (int i = 1; i < buckets; i++) splitters[i - 1] = sample[i * oversampling];
+
+        final byte[] oracle = new byte[n];
+        final int[][] counts = new int[chunks][buckets];
+        forEach(pool, chunks, c -> {
+            final int[] count = counts[c];
+            for (int i = chunkStart(c, n, chunks), hi = chunkStart(c + 1, n, chunks); i < hi; i++) {
+                final int b = bucket(splitters, xs[from + i]);
+                oracle[i] = (byte) b;
+                count[b]++;
+            }
+        });
+        final int[] starts = offsets(counts);
+
+        final int[] aux = new int[n];
+        forEach(pool, chunks, c -> {
+            final int[] position = counts[c];
+            for (int i = chunkStart(c, n, chunks), hi = chunkStart(c + 1, n, chunks); i < hi; i++)
+                aux[position[oracle[i] & 0xFF]++] = xs[from + i];
+        });
+
+        forEach(pool, buckets, b -> {
+            Arrays.sort(aux, starts[b], starts[b + 1]);
+            System.arraycopy(aux, starts[b], xs, from + starts[b], starts[b + 1] - starts[b]);
+        });
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    public void sort(long[] xs, int from, int to) {
+        final int n = to - from;
+        if (n < getThreshold()) {
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        final long[] sample = new long[buckets * oversampling];
+        for (int i = 0; i < sample.length; i++) sample[i] = xs[from + random.nextInt(n)];
+        Arrays.sort(sample);
+        final long[] splitters = new long[buckets - 1];
+        for (int i = 1; i < buckets; i++) splitters[i - 1] = sample[i * oversampling];
+
+        final byte[] oracle = new byte[n];
+        final int[][] counts = new int[chunks][buckets];
+        forEach(pool, chunks, c -> {
+            final int[] count = counts[c];
+            for (int i = chunkStart(c, n, chunks), hi = chunkStart(c + 1, n, chunks); i < hi; i++) {
+                final int b = bucket(splitters, xs[from + i]);
+                oracle[i] = (byte) b;
+                count[b]++;
+            }
+        });
+        final int[] starts = offsets(counts);
+
+        final long[] aux = new long[n];
+        forEach(pool, chunks, c -> {
+            final int[] position = counts[c];
+            for (int i = chunkStart(c, n, chunks), hi = chunkStart(c + 1, n, chunks); i < hi; i++)
+                aux[position[oracle[i] & 0xFF]++] = xs[from + i];
+        });
+
+        forEach(pool, buckets, b -> {
+            Arrays.sort(aux, starts[b], starts[b + 1]);
+            System.arraycopy(aux, starts[b], xs, from + starts[b], starts[b + 1] - starts[b]);
+        });
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1].
+     * The scatter preserves the original order within each bucket and each bucket is sorted by Arrays.sort (TimSort), so this sort is stable.
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     * @param <X>  the underlying type which must extend Comparable.
+     */
+    public <X extends Comparable<X>> void sort(X[] xs, int from, int to) {
+        sort(xs, from, to, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sort the sub-array xs[from] .. xs[to-1] in the order given by comparator.
+     * The scatter preserves the original order within each bucket and each bucket is sorted by Arrays.sort (TimSort), so this sort is stable.
+     *
+     * @param xs         the array to be sorted.
+     * @param from       the index of the first element to sort.
+     * @param to         the index of the first element not to sort.
+     * @param comparator the Comparator which defines the order of the elements.
+     * @param <X>        the underlying type.
+     */
+    public <X> void sort(X[] xs, int from, int to, Comparator<? super X> comparator) {
+        final int n = to - from;
+        if (n < getThreshold()) {
+            Arrays.sort(xs, from, to, comparator);
+            return;
+        }
+        final X[] sample = newArray(xs, buckets * oversampling);
+        for (int i = 0; i < sample.length; i++) sample[i] = xs[from + random.nextInt(n)];
+        Arrays.sort(sample, comparator);
+        final X[] splitters = newArray(xs, buckets - 1);
+        for (int i = 1; i < buckets; i++) splitters[i - 1] = sample[i * oversampling];
+
+        final byte[] oracle = new byte[n];
+        final int[][] counts = new int[chunks][buckets];
+        forEach(pool, chunks, c -> {
+            final int[] count = counts[c];
+            for (int i = chunkStart(c, n, chunks), hi = chunkStart(c + 1, n, chunks); i < hi; i++) {
+                final int b = bucket(splitters, xs[from + i], comparator);
+                oracle[i] = (byte) b;
+                count[b]++;
+            }
+        });
+        final int[] starts = offsets(counts);
+
+        final X[] aux = newArray(xs, n);
+        forEach(pool, chunks, c -> {
+            final int[] position = counts[c];
+            for (int i = chunkStart(c, n, chunks), hi = chunkStart(c + 1, n, chunks); i < hi; i++)
+                aux[position[oracle[i] & 0xFF]++] = xs[from + i];
+        });
+
+        forEach(pool, buckets, b -> {
+            Arrays.sort(aux, starts[b], starts[b + 1], comparator);
+            System.arraycopy(aux, starts[b], xs, from + starts[b], starts[b + 1] - starts[b]);
+        });
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public int getOversampling() {
+        return oversampling;
+    }
+
+    /**
+     * @return the size of array below which we simply use Arrays.sort.
+     */
+    int getThreshold() {
+        return Math.max(MIN_PARALLEL_SIZE, buckets * oversampling);
+    }
+
+    /**
+     * Method to yield the index of the bucket to which x belongs, i.e. the number of splitters which are not greater than x.
+     */
+    static int bucket(int[] splitters, int x) {
+        int lo = 0;
+        int hi = splitters.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (x < splitters[mid]) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    static int bucket(long[] splitters, long x) {
+        int lo = 0;
+        int hi = splitters.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (x < splitters[mid]) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    static <X> int bucket(X[] splitters, X x, Comparator<? super X> comparator) {
+        int lo = 0;
+        int hi = splitters.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(x, splitters[mid]) < 0) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X> X[] newArray(X[] xs, int n) {
+        return (X[]) Array.newInstance(xs.getClass().getComponentType(), n);
+    }
+
+    private static int getBuckets(Config config) {
+        return Math.min(MAX_BUCKETS, config.getInt(SAMPLESORT, BUCKETS, 4 * ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    public static final String SAMPLESORT = "samplesort";
+    public static final String BUCKETS = "buckets";
+    public static final String OVERSAMPLING = "oversampling";
+
+    private static final int MAX_BUCKETS = 256;
+    private static final int DEFAULT_OVERSAMPLING = 16;
+    private static final int MIN_PARALLEL_SIZE = 1 << 13;
+
+    private final int buckets;
+    private final int oversampling;
+    private final ForkJoinPool pool;
+    private final Random random;
+    private final int chunks;
+}
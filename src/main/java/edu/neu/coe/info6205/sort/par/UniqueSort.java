@@ -0,0 +1,215 @@
+package edu.neu.coe.info6205.sort.par;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort_3way;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static edu.neu.coe.info6205.sort.par.ParUtilities.chunkStart;
+import static edu.neu.coe.info6205.sort.par.ParUtilities.forEach;
+
+/**
+ * Class to sort an array and, at the same time, count the occurrences of each distinct element,
+ * yielding a (sorted) frequency table: a list of (key, count) pairs in the order of the keys.
+ * <p>
+ * The input is divided into chunks and each chunk is sorted (as its own task) by a sorter made for it by sorterFactory
+ * (by default, 3-way quicksort, which is well-suited to input with many duplicates).
+ * Each sorted chunk is collapsed into its (key, count) pairs, and then pairs of these tables are merged (again, each merge as its own task),
+ * with the counts of equal keys being summed, until only one table remains.
+ * Thus, the equal runs are collapsed before the merges, which only have to deal with the distinct keys of each chunk.
+ * <p>
+ * The number of chunks is taken from the [uniquesort] section of the configuration
+ * (by default, the parallelism of the common pool): one chunk gives a sequential sort-and-count.
+ * <p>
+ * NOTE that the Helper is shared by all of the threads, so an InstrumentedHelper will only give reliable counts if it is concurrent.
+ *
+ * @param <X> the underlying type (which must be Comparable unless the Helper has a Comparator).
+ */
+public class UniqueSort<X> {
+
+    public static final String DESCRIPTION = "Unique sort";
+
+    /**
+     * Constructor for UniqueSort.
+     *
+     * @param helper        the Helper to be used for comparisons (and by each of the sorters).
+     * @param sorterFactory a function to make a sorter (for one chunk) from the helper.
+     * @param chunks        the (maximum) number of chunks.
+     * @param pool          the ForkJoinPool on which to run the tasks.
+     */
+    public UniqueSort(Helper<X> helper, Function<Helper<X>, SortWithHelper<X>> sorterFactory, int chunks, ForkJoinPool pool) {
+        if (chunks < 1) throw new IllegalArgumentException("UniqueSort: chunks must be positive: " + chunks);
+        this.helper = helper;
+        this.sorterFactory = sorterFactory;
+        this.chunks = chunks;
+        this.pool = pool;
+    }
+
+    /**
+     * Constructor for UniqueSort which uses 3-way quicksort and the common pool.
+     *
+     * @param helper the Helper to be used.
+     */
+    public UniqueSort(Helper<X> helper) {
+        this(helper, QuickSort_3way::new, getChunks(helper.getConfig()), ForkJoinPool.commonPool());
+    }
+
+    public UniqueSort(Config config) {
+        this(new BaseHelper<>(DESCRIPTION, config));
+    }
+
+    /**
+     * Sort xs and count its distinct elements.
+     * The array itself is not changed.
+     *
+     * @param xs the array.
+     * @return a list of (key, count) pairs, one for each distinct element of xs, in sorted order.
+     */
+    public List<Count<X>> sortCount(X[] xs) {
+        return sortCount(xs, 0, xs.length);
+    }
+
+    /**
+     * Sort xs[from] .. xs[to-1] and count its distinct elements.
+     * The array itself is not changed.
+     *
+     * @param xs   the array.
+     * @param from the index of the first element.
+     * @param to   the index of the first element not to be considered.
+     * @return a list of (key, count) pairs, one for each distinct element of xs[from] .. xs[to-1], in sorted order.
+     */
+    public List<Count<X>> sortCount(X[] xs, int from, int to) {
+        final int n = to - from;
+        if (n == 0) return new ArrayList<>();
+        final X[] a = Arrays.copyOfRange(xs, from, to);
+        final int k = Math.max(1, Math.min(chunks, n / MIN_CHUNK));
+        final Count<X>[][] collapsed = newTables(k);
+        forEach(pool, k, c -> {
+            final int lo = chunkStart(c, n, k), hi = chunkStart(c + 1, n, k);
+            sorterFactory.apply(helper).sort(a, lo, hi);
+            collapsed[c] = collapse(a, lo, hi);
+        });
+        Count<X>[][] tables = collapsed;
+        while (tables.length > 1) {
+            final Count<X>[][] current = tables;
+            final Count<X>[][] next = newTables((current.length + 1) / 2);
+            forEach(pool, next.length, i -> next[i] = 2 * i + 1 < current.length ? merge(current[2 * i], current[2 * i + 1]) : current[2 * i]);
+            tables = next;
+        }
+        return Arrays.asList(tables[0]);
+    }
+
+    public Helper<X> getHelper() {
+        return helper;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    /**
+     * A key together with the number of times that it occurs.
+     *
+     * @param <X> the type of the key.
+     */
+    public static class Count<X> {
+
+        public Count(X key, long count) {
+            this.key = key;
+            this.count = count;
+        }
+
+        public X getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Count<?> that = (Count<?>) o;
+            return count == that.count && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, count);
+        }
+
+        @Override
+        public String toString() {
+            return key + ": " + count;
+        }
+
+        private final X key;
+        private final long count;
+    }
+
+    /**
+     * Collapse the equal runs of the sorted sub-array a[lo] .. a[hi-1] into (key, count) pairs.
+     */
+    private Count<X>[] collapse(X[] a, int lo, int hi) {
+        final Count<X>[] result = newTable(hi - lo);
+        int m = 0;
+        for (int i = lo, j; i < hi; i = j) {
+            j = i + 1;
+            while (j < hi && helper.compare(a[i], a[j]) == 0) j++;
+            result[m++] = new Count<>(a[i], j - i);
+        }
+        return Arrays.copyOf(result, m);
+    }
+
+    /**
+     * Merge two (sorted) tables, summing the counts of any key which is in both.
+     */
+    private Count<X>[] merge(Count<X>[] xs, Count<X>[] ys) {
+        final Count<X>[] result = newTable(xs.length + ys.length);
+        int i = 0, j = 0, m = 0;
+        while (i < xs.length && j < ys.length) {
+            final int cf = helper.compare(xs[i].key, ys[j].key);
+            if (cf < 0) result[m++] = xs[i++];
+            else if (cf > 0) result[m++] = ys[j++];
+            else result[m++] = new Count<>(xs[i].key, xs[i++].count + ys[j++].count);
+        }
+        while (i < xs.length) result[m++] = xs[i++];
+        while (j < ys.length) result[m++] = ys[j++];
+        return Arrays.copyOf(result, m);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <X> Count<X>[] newTable(int n) {
+        return (Count<X>[]) new Count[n];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <X> Count<X>[][] newTables(int n) {
+        return (Count<X>[][]) new Count[n][];
+    }
+
+    private static int getChunks(Config config) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return config != null ? config.getInt(UNIQUESORT, CHUNKS, parallelism) : parallelism;
+    }
+
+    public static final String UNIQUESORT = "uniquesort";
+    public static final String CHUNKS = "chunks";
+
+    private static final int MIN_CHUNK = 1 << 12;
+
+    private final Helper<X> helper;
+    private final Function<Helper<X>, SortWithHelper<X>> sorterFactory;
+    private final int chunks;
+    private final ForkJoinPool pool;
+}
@@ -17,7 +17,7 @@ import java.util.Map;
 public class Config {
 
     /**
-     * Method to copy this Config, but setting sectionName.optionName to be value.
+     * Method to copy this Config, but setting sectionName.optionName to be value (the section is added if necessary).
      *
      * @param sectionName the section name.
      * @param optionName  the option name.
@@ -27,6 +27,7 @@ public class Config {
     public Config copy(String sectionName, String optionName, String value) {
         Config result = new Config(copyIni());
         Profile.Section section = result.ini.get(sectionName);
+        if (section == null) section = result.ini.add(sectionName);
         section.put(optionName, value);
         result.ini.replace(sectionName, section);
         return result;
@@ -47,6 +48,12 @@ public class Config {
         return get(sectionName, optionName, boolean.class);
     }
 
+    public boolean getBoolean(final String sectionName, final String optionName, final boolean defaultValue) {
+        final String s = get(sectionName, optionName);
+        if (s == null || s.isEmpty()) return defaultValue;
+        return Boolean.parseBoolean(s);
+    }
+
     public int getInt(final String sectionName, final String optionName, final int defaultValue) {
         final String s = get(sectionName, optionName);
         if (s == null || s.isEmpty()) return defaultValue;
@@ -0,0 +1,117 @@
+/*
+  (c) Copyright 2018, 2019 Phasmid Software
+ */
+package edu.neu.coe.info6205.util;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.external.ExternalSort;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort_DualPivot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static edu.neu.coe.info6205.util.SortBenchmarkHelper.getWords;
+import static edu.neu.coe.info6205.util.Utilities.formatWhole;
+
+/**
+ * Benchmark for ExternalSort which times each phase (creating the runs and merging them) separately, as well as the whole sort.
+ * <p>
+ * The input is a file of words chosen at random from the Leipzig English corpus.
+ * The chunk size, fan-in, etc. are taken from the [externalsort] section of the configuration.
+ */
+public class ExternalSortBenchmark {
+
+    public ExternalSortBenchmark(Config config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Config config = Config.load(ExternalSortBenchmark.class);
+        logger.info("ExternalSortBenchmark.main: " + config.get("sortbenchmark", "version") + " with word counts: " + Arrays.toString(args));
+        if (args.length == 0) logger.warn("No word counts specified on the command line: using 1,000,000");
+        ExternalSortBenchmark benchmark = new ExternalSortBenchmark(config);
+        final String[] words = getWords("eng-uk_web_2002_100K-sentences.txt", line -> SortBenchmarkHelper.getWords(regexLeipzig, line));
+        if (args.length == 0) benchmark.sortWords(words, 1000000, 10);
+        for (String arg : args) benchmark.sortWords(words, Integer.parseInt(arg), 10);
+    }
+
+    /**
+     * Method to benchmark ExternalSort on a file of nWords words.
+     *
+     * @param words  the words from which to choose.
+     * @param nWords the number of words in the file.
+     * @param nRuns  the number of runs of each benchmark.
+     * @throws IOException if there is a problem writing the input file.
+     */
+    void sortWords(String[] words, int nWords, int nRuns) throws IOException {
+        final Random random = new Random();
+        final File input = File.createTempFile("words", ".txt");
+        input.deleteOnExit();
+        final File output = File.createTempFile("sorted", ".txt");
+        output.deleteOnExit();
+        Files.write(input.toPath(), Arrays.asList(Utilities.fillRandomArray(String.class, random, nWords, r -> words[r.nextInt(words.length)])), StandardCharsets.UTF_8);
+        final ExternalSort<String> sorter = new ExternalSort<>(new QuickSort_DualPivot<>(new BaseHelper<String>(QuickSort_DualPivot.DESCRIPTION, config)), ExternalSort.Lines.strings(), config);
+        logger.info("Testing with " + formatWhole(nRuns) + " runs of externally sorting " + formatWhole(nWords) + " words in chunks of " + formatWhole(sorter.getChunkSize()));
+
+        // NOTE: the runs are created (by the function) and deleted (by the post-function, i.e. with the clock stopped).
+        final double tRuns = new Benchmark_Timer<List<File>>(
+                "ExternalSort: create runs",
+                null,
+                runs -> runs.addAll(createRuns(sorter, input)),
+                runs -> {
+                    ExternalSort.delete(runs);
+                    runs.clear();
+                }
+        ).runFromSupplier(ArrayList::new, nRuns);
+        logger.info("ExternalSort: create runs: " + tRuns + "ms");
+
+        // NOTE: the runs are created by the pre-function (with the clock stopped) and deleted by the merge.
+        final double tMerge = new Benchmark_Timer<List<File>>(
+                "ExternalSort: merge",
+                runs -> createRuns(sorter, input),
+                runs -> merge(sorter, runs, output),
+                null
+        ).runFromSupplier(ArrayList::new, nRuns);
+        logger.info("ExternalSort: merge: " + tMerge + "ms");
+
+        final double tTotal = new Benchmark_Timer<File>(
+                "ExternalSort: total",
+                file -> merge(sorter, createRuns(sorter, file), output)
+        ).run(input, nRuns);
+        logger.info("ExternalSort: total: " + tTotal + "ms");
+        for (TimeLogger timeLogger : SortBenchmark.timeLoggersLinearithmic) timeLogger.log(tTotal, nWords);
+
+        Files.deleteIfExists(input.toPath());
+        Files.deleteIfExists(output.toPath());
+    }
+
+    private static List<File> createRuns(ExternalSort<String> sorter, File input) {
+        try {
+            return sorter.createRuns(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void merge(ExternalSort<String> sorter, List<File> runs, File output) {
+        try {
+            sorter.merge(runs, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    final static LazyLogger logger = new LazyLogger(ExternalSortBenchmark.class);
+
+    final static Pattern regexLeipzig = Pattern.compile("[~\\t]*\\t(([\\s\\p{Punct}\\uFF0C]*\\p{L}+)*)");
+
+    private final Config config;
+}
@@ -5,19 +5,35 @@ package edu.neu.coe.info6205.util;
 
 import edu.neu.coe.info6205.sort.BaseHelper;
 import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.sort.IntSortWithHelper;
 import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.sort.counting.CollationSort;
+import edu.neu.coe.info6205.sort.counting.MSDStringSort;
 import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.sort.elementary.IntShellSort;
 import edu.neu.coe.info6205.sort.elementary.ShellSort;
+import edu.neu.coe.info6205.sort.husky.HuskyCoderFactory;
+import edu.neu.coe.info6205.sort.husky.HuskySort;
+import edu.neu.coe.info6205.sort.keyed.KeyedSort;
 import edu.neu.coe.info6205.sort.linearithmic.TimSort;
 import edu.neu.coe.info6205.sort.linearithmic.*;
+import edu.neu.coe.info6205.sort.par.ParMergeSort;
+import edu.neu.coe.info6205.sort.par.ParRadixSort;
+import edu.neu.coe.info6205.sort.par.ParSort;
+import edu.neu.coe.info6205.sort.par.UniqueSort;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.Array;
+import java.text.Collator;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.chrono.ChronoLocalDateTime;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
@@ -63,6 +79,40 @@ public class SortBenchmark {
         ).runFromSupplier(intsSupplier, 100);
         for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t1, n);
 
+        if (isConfigBenchmarkIntegerSorter("radixsort")) {
+            final double t = new Benchmark_Timer<int[]>(
+                    "intArrayParRadixSort",
+                    (xs) -> Arrays.copyOf(xs, xs.length),
+                    new ParRadixSort()::sort,
+                    null
+            ).runFromSupplier(intsSupplier, 100);
+            for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+        }
+
+        if (isConfigBenchmarkIntegerSorter("parsort")) {
+            final double t = new Benchmark_Timer<int[]>(
+                    "intArrayParSort",
+                    (xs) -> Arrays.copyOf(xs, xs.length),
+                    (xs) -> ParSort.sort(xs, 0, xs.length),
+                    null
+            ).runFromSupplier(intsSupplier, 100);
+            for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+        }
+
+        if (isConfigBenchmarkIntegerSorter("primitivesorters")) {
+            final IntSortWithHelper[] sorters = {new IntShellSort(n, config), new IntMergeSort(n, config), new IntQuickSort_DualPivot(n, config), new IntIntroSort(n, config)};
+            for (IntSortWithHelper sorter : sorters) {
+                final double t = new Benchmark_Timer<int[]>(
+                        "intArray " + sorter.getHelper().getDescription(),
+                        (xs) -> Arrays.copyOf(xs, xs.length),
+                        sorter::mutatingSort,
+                        sorter::postProcess
+                ).runFromSupplier(intsSupplier, 100);
+                for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+                sorter.close();
+            }
+        }
+
         // sort Integer[]
         final Supplier<Integer[]> integersSupplier = () -> {
             Integer[] result = (Integer[]) Array.newInstance(Integer.class, n);
@@ -77,6 +127,144 @@ public class SortBenchmark {
                 null
         ).runFromSupplier(integersSupplier, 100);
         for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t2, n);
+
+        if (isConfigBenchmarkIntegerSorter("quicksortpdq")) {
+            // NOTE: pattern-defeating quicksort is run on each of the inputs, but dual-pivot quicksort only on the random input:
+            // NOTE: since it takes xs[lo] and xs[hi] as its pivots, it degrades to quadratic time on the ordered, reversed and organ-pipe inputs.
+            final Map<String, Supplier<Integer[]>> patterns = new LinkedHashMap<>();
+            patterns.put("random", integersSupplier);
+            patterns.put("ordered", () -> integerPattern(n, i -> i));
+            patterns.put("reversed", () -> integerPattern(n, i -> n - i));
+            patterns.put("partially ordered", () -> integerPattern(n, i -> i % 16 == 0 ? random.nextInt() : i));
+            patterns.put("organ pipe", () -> integerPattern(n, i -> i < n / 2 ? i : n - i));
+            for (Map.Entry<String, Supplier<Integer[]>> pattern : patterns.entrySet()) {
+                final List<SortWithHelper<Integer>> sorters = new ArrayList<>();
+                sorters.add(new QuickSort_PDQ<>(n, config));
+                if (pattern.getValue() == integersSupplier) sorters.add(new QuickSort_DualPivot<>(n, config));
+                for (SortWithHelper<Integer> sorter : sorters) {
+                    final double t = new Benchmark_Timer<Integer[]>(
+                            "integerArray " + pattern.getKey() + " " + sorter.getHelper().getDescription(),
+                            (xs) -> Arrays.copyOf(xs, xs.length),
+                            sorter::mutatingSort,
+                            sorter::postProcess
+                    ).runFromSupplier(pattern.getValue(), 100);
+                    for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+                    sorter.close();
+                }
+            }
+        }
+
+        if (isConfigBenchmarkIntegerSorter("blockpartition")) {
+            // NOTE: compare each quicksort with its block-partitioning variant (when instrumented, compare the hits too).
+            final Config basicBlock = config.copy(QuickSort_Basic.QUICKSORT_BASIC, QuickSort.BLOCKPARTITION, "true");
+            final Config dualPivotBlock = config.copy(QuickSort_DualPivot.QUICKSORT_DUALPIVOT, QuickSort.BLOCKPARTITION, "true");
+            final List<SortWithHelper<Integer>> sorters = Arrays.asList(
+                    new QuickSort_Basic<>(QuickSort_Basic.DESCRIPTION, n, config),
+                    new QuickSort_Basic<>(QuickSort_Basic.DESCRIPTION + " (block)", n, basicBlock),
+                    new QuickSort_DualPivot<>(QuickSort_DualPivot.DESCRIPTION, n, config),
+                    new QuickSort_DualPivot<>(QuickSort_DualPivot.DESCRIPTION + " (block)", n, dualPivotBlock));
+            for (SortWithHelper<Integer> sorter : sorters) {
+                final double t = new Benchmark_Timer<Integer[]>(
+                        "integerArray " + sorter.getHelper().getDescription(),
+                        (xs) -> Arrays.copyOf(xs, xs.length),
+                        sorter::mutatingSort,
+                        sorter::postProcess
+                ).runFromSupplier(integersSupplier, 100);
+                for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+                if (sorter.getHelper() instanceof InstrumentedHelper)
+                    logger.info(sorter.getHelper().getDescription() + ": " + ((InstrumentedHelper<Integer>) sorter.getHelper()).getStatPack());
+                sorter.close();
+            }
+        }
+
+        if (isConfigBenchmarkIntegerSorter("smallsort")) {
+            // NOTE: compare the small-sort strategies, first on their own (sorting each block of m elements) and then as the small sort of dual-pivot quicksort.
+            final String[] smallSorts = {InsertionSort.INSERTION, InsertionSort.BINARYINSERTION, InsertionSort.NETWORK};
+            for (String smallSort : smallSorts) {
+                final Config smallSortConfig = config.copy(QuickSort_DualPivot.QUICKSORT_DUALPIVOT, InsertionSort.SMALLSORT, smallSort);
+                for (int m : new int[]{8, 16}) {
+                    final InsertionSort<Integer> sorter = InsertionSort.create(new BaseHelper<Integer>(smallSort, n, smallSortConfig), QuickSort_DualPivot.QUICKSORT_DUALPIVOT);
+                    final double t = new Benchmark_Timer<Integer[]>(
+                            "integerArray blocks of " + m + " " + smallSort,
+                            (xs) -> Arrays.copyOf(xs, xs.length),
+                            (xs) -> {
+                                for (int lo = 0; lo < xs.length; lo += m) sorter.sort(xs, lo, Math.min(lo + m, xs.length));
+                            },
+                            null
+                    ).runFromSupplier(integersSupplier, 100);
+                    for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+                }
+                final SortWithHelper<Integer> sorter = new QuickSort_DualPivot<>(QuickSort_DualPivot.DESCRIPTION + " (" + smallSort + ")", n, smallSortConfig);
+                final double t = new Benchmark_Timer<Integer[]>(
+                        "integerArray " + sorter.getHelper().getDescription(),
+                        (xs) -> Arrays.copyOf(xs, xs.length),
+                        sorter::mutatingSort,
+                        sorter::postProcess
+                ).runFromSupplier(integersSupplier, 100);
+                for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+                if (sorter.getHelper() instanceof InstrumentedHelper)
+                    logger.info(sorter.getHelper().getDescription() + ": " + ((InstrumentedHelper<Integer>) sorter.getHelper()).getStatPack());
+                sorter.close();
+            }
+        }
+
+        if (isConfigBenchmarkIntegerSorter("adaptivesort")) {
+            // NOTE: compare each of the candidates of adaptive sort with adaptive sort itself (this is how the thresholds of [adaptivesort] were calibrated).
+            final Map<String, Supplier<Integer[]>> patterns = new LinkedHashMap<>();
+            patterns.put("random", integersSupplier);
+            patterns.put("few distinct", () -> integerPattern(n, i -> random.nextInt(64)));
+            patterns.put("1024 distinct", () -> integerPattern(n, i -> random.nextInt(1024)));
+            patterns.put("64 runs", () -> {
+                final Integer[] xs = integersSupplier.get();
+                for (int lo = 0; lo < n; lo += n / 64) Arrays.sort(xs, lo, Math.min(lo + n / 64, n));
+                return xs;
+            });
+            patterns.put("nearly ordered", () -> integerPattern(n, i -> i % 100 == 0 ? i - 50 : i));
+            for (Map.Entry<String, Supplier<Integer[]>> pattern : patterns.entrySet()) {
+                final AdaptiveSort<Integer> adaptiveSort = new AdaptiveSort<>(n, config);
+                logger.info("integerArray " + pattern.getKey() + ": " + adaptiveSort.sample(pattern.getValue().get(), 0, n) + " (" + adaptiveSort.choose(pattern.getValue().get(), 0, n) + ")");
+                final List<SortWithHelper<Integer>> sorters = new ArrayList<>();
+                for (AdaptiveSort.Strategy strategy : AdaptiveSort.Strategy.values())
+                    if (strategy != AdaptiveSort.Strategy.INSERTION) sorters.add(adaptiveSort.getSorter(strategy));
+                sorters.add(adaptiveSort);
+                for (SortWithHelper<Integer> sorter : sorters) {
+                    final double t = new Benchmark_Timer<Integer[]>(
+                            "integerArray " + pattern.getKey() + " " + sorter.getHelper().getDescription() + " " + sorter.getClass().getSimpleName(),
+                            (xs) -> Arrays.copyOf(xs, xs.length),
+                            (xs) -> sorter.sort(xs, 0, xs.length),
+                            null
+                    ).runFromSupplier(pattern.getValue(), 20);
+                    for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+                }
+                adaptiveSort.close();
+            }
+        }
+
+        if (isConfigBenchmarkIntegerSorter("cachesimulation")) {
+            // NOTE: compare the (simulated) cache behaviour of merge sort, quicksort and shell sort: see [cache].
+            final Config cacheConfig = config.copy(Config.HELPER, Config.INSTRUMENT, "true").copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.CACHE, "true");
+            final List<SortWithHelper<Integer>> sorters = Arrays.asList(
+                    new MergeSort<>(new InstrumentedHelper<Integer>(MergeSort.DESCRIPTION, n, cacheConfig)),
+                    new QuickSort_DualPivot<>(new InstrumentedHelper<Integer>(QuickSort_DualPivot.DESCRIPTION, n, cacheConfig)),
+                    new ShellSort<>(3, new InstrumentedHelper<Integer>(ShellSort.DESCRIPTION, n, cacheConfig)));
+            for (SortWithHelper<Integer> sorter : sorters) {
+                final double t = new Benchmark_Timer<Integer[]>(
+                        "integerArray " + sorter.getHelper().getDescription() + " (cache simulation)",
+                        (xs) -> Arrays.copyOf(xs, xs.length),
+                        sorter::mutatingSort,
+                        sorter::postProcess
+                ).runFromSupplier(integersSupplier, 10);
+                for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+                logger.info(sorter.getHelper().getDescription() + ": " + ((InstrumentedHelper<Integer>) sorter.getHelper()).getStatPack());
+                sorter.close();
+            }
+        }
+    }
+
+    private static Integer[] integerPattern(int n, IntFunction<Integer> f) {
+        final Integer[] result = new Integer[n];
+        for (int i = 0; i < n; i++) result[i] = f.apply(i);
+        return result;
     }
 
     // This was added by a Student. Need to figure out what to do with it. What's different from the method with int parameter??
@@ -106,6 +294,69 @@ public class SortBenchmark {
 
         // NOTE: Leipzig Chines words benchmarks (according to command-line arguments)
         doLeipzigBenchmark("zho-simp-tw_web_2014_10K-sentences.txt", 5000, 1000);
+
+        // NOTE: Leipzig Russian and Chinese words benchmarks, sorted in the order appropriate to each language
+        if (isConfigBenchmarkStringSorter("collationsort")) {
+            doCollationBenchmark("rus-su_web_2015_10K-words.txt", new Locale("ru"), 5000, 1000);
+            doCollationBenchmark("zho-simp-tw_web_2014_10K-words.txt", Locale.SIMPLIFIED_CHINESE, 5000, 1000);
+            doCollationBenchmark("zho-simp-tw_web_2014_10K-sentences.txt", Locale.SIMPLIFIED_CHINESE, 5000, 1000);
+        }
+
+        // NOTE: frequency table of all of the words (with their duplicates) in the 100K sentences of the Leipzig English corpus
+        if (isConfigBenchmarkStringSorter("uniquesort"))
+            doUniqueSortBenchmark("eng-uk_web_2002_100K-sentences.txt", 10);
+    }
+
+    /**
+     * Method to compare ways of making a sorted frequency table of all of the words in a corpus:
+     * counting in a HashMap and then sorting the keys; sorting all of the words and then counting the runs;
+     * and UniqueSort (sequential and parallel).
+     *
+     * @param resource the Leipzig resource from which to take the words.
+     * @param nRuns    the number of runs.
+     */
+    private void doUniqueSortBenchmark(String resource, int nRuns) throws FileNotFoundException {
+        final String[] corpus = SortBenchmarkHelper.getCorpus(resource, SortBenchmark::getLeipzigWords);
+        final int n = corpus.length;
+        final Helper<String> helper = new BaseHelper<>(UniqueSort.DESCRIPTION, n, config);
+        logger.info("Testing with " + formatWhole(nRuns) + " runs of counting " + formatWhole(n) + " words (" + formatWhole(new UniqueSort<>(helper).sortCount(corpus).size()) + " distinct)");
+        final double t1 = new Benchmark_Timer<String[]>("HashMap then sort keys", xs -> {
+            final Map<String, Long> counts = new HashMap<>();
+            for (String x : xs) counts.merge(x, 1L, Long::sum);
+            final String[] keys = counts.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+        }).run(corpus, nRuns);
+        for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t1, n);
+        final double t2 = new Benchmark_Timer<String[]>("sort then count runs", xs -> {
+            final String[] ys = Arrays.copyOf(xs, xs.length);
+            new QuickSort_3way<>(helper).sort(ys, 0, ys.length);
+            int distinct = ys.length > 0 ? 1 : 0;
+            for (int i = 1; i < ys.length; i++) if (!ys[i].equals(ys[i - 1])) distinct++;
+        }).run(corpus, nRuns);
+        for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t2, n);
+        for (int chunks : new int[]{1, ForkJoinPool.getCommonPoolParallelism()}) {
+            final UniqueSort<String> uniqueSort = new UniqueSort<>(helper, QuickSort_3way::new, chunks, ForkJoinPool.commonPool());
+            final double t = new Benchmark_Timer<String[]>(UniqueSort.DESCRIPTION + " with " + chunks + " chunks", uniqueSort::sortCount).run(corpus, nRuns);
+            for (TimeLogger timeLogger : timeLoggersLinearithmic) timeLogger.log(t, n);
+        }
+    }
+
+    /**
+     * Method to compare sorting with a Collator (called for every comparison) against CollationSort (which computes each key just once).
+     *
+     * @param resource the Leipzig resource from which to take the words.
+     * @param locale   the locale whose Collator defines the order.
+     * @param nWords   the number of words to be sorted.
+     * @param nRuns    the number of runs.
+     */
+    private void doCollationBenchmark(String resource, Locale locale, int nWords, int nRuns) throws FileNotFoundException {
+        final String[] words = getWords(resource, SortBenchmark::getLeipzigWords);
+        logger.info("Testing with " + formatWhole(nRuns) + " runs of sorting " + formatWhole(nWords) + " words in locale " + locale);
+        final Random random = new Random();
+        final Collator collator = Collator.getInstance(locale);
+        doPureBenchmark(words, nWords, nRuns, random, new Benchmark_Timer<>("SystemSort with Collator", null, xs -> Arrays.sort(xs, collator), null));
+        final CollationSort collationSort = new CollationSort(collator);
+        doPureBenchmark(words, nWords, nRuns, random, new Benchmark_Timer<>("CollationSort", null, xs -> collationSort.sort(xs, 0, xs.length), null));
     }
 
     private void doLeipzigBenchmarkEnglish(int x) {
@@ -136,6 +387,23 @@ public class SortBenchmark {
             // NOTE this is intended to replace the run two lines previous. It should take the exact same amount of time.
             runDateTimeSortBenchmark(LocalDateTime.class, localDateTimes, n, 100);
         }
+
+        if (isConfigBenchmarkDateSorter("parmergesort"))
+            logger.info(benchmarkFactory("Sort LocalDateTimes using ParMergeSort", new ParMergeSort<>(helper)::mutatingSort, null).runFromSupplier(localDateTimeSupplier, 100) + "ms");
+
+        if (isConfigBenchmarkDateSorter("huskysort"))
+            logger.info(benchmarkFactory("Sort LocalDateTimes using HuskySort", new HuskySort<>(helper, HuskyCoderFactory.chronoLocalDateTimeCoder)::mutatingSort, null).runFromSupplier(localDateTimeSupplier, 100) + "ms");
+
+        if (isConfigBenchmarkDateSorter("naturalmergesort"))
+            logger.info(benchmarkFactory("Sort LocalDateTimes using NaturalMergeSort", new NaturalMergeSort<>(helper)::mutatingSort, null).runFromSupplier(localDateTimeSupplier, 100) + "ms");
+
+        // NOTE: the key (microseconds since the epoch) is extracted just once per element and equal keys are resolved by compareTo.
+        if (isConfigBenchmarkDateSorter("keyedsort"))
+            logger.info(benchmarkFactory("Sort LocalDateTimes using KeyedSort", new KeyedSort.ByLong<>(SortBenchmark::epochMicros, false, helper)::mutatingSort, null).runFromSupplier(localDateTimeSupplier, 100) + "ms");
+    }
+
+    private static long epochMicros(ChronoLocalDateTime<?> x) {
+        return x.toEpochSecond(ZoneOffset.UTC) * 1000000 + x.toLocalTime().getNano() / 1000;
     }
 
     /**
@@ -166,12 +434,30 @@ public class SortBenchmark {
         if (isConfigBenchmarkStringSorter("quicksort3way"))
             runStringSortBenchmark(words, nWords, nRuns, new QuickSort_3way<>(nWords, config), timeLoggersLinearithmic);
 
+        if (isConfigBenchmarkStringSorter("quicksort3wayradix"))
+            runStringSortBenchmark(words, nWords, nRuns, new QuickSort_3wayRadix(nWords, config), timeLoggersLinearithmic);
+
+        if (isConfigBenchmarkStringSorter("huskysort"))
+            runStringSortBenchmark(words, nWords, nRuns, new HuskySort<>(nWords, HuskyCoderFactory.unicodeCoder, config), timeLoggersLinearithmic);
+
         if (isConfigBenchmarkStringSorter("quicksort"))
             runStringSortBenchmark(words, nWords, nRuns, new QuickSort_DualPivot<>(nWords, config), timeLoggersLinearithmic);
 
         if (isConfigBenchmarkStringSorter("introsort"))
             runStringSortBenchmark(words, nWords, nRuns, new IntroSort<>(nWords, config), timeLoggersLinearithmic);
 
+        if (isConfigBenchmarkStringSorter("parmergesort"))
+            runStringSortBenchmark(words, nWords, nRuns, new ParMergeSort<>(nWords, config), timeLoggersLinearithmic);
+
+        if (isConfigBenchmarkStringSorter("naturalmergesort"))
+            runStringSortBenchmark(words, nWords, nRuns, new NaturalMergeSort<>(nWords, config), timeLoggersLinearithmic);
+
+        if (isConfigBenchmarkStringSorter("msdstringsort")) {
+            final MSDStringSort msdStringSort = new MSDStringSort(config);
+            Benchmark<String[]> benchmark = new Benchmark_Timer<>("MSDStringSort", null, xs -> msdStringSort.sort(xs, 0, xs.length), null);
+            doPureBenchmark(words, nWords, nRuns, random, benchmark);
+        }
+
         // NOTE: this is very slow of course, so recommendation is not to enable this option.
         if (isConfigBenchmarkStringSorter("insertionsort"))
             runStringSortBenchmark(words, nWords, nRuns / 10, new InsertionSort<>(nWords, config), timeLoggersQuadratic);
@@ -208,12 +494,24 @@ public class SortBenchmark {
         if (isConfigBenchmarkStringSorter("quicksort3way"))
             runStringSortBenchmark(words, nWords, nRuns, new QuickSort_3way<>(nWords, config), timeLoggersLinearithmic);
 
+        if (isConfigBenchmarkStringSorter("quicksort3wayradix"))
+            runStringSortBenchmark(words, nWords, nRuns, new QuickSort_3wayRadix(nWords, config), timeLoggersLinearithmic);
+
+        if (isConfigBenchmarkStringSorter("huskysort"))
+            runStringSortBenchmark(words, nWords, nRuns, new HuskySort<>(nWords, HuskyCoderFactory.unicodeCoder, config), timeLoggersLinearithmic);
+
         if (isConfigBenchmarkStringSorter("quicksort"))
             runStringSortBenchmark(words, nWords, nRuns, new QuickSort_DualPivot<>(nWords, config), timeLoggersLinearithmic);
 
         if (isConfigBenchmarkStringSorter("introsort"))
             runStringSortBenchmark(words, nWords, nRuns, new IntroSort<>(nWords, config), timeLoggersLinearithmic);
 
+        if (isConfigBenchmarkStringSorter("parmergesort"))
+            runStringSortBenchmark(words, nWords, nRuns, new ParMergeSort<>(nWords, config), timeLoggersLinearithmic);
+
+        if (isConfigBenchmarkStringSorter("naturalmergesort"))
+            runStringSortBenchmark(words, nWords, nRuns, new NaturalMergeSort<>(nWords, config), timeLoggersLinearithmic);
+
         // NOTE: this is very slow of course, so recommendation is not to enable this option.
         if (isConfigBenchmarkStringSorter("insertionsort"))
             runStringSortBenchmark(words, nWords, nRuns / 10, new InsertionSort<>(nWords, config), timeLoggersQuadratic);
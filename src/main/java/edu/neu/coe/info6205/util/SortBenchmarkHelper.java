@@ -53,6 +53,23 @@ class SortBenchmarkHelper {
         return result;
     }
 
+    /**
+     * Method to get all of the words of a corpus (unlike getWords, duplicates are retained).
+     *
+     * @param resource   the name of the resource.
+     * @param getStrings a function to get the words of a line.
+     * @return an array of all of the words (of at least two characters) in order of occurrence.
+     * @throws FileNotFoundException if the resource cannot be found.
+     */
+    static String[] getCorpus(String resource, Function<String, Collection<String>> getStrings) throws FileNotFoundException {
+        final List<String> words = new ArrayList<>();
+        final FileReader fr = new FileReader(getFile(resource, SortBenchmarkHelper.class));
+        for (Object line : new BufferedReader(fr).lines().toArray())
+            for (String word : getStrings.apply((String) line)) if (word.length() >= 2) words.add(word);
+        logger.info("Testing with corpus: " + formatWhole(words.size()) + " words from " + resource);
+        return words.toArray(new String[0]);
+    }
+
     static Collection<String> getWords(Pattern regex, String line) {
         final Matcher matcher = regex.matcher(line);
         if (matcher.find()) {
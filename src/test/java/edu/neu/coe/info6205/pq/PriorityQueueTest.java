@@ -132,4 +132,24 @@ public class PriorityQueueTest {
         pq.take();
         pq.take();
     }
+
+    @Test
+    public void testPeek() throws PQException {
+
+        PriorityQueue<String> pq = new PriorityQueue<>(10, false, Comparator.comparing(String::toString));
+        pq.give("B");
+        pq.give("A");
+        pq.give("C");
+        assertEquals("A", pq.peek());
+        assertEquals(3, pq.size());
+        assertEquals("A", pq.take());
+        assertEquals("B", pq.peek());
+    }
+
+    @Test(expected = PQException.class)
+    public void testPeekEmpty() throws PQException {
+
+        PriorityQueue<String> pq = new PriorityQueue<>(10, Comparator.comparing(String::toString));
+        pq.peek();
+    }
 }
@@ -0,0 +1,112 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.sort.linearithmic.MergeSort;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.StatPack;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CacheSimulatorTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(CacheSimulatorTest.class);
+    }
+
+    @Test
+    public void testSequential() {
+        final CacheSimulator cache = new CacheSimulator(config);
+        final Integer[] xs = new Integer[1024];
+        cache.access(xs, 0, xs.length);
+        // NOTE: each line of 64 bytes holds 16 elements, so that there is one miss (in each level) per 16 accesses.
+        assertEquals(1024, cache.getAccesses());
+        assertEquals(64, cache.getL1Misses());
+        assertEquals(64, cache.getL2Misses());
+        assertEquals(1024 - 64, cache.getL1Hits());
+        assertEquals(0, cache.getL2Hits());
+        assertEquals(1024 * 4 + 64 * 12 + 64 * 200, cache.getCycles());
+        // NOTE: the second pass fits in L1.
+        cache.access(xs, 0, xs.length);
+        assertEquals(64, cache.getL1Misses());
+        cache.reset();
+        assertEquals(0, cache.getAccesses());
+        assertEquals(0, cache.getL1Misses());
+    }
+
+    @Test
+    public void testL2() {
+        // NOTE: 64K elements (256K bytes) overflow L1 (32K bytes) but fit in L2 (256K bytes).
+        final CacheSimulator cache = new CacheSimulator(config);
+        final Integer[] xs = new Integer[1 << 16];
+        cache.access(xs, 0, xs.length);
+        cache.access(xs, 0, xs.length);
+        assertEquals(2 * xs.length / 16, cache.getL1Misses());
+        assertEquals(xs.length / 16, cache.getL2Misses());
+        // NOTE: the second pass misses L1 but hits L2 on each line.
+        assertEquals(xs.length / 16, cache.getL2Hits());
+        assertEquals(2 * xs.length - 2 * xs.length / 16, cache.getL1Hits());
+    }
+
+    @Test
+    public void testLRU() {
+        // NOTE: a single set of two ways.
+        final CacheSimulator.Level level = new CacheSimulator.Level(64, 2, 128, 1);
+        assertTrue(!level.access(0));
+        assertTrue(!level.access(64));
+        assertTrue(level.access(4));
+        assertTrue(!level.access(128));
+        // NOTE: the line at 64 was the least recently used so it was evicted.
+        assertTrue(level.access(0));
+        assertTrue(!level.access(64));
+        assertEquals(4, level.getMisses());
+    }
+
+    @Test
+    public void testSeparateArrays() {
+        final CacheSimulator cache = new CacheSimulator(config);
+        final Integer[] xs = new Integer[16];
+        final Integer[] ys = new Integer[16];
+        cache.access(xs, 0);
+        cache.access(ys, 0);
+        cache.access(xs, 15);
+        assertEquals(2, cache.getL1Misses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLevel() {
+        new CacheSimulator.Level(64, 8, 256, 1);
+    }
+
+    @Test
+    public void testInstrumentedHelper() {
+        final int n = 10000;
+        assertNull(new InstrumentedHelper<Integer>("test", n, config).getCacheSimulator());
+        final Config cacheConfig = config.copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.CACHE, "true");
+        final InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", n, 0L, cacheConfig);
+        final MergeSort<Integer> sorter = new MergeSort<>(helper);
+        helper.init(n);
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt());
+        final Integer[] ys = sorter.sort(xs, true);
+        sorter.postProcess(ys);
+        final StatPack statPack = helper.getStatPack();
+        final double l1Misses = statPack.total(InstrumentedHelper.L1MISSES);
+        final double l2Misses = statPack.total(InstrumentedHelper.L2MISSES);
+        assertTrue(l1Misses > 0);
+        assertTrue(l2Misses <= l1Misses);
+        final double l1Hits = statPack.total(InstrumentedHelper.L1HITS);
+        final double l2Hits = statPack.total(InstrumentedHelper.L2HITS);
+        assertTrue(l1Hits > l1Misses);
+        assertEquals(l1Misses - l2Misses, l2Hits, 0.0);
+        assertTrue(statPack.total(InstrumentedHelper.CYCLES) > 4 * l1Misses);
+        // NOTE: the two arrays (of 40K bytes each) fit in L2, so that each line misses L2 only once.
+        assertTrue(l2Misses <= 2 * n / 16 + 2);
+    }
+
+    private static Config config;
+}
@@ -0,0 +1,145 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.sort.elementary.ShellSort;
+import edu.neu.coe.info6205.sort.linearithmic.*;
+import edu.neu.coe.info6205.sort.par.ParMergeSort;
+import edu.neu.coe.info6205.sort.par.UniqueSort;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import edu.neu.coe.info6205.util.StatPack;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CompositeComparatorTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(CompositeComparatorTest.class);
+    }
+
+    /**
+     * A record which is deliberately not Comparable.
+     */
+    static class Trade {
+        Trade(int day, long amount, int id) {
+            this.day = day;
+            this.amount = amount;
+            this.id = id;
+        }
+
+        final int day;
+        final long amount;
+        final int id;
+    }
+
+    private static final CompositeComparator<Trade> byDayThenAmount = CompositeComparator.<Trade>comparingInt(t -> t.day).thenLong(t -> t.amount);
+
+    @Test
+    public void testCompare() {
+        assertEquals(2, byDayThenAmount.size());
+        assertEquals(-1, byDayThenAmount.compare(new Trade(1, 99L, 0), new Trade(2, 0L, 1)));
+        assertEquals(1, byDayThenAmount.compare(new Trade(2, 1L, 0), new Trade(2, 0L, 1)));
+        assertEquals(0, byDayThenAmount.compare(new Trade(2, 5L, 0), new Trade(2, 5L, 1)));
+        // NOTE: the extremes of int and long are compared correctly (no subtraction).
+        assertEquals(-1, CompositeComparator.<Trade>comparingLong(t -> t.amount).compare(new Trade(0, Long.MIN_VALUE, 0), new Trade(0, Long.MAX_VALUE, 0)));
+        assertEquals(1, CompositeComparator.<Trade>comparingInt(t -> t.day).compare(new Trade(Integer.MAX_VALUE, 0L, 0), new Trade(Integer.MIN_VALUE, 0L, 0)));
+    }
+
+    @Test
+    public void testImmutable() {
+        final CompositeComparator<Trade> byDay = CompositeComparator.comparingInt(t -> t.day);
+        final CompositeComparator<Trade> byDayThenId = byDay.thenInt(t -> t.id);
+        assertEquals(1, byDay.size());
+        assertEquals(2, byDayThenId.size());
+        assertEquals(0, byDay.compare(new Trade(1, 0L, 1), new Trade(1, 0L, 2)));
+        assertEquals(-1, byDayThenId.compare(new Trade(1, 0L, 1), new Trade(1, 0L, 2)));
+    }
+
+    @Test
+    public void testSort() {
+        final int n = 2000;
+        final Helper<Trade> helper = new BaseHelper<>("trades", n, new Random(0L), byDayThenAmount, config);
+        final Trade[] trades = trades(helper);
+        final List<SortWithHelper<Trade>> sorters = Arrays.asList(new InsertionSort<>(helper), new ShellSort<>(3, helper),
+                new MergeSort<>(helper), new NaturalMergeSort<>(helper), new TimSort<>(helper), new ParMergeSort<>(helper),
+                new QuickSort_Basic<>(helper), new QuickSort_3way<>(helper), new QuickSort_DualPivot<>(helper),
+                new QuickSort_PDQ<>(helper), new IntroSort<>(helper), new AdaptiveSort<>(helper));
+        for (SortWithHelper<Trade> sorter : sorters) {
+            final Trade[] xs = Arrays.copyOf(trades, n);
+            sorter.sort(xs, 0, n);
+            assertTrue(sorter.getClass().getSimpleName(), helper.sorted(xs));
+            assertEquals(0L, helper.inversions(xs));
+        }
+    }
+
+    @Test
+    public void testSortStable() {
+        final int n = 1000;
+        final Helper<Trade> helper = new BaseHelper<>("trades", n, new Random(0L), CompositeComparator.comparingInt(t -> t.day), config);
+        final Trade[] xs = trades(helper);
+        new MergeSort<>(helper).sort(xs, 0, n);
+        // NOTE: the ids were assigned in order, so that ties must have kept their ids in order.
+        for (int i = 1; i < n; i++)
+            if (xs[i - 1].day == xs[i].day) assertTrue(xs[i - 1].id < xs[i].id);
+    }
+
+    @Test
+    public void testSelectAndSortCount() {
+        final int n = 1000;
+        final Helper<Trade> helper = new BaseHelper<>("trades", n, new Random(0L), CompositeComparator.comparingInt(t -> t.day), config);
+        final Trade[] xs = trades(helper);
+        final long[] days = new long[30];
+        for (Trade x : xs) days[x.day]++;
+        final List<UniqueSort.Count<Trade>> counts = new UniqueSort<>(helper).sortCount(xs);
+        for (UniqueSort.Count<Trade> count : counts) assertEquals(days[count.getKey().day], count.getCount());
+        final Trade[] sorted = Arrays.copyOf(xs, n);
+        Arrays.sort(sorted, helper.getComparator());
+        assertEquals(sorted[n / 2].day, new Select<>(helper).select(Arrays.copyOf(xs, n), n / 2).day);
+    }
+
+    @Test
+    public void testInstrumented() {
+        final int n = 1000;
+        final Config instrumented = ConfigTest.setupConfig("true", "0", "0", "", "");
+        final Helper<Trade> helper = HelperFactory.create("trades", n, byDayThenAmount, instrumented);
+        assertTrue(helper instanceof InstrumentedHelper);
+        assertSame(byDayThenAmount, helper.getComparator());
+        helper.init(n);
+        final Trade[] xs = trades(helper);
+        final QuickSort_DualPivot<Trade> sorter = new QuickSort_DualPivot<>(helper);
+        sorter.sort(xs, 0, n);
+        sorter.postProcess(xs);
+        final StatPack statPack = ((InstrumentedHelper<Trade>) helper).getStatPack();
+        assertTrue(statPack.total(InstrumentedHelper.COMPARES) > n);
+    }
+
+    @Test
+    public void testNaturalOrder() {
+        final Helper<Integer> helper = new BaseHelper<>("natural", config);
+        assertEquals(-1, helper.getComparator().compare(1, 2));
+        final Helper<Integer> reversed = new BaseHelper<>("reversed", 3, Comparator.<Integer>reverseOrder(), config);
+        final Integer[] xs = {1, 2, 3};
+        assertFalse(reversed.sorted(xs));
+        assertEquals(3L, reversed.inversions(xs));
+        new InsertionSort<>(reversed).sort(xs, 0, 3);
+        assertArrayEquals(new Integer[]{3, 2, 1}, xs);
+    }
+
+    private static Trade[] trades(Helper<Trade> helper) {
+        final Trade[] xs = helper.random(Trade.class, r -> new Trade(r.nextInt(30), r.nextInt(100), 0));
+        // NOTE: number the trades in order of appearance (for the stability test).
+        for (int i = 0; i < xs.length; i++) xs[i] = new Trade(xs[i].day, xs[i].amount, i);
+        return xs;
+    }
+
+    private static Config config;
+}
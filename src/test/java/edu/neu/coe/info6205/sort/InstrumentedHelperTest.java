@@ -1,11 +1,15 @@
 package edu.neu.coe.info6205.sort;
 
+import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.sort.elementary.SortingNetwork;
 import edu.neu.coe.info6205.sort.linearithmic.MergeSort;
 import edu.neu.coe.info6205.util.*;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.function.Function;
+
 import static org.junit.Assert.*;
 
 public class InstrumentedHelperTest {
@@ -301,6 +305,91 @@ public class InstrumentedHelperTest {
         assertTrue(compares <= 20 && compares >= 11);
     }
 
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        final Helper<String> helper = new InstrumentedHelper<>("test", config.copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.CONCURRENT, "true"));
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100000; i++) helper.less("a", "b");
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        final PrivateMethodTester privateMethodTester = new PrivateMethodTester(helper);
+        assertEquals(400000, privateMethodTester.invokePrivate("getCompares"));
+    }
+
+    @Test
+    public void testSampling() {
+        final Helper<String> helper = new InstrumentedHelper<>("test", config.copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.SAMPLING, "10"));
+        for (int i = 0; i < 100000; i++) helper.less("a", "b");
+        final PrivateMethodTester privateMethodTester = new PrivateMethodTester(helper);
+        // NOTE: only (about) one compare in 10 was counted but the count is scaled up accordingly.
+        assertEquals(100000, (Integer) privateMethodTester.invokePrivate("getCompares"), 5000);
+    }
+
+    @Test
+    public void testSamplingSortingNetwork() {
+        // NOTE: every compare-exchange of a reversed array swaps, so that the compare and the swap must be counted together.
+        final int n = 16;
+        assertSampledCounts(n, 1000, SortingNetwork::new, i -> n - i);
+    }
+
+    @Test
+    public void testSamplingInsertionSort() {
+        // NOTE: insertion sort alternates compares and swaps, which a regular choice of sampled operations could alias.
+        final int n = 100;
+        assertSampledCounts(n, 100, InsertionSort::new, i -> (i * 37) % n);
+    }
+
+    /**
+     * Sort the array given by f (of n elements) m times, with and without sampling (of one operation in 2 and in 5),
+     * and check that the sampled counts are within 5% of the exact counts.
+     */
+    private static void assertSampledCounts(int n, int m, Function<Helper<Integer>, SortWithHelper<Integer>> sorterFunction, Function<Integer, Integer> f) {
+        final long[] exact = sortCounts(n, m, 1, sorterFunction, f);
+        for (int sampling : new int[]{2, 5}) {
+            final long[] estimated = sortCounts(n, m, sampling, sorterFunction, f);
+            for (int k = 0; k < exact.length; k++)
+                assertEquals("sampling " + sampling + ": count " + k, exact[k], estimated[k], exact[k] * 0.05);
+        }
+    }
+
+    private static long[] sortCounts(int n, int m, int sampling, Function<Helper<Integer>, SortWithHelper<Integer>> sorterFunction, Function<Integer, Integer> f) {
+        final InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", n, config.copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.SAMPLING, Integer.toString(sampling)));
+        helper.init(n);
+        final SortWithHelper<Integer> sorter = sorterFunction.apply(helper);
+        for (int r = 0; r < m; r++) {
+            final Integer[] xs = new Integer[n];
+            for (int i = 0; i < n; i++) xs[i] = f.apply(i);
+            sorter.sort(xs, 0, n);
+            assertTrue(helper.sorted(xs));
+        }
+        final PrivateMethodTester privateMethodTester = new PrivateMethodTester(helper);
+        return new long[]{helper.getCompareCount(), helper.getSwapCount(), (Integer) privateMethodTester.invokePrivate("getHits")};
+    }
+
+    @Test
+    public void testLongCounts() {
+        final InstrumentedHelper<String> helper = new InstrumentedHelper<>("test", config);
+        helper.init(2);
+        helper.incrementCompares(Integer.MAX_VALUE);
+        helper.incrementCompares(Integer.MAX_VALUE);
+        assertEquals(2L * Integer.MAX_VALUE, helper.getCompareCount());
+        helper.postProcess(new String[]{"a", "b"});
+        assertEquals(2.0 * Integer.MAX_VALUE, helper.getStatPack().total(InstrumentedHelper.COMPARES), 0.0);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testLongCountsOverflow() {
+        final InstrumentedHelper<String> helper = new InstrumentedHelper<>("test", config);
+        helper.init(2);
+        helper.incrementCompares(Integer.MAX_VALUE);
+        helper.incrementCompares(1);
+        helper.getCompares();
+    }
+
     @SuppressWarnings("unused")
     @Ignore // TODO fix this test
     public void testMergeSortMany() {
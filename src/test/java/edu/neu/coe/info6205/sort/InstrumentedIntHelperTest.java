@@ -0,0 +1,80 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InstrumentedIntHelperTest {
+
+    @Test
+    public void testLess() {
+        final InstrumentedIntHelper helper = new InstrumentedIntHelper("test", config);
+        assertTrue(helper.less(1, 2));
+        assertFalse(helper.less(2L, 2L));
+        assertTrue(helper.less(-0.0, 0.0));
+        assertTrue(helper.less(1.0, Double.NaN));
+        assertEquals(4, helper.getCompares());
+    }
+
+    @Test
+    public void testSwap() {
+        final InstrumentedIntHelper helper = new InstrumentedIntHelper("test", config);
+        final int[] xs = {1, 2};
+        helper.swap(xs, 0, 1);
+        helper.swap(xs, 1, 1);
+        assertEquals(2, xs[0]);
+        assertEquals(1, helper.getSwaps());
+        assertEquals(4, helper.getHits());
+    }
+
+    @Test
+    public void testSwapConditional() {
+        final InstrumentedIntHelper helper = new InstrumentedIntHelper("test", config);
+        final long[] xs = {2L, 1L};
+        assertTrue(helper.swapConditional(xs, 0, 1));
+        assertFalse(helper.swapConditional(xs, 0, 1));
+        assertEquals(2, helper.getCompares());
+        assertEquals(1, helper.getSwaps());
+        assertEquals(8, helper.getHits());
+    }
+
+    @Test
+    public void testCopy() {
+        final InstrumentedIntHelper helper = new InstrumentedIntHelper("test", config);
+        final double[] xs = {1.0};
+        final double[] ys = new double[1];
+        helper.copy(xs, 0, ys, 0);
+        helper.incrementCopies(3);
+        assertEquals(1.0, ys[0], 0.0);
+        assertEquals(4, helper.getCopies());
+        assertEquals(8, helper.getHits());
+    }
+
+    @Test
+    public void testPostProcess() {
+        final InstrumentedIntHelper helper = new InstrumentedIntHelper("test", config);
+        helper.init(3);
+        helper.less(1, 2);
+        helper.postProcess(new int[]{1, 2, 3});
+        assertEquals(1, helper.getStatPack().getCount(InstrumentedHelper.COMPARES));
+    }
+
+    @Test(expected = BaseHelper.HelperException.class)
+    public void testPostProcessUnsorted() {
+        final InstrumentedIntHelper helper = new InstrumentedIntHelper("test", config);
+        helper.init(3);
+        helper.postProcess(new int[]{3, 2, 1});
+    }
+
+    @Test
+    public void testCreateInt() {
+        assertTrue(HelperFactory.createInt("test", 10, config) instanceof InstrumentedIntHelper);
+        assertFalse(HelperFactory.createInt("test", 10, ConfigTest.setupConfig("false", "0", "0", "", "")) instanceof InstrumentedIntHelper);
+    }
+
+    private static final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+}
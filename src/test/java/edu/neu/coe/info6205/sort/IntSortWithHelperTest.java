@@ -0,0 +1,99 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.sort.elementary.IntInsertionSort;
+import edu.neu.coe.info6205.sort.elementary.IntShellSort;
+import edu.neu.coe.info6205.sort.linearithmic.IntIntroSort;
+import edu.neu.coe.info6205.sort.linearithmic.IntMergeSort;
+import edu.neu.coe.info6205.sort.linearithmic.IntQuickSort_DualPivot;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests which are common to all of the sorts of primitives (each test is run against every one of them).
+ */
+public class IntSortWithHelperTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(IntSortWithHelperTest.class);
+    }
+
+    private static final List<Function<IntHelper, IntSortWithHelper>> sorters = Arrays.asList(
+            IntInsertionSort::new, IntShellSort::new, IntMergeSort::new, IntQuickSort_DualPivot::new, IntIntroSort::new);
+
+    @Test
+    public void testSortInts() {
+        int n = 2000;
+        for (Function<IntHelper, IntSortWithHelper> f : sorters) {
+            final IntHelper helper = new IntHelper("test", n, 0L, config);
+            final int[] xs = helper.randomInts(r -> r.nextInt(n));
+            final int[] expected = Arrays.copyOf(xs, n);
+            Arrays.sort(expected);
+            final IntSortWithHelper sorter = f.apply(helper);
+            assertArrayEquals(sorter.getClass().getSimpleName(), expected, sorter.sort(xs));
+        }
+    }
+
+    @Test
+    public void testSortLongs() {
+        int n = 2000;
+        for (Function<IntHelper, IntSortWithHelper> f : sorters) {
+            final IntHelper helper = new IntHelper("test", n, 1L, config);
+            final long[] xs = helper.randomLongs(r -> r.nextLong());
+            final long[] expected = Arrays.copyOf(xs, n);
+            Arrays.sort(expected);
+            final IntSortWithHelper sorter = f.apply(helper);
+            sorter.mutatingSort(xs);
+            assertArrayEquals(expected, xs);
+        }
+    }
+
+    @Test
+    public void testSortDoubles() {
+        int n = 2000;
+        for (Function<IntHelper, IntSortWithHelper> f : sorters) {
+            final IntHelper helper = new IntHelper("test", n, 2L, config);
+            final double[] xs = helper.randomDoubles(r -> r.nextInt(10) == 0 ? Double.NaN : r.nextBoolean() ? -0.0 : r.nextGaussian());
+            final double[] expected = Arrays.copyOf(xs, n);
+            Arrays.sort(expected);
+            final IntSortWithHelper sorter = f.apply(helper);
+            sorter.mutatingSort(xs);
+            assertArrayEquals(expected, xs, 0.0);
+            assertTrue(helper.sorted(xs));
+        }
+    }
+
+    @Test
+    public void testSortSubArray() {
+        for (Function<IntHelper, IntSortWithHelper> f : sorters) {
+            int[] xs = {99, 5, 4, 3, 2, 1, 0, 9, 8, 7, 6, -1};
+            f.apply(new IntHelper("test", config)).sort(xs, 1, 11);
+            assertArrayEquals(new int[]{99, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, -1}, xs);
+        }
+    }
+
+    @Test
+    public void testInstrumented() {
+        int n = 1000;
+        for (Function<IntHelper, IntSortWithHelper> f : sorters) {
+            final InstrumentedIntHelper helper = new InstrumentedIntHelper("test", n, 3L, ConfigTest.setupConfig("true", "3", "0", "", ""));
+            final IntSortWithHelper sorter = f.apply(helper);
+            final int[] xs = helper.randomInts(r -> r.nextInt(n));
+            sorter.mutatingSort(xs);
+            sorter.postProcess(xs);
+            assertTrue(helper.getCompares() > 0);
+            assertEquals(helper.getCompares(), (int) helper.getStatPack().total(InstrumentedHelper.COMPARES));
+        }
+    }
+
+    private static Config config;
+}
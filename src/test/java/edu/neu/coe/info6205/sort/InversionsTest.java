@@ -0,0 +1,57 @@
+package edu.neu.coe.info6205.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class InversionsTest {
+
+    @Test
+    public void testCount() {
+        assertEquals(0, Inversions.count(new Integer[0]));
+        assertEquals(0, Inversions.count(new Integer[]{1}));
+        assertEquals(0, Inversions.count(new Integer[]{1, 2, 3}));
+        assertEquals(3, Inversions.count(new Integer[]{3, 2, 1}));
+        assertEquals(0, Inversions.count(new Integer[]{2, 2, 2}));
+        assertEquals(3, Inversions.count(new Integer[]{2, 1, 2, 1}));
+    }
+
+    @Test
+    public void testCountRandom() {
+        final Random random = new Random(0L);
+        for (int n : new int[]{10, 17, 100, 1000, 3000})
+            for (int range : new int[]{5, 1000000}) {
+                final Integer[] xs = new Integer[n];
+                for (int i = 0; i < n; i++) xs[i] = random.nextInt(range);
+                final Integer[] copy = Arrays.copyOf(xs, n);
+                final long expected = bruteForce(xs);
+                assertEquals(expected, Inversions.count(xs));
+                assertEquals(expected, Inversions.parallelCount(xs, 100, ForkJoinPool.commonPool()));
+                // NOTE: the array is unchanged.
+                assertArrayEquals(copy, xs);
+            }
+    }
+
+    @Test
+    public void testCountLarge() {
+        // NOTE: there are about 5 * 10^11 inversions, which would overflow an int.
+        final int n = 1000000;
+        final Integer[] xs = new Integer[n];
+        for (int i = 0; i < n; i++) xs[i] = n - i;
+        assertEquals((long) n * (n - 1) / 2, Inversions.parallelCount(xs));
+        assertEquals((long) n * (n - 1) / 2, new BaseHelper<Integer>("test", null).inversions(xs));
+    }
+
+    private static long bruteForce(Integer[] xs) {
+        long result = 0;
+        for (int i = 0; i < xs.length; i++)
+            for (int j = i + 1; j < xs.length; j++)
+                if (xs[i].compareTo(xs[j]) > 0) result++;
+        return result;
+    }
+}
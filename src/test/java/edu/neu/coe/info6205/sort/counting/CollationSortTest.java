@@ -0,0 +1,87 @@
+package edu.neu.coe.info6205.sort.counting;
+
+import org.junit.Test;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class CollationSortTest {
+
+    @Test
+    public void sort() {
+        final String[] xs = "ёж яблоко Ель ель арбуз Жук ёлка елка".split(" ");
+        CollationSort.sort(xs, RUSSIAN);
+        assertArrayEquals("арбуз ёж елка ёлка ель Ель Жук яблоко".split(" "), xs);
+        // NOTE: the natural (UTF-16) order puts ё after я and upper case before lower case.
+        final String[] ys = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(ys);
+        assertNotEquals(Arrays.asList(xs), Arrays.asList(ys));
+    }
+
+    @Test
+    public void sortRussianWords() {
+        final String[] words = MSDStringSortTest.getWords("rus-su_web_2015_10K-words.txt", CollationSortTest::leipzigWords);
+        checkSort(words, Collator.getInstance(RUSSIAN));
+    }
+
+    @Test
+    public void sortChineseWords() {
+        final String[] words = MSDStringSortTest.getWords("zho-simp-tw_web_2014_10K-words.txt", CollationSortTest::leipzigWords);
+        checkSort(words, Collator.getInstance(Locale.SIMPLIFIED_CHINESE));
+    }
+
+    @Test
+    public void sortRandom() {
+        final Random random = new Random(0L);
+        final String alphabet = "aAäbBcCeéèEÉ -ёеЕя中文";
+        final String[] xs = new String[20000];
+        for (int i = 0; i < xs.length; i++) {
+            final StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(8); j > 0; j--) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            xs[i] = sb.toString();
+        }
+        checkSort(xs, Collator.getInstance(Locale.ENGLISH));
+    }
+
+    @Test
+    public void sortSubArray() {
+        final String[] xs = "zz ёж яблоко ель арбуз жук ёлка aa".split(" ");
+        new CollationSort(RUSSIAN).sort(xs, 1, xs.length - 1);
+        assertArrayEquals("zz арбуз ёж ёлка ель жук яблоко aa".split(" "), xs);
+    }
+
+    @Test
+    public void sortStable() {
+        // NOTE: at primary strength, case and accents are ignored, so the strings with the same base letter are equal.
+        final Collator collator = Collator.getInstance(Locale.ENGLISH);
+        collator.setStrength(Collator.PRIMARY);
+        final String[] xs = "b A a B à b á Á B".split(" ");
+        new CollationSort(collator).sort(xs, 0, xs.length);
+        assertArrayEquals("A a à á Á b B b B".split(" "), xs);
+    }
+
+    private static void checkSort(String[] words, Collator collator) {
+        final Random random = new Random(1L);
+        final String[] xs = new String[10000];
+        for (int i = 0; i < xs.length; i++) xs[i] = words[random.nextInt(words.length)];
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, collator);
+        new CollationSort(collator).sort(xs, 0, xs.length);
+        assertArrayEquals(expected, xs);
+    }
+
+    private static List<String> leipzigWords(String line) {
+        final String[] fields = line.split("\t");
+        return fields.length > 1 ? Arrays.asList(fields[1]) : Collections.emptyList();
+    }
+
+    private static final Locale RUSSIAN = new Locale("ru");
+}
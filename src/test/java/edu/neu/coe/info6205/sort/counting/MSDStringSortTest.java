@@ -10,11 +10,14 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class MSDStringSortTest {
 
@@ -41,6 +44,49 @@ public class MSDStringSortTest {
         assertEquals("Palestinian", xs[16]);
     }
 
+    @Test
+    public void sort2() {
+        final Random random = new Random(0L);
+        final String alphabet = "abcdeÿĀ中文";
+        final String[] xs = new String[20000];
+        for (int i = 0; i < xs.length; i++) {
+            final StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(8); j > 0; j--) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            xs[i] = sb.toString();
+        }
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new MSDStringSort(100, new ForkJoinPool(4)).sort(xs, 0, xs.length);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void sortSubArray() {
+        final String[] xs = "zz she sells seashells by the seashore the shells she sells are surely seashells aa".split(" ");
+        new MSDStringSort(2, ForkJoinPool.commonPool()).sort(xs, 1, xs.length - 1);
+        assertEquals("zz", xs[0]);
+        assertArrayEquals(expected, Arrays.copyOfRange(xs, 1, xs.length - 1));
+        assertEquals("aa", xs[xs.length - 1]);
+    }
+
+    @Test
+    public void sortConcurrently() throws InterruptedException {
+        final MSDStringSort sorter = new MSDStringSort(50, ForkJoinPool.commonPool());
+        final String[][] arrays = new String[4][];
+        final Thread[] threads = new Thread[arrays.length];
+        for (int t = 0; t < arrays.length; t++) {
+            final Random random = new Random(t);
+            final String[] xs = new String[10000];
+            for (int i = 0; i < xs.length; i++) xs[i] = Integer.toString(random.nextInt(1000000));
+            arrays[t] = xs;
+            threads[t] = new Thread(() -> sorter.sort(xs, 0, xs.length));
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+        for (String[] xs : arrays)
+            for (int i = 1; i < xs.length; i++) assertTrue(xs[i - 1].compareTo(xs[i]) <= 0);
+    }
+
     /**
      * Create a string representing an integer, with commas to separate thousands.
      *
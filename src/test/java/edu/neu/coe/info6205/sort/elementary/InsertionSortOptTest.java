@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -102,6 +103,14 @@ public class InsertionSortOptTest {
         assertTrue(fixes - inversions <= n / 100);
     }
 
+    @Test
+    public void testSortSubArray() throws IOException {
+        // NOTE: the binary search must be confined to the sub-array (xs[0] is larger than everything in it).
+        Integer[] xs = {99, 5, 4, 3, 2, 1, 0, 9, 8, 7, 6, -1};
+        new InsertionSortOpt<Integer>(Config.load(InsertionSortOptTest.class)).sort(xs, 1, 11);
+        assertArrayEquals(new Integer[]{99, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, -1}, xs);
+    }
+
     final static LazyLogger logger = new LazyLogger(InsertionSort.class);
 
 }
\ No newline at end of file
@@ -56,7 +56,7 @@ public class ShellSortTest {
         PrivateMethodTester t = new PrivateMethodTester(sorter);
         Integer[] xs = {15, 3, -1, 2, 4, 1, 0, 5, 8, 6, 1, 9, 17, 7, 11};
         Integer[] zs = {4, 1, -1, 2, 8, 3, 0, 5, 15, 6, 1, 9, 17, 7, 11};
-        Class[] classes = {int.class, Comparable[].class, int.class, int.class};
+        Class[] classes = {int.class, Object[].class, int.class, int.class};
         t.invokePrivateExplicit("hSort", classes, 4, xs, 0, xs.length);
         assertArrayEquals(zs, xs);
     }
@@ -0,0 +1,105 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort_DualPivot;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SortingNetworkTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(SortingNetworkTest.class);
+    }
+
+    @Test
+    public void testSort() {
+        Integer[] xs = {3, 4, 2, 1};
+        SortWithHelper<Integer> sorter = new SortingNetwork<>(config);
+        Integer[] ys = sorter.sort(xs);
+        assertArrayEquals(new Integer[]{1, 2, 3, 4}, ys);
+    }
+
+    /**
+     * By the 0-1 principle, a network sorts all inputs if it sorts all 2^n sequences of zeros and ones.
+     */
+    @Test
+    public void testZeroOnePrinciple() {
+        final SortingNetwork<Integer> sorter = new SortingNetwork<>(new BaseHelper<Integer>("test", config));
+        for (int n = 0; n <= SortingNetwork.MAX_NETWORK; n++)
+            for (int bits = 0; bits < 1 << n; bits++) {
+                final Integer[] xs = new Integer[n];
+                for (int i = 0; i < n; i++) xs[i] = bits >> i & 1;
+                sorter.sort(xs, 0, n);
+                for (int i = 1; i < n; i++) assertTrue(xs[i - 1] <= xs[i]);
+            }
+    }
+
+    @Test
+    public void testSortRandom() {
+        for (int n = 2; n <= 40; n++) {
+            final Helper<Integer> helper = new BaseHelper<>("test", n, n, config);
+            final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(100));
+            final Integer[] expected = Arrays.copyOf(xs, n);
+            Arrays.sort(expected);
+            new SortingNetwork<>(helper).mutatingSort(xs);
+            assertArrayEquals(expected, xs);
+        }
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Integer[] xs = {99, 5, 4, 3, 2, 1, 0, 9, 8, 7, 6, -1};
+        new SortingNetwork<Integer>(config).sort(xs, 1, 11);
+        assertArrayEquals(new Integer[]{99, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, -1}, xs);
+    }
+
+    @Test
+    public void testCompares() {
+        final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+        for (int n = 2; n <= SortingNetwork.MAX_NETWORK; n++) {
+            final InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", n, config);
+            helper.init(n);
+            final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000));
+            new SortingNetwork<>(helper).mutatingSort(xs);
+            // NOTE: the number of compares is fixed, whatever the data.
+            assertEquals(SortingNetwork.comparators(n), helper.getCompareCount());
+        }
+        assertEquals(60, SortingNetwork.comparators(16));
+    }
+
+    @Test
+    public void testCreate() {
+        final Helper<Integer> helper = new BaseHelper<>("test", config.copy("test", InsertionSort.SMALLSORT, InsertionSort.NETWORK));
+        assertTrue(InsertionSort.create(helper, "test") instanceof SortingNetwork);
+        assertTrue(InsertionSort.create(helper, "other").getClass() == InsertionSort.class);
+        final Helper<Integer> helperBinary = new BaseHelper<>("test", config.copy("test", InsertionSort.SMALLSORT, InsertionSort.BINARYINSERTION));
+        assertTrue(InsertionSort.create(helperBinary, "test") instanceof InsertionSortOpt);
+    }
+
+    @Test
+    public void testQuickSortWithNetwork() {
+        final int n = 10000;
+        final Config networkConfig = config.copy(QuickSort_DualPivot.QUICKSORT_DUALPIVOT, InsertionSort.SMALLSORT, InsertionSort.NETWORK);
+        final QuickSort<Integer> sorter = new QuickSort_DualPivot<>(n, networkConfig);
+        assertTrue(sorter.getInsertionSort() instanceof SortingNetwork);
+        final Helper<Integer> helper = sorter.getHelper();
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000));
+        assertTrue(helper.sorted(sorter.sort(xs)));
+    }
+
+    private static Config config;
+}
@@ -0,0 +1,174 @@
+package edu.neu.coe.info6205.sort.external;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort_DualPivot;
+import edu.neu.coe.info6205.sort.linearithmic.TimSort;
+import edu.neu.coe.info6205.util.Config;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExternalSortTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(ExternalSortTest.class);
+    }
+
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("externalsort").toFile();
+    }
+
+    @After
+    public void after() {
+        final File[] files = directory.listFiles();
+        if (files != null) for (File file : files) assertTrue(file.delete());
+        assertTrue(directory.delete());
+    }
+
+    @Test
+    public void testSortLines() throws IOException {
+        final Random random = new Random(0L);
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) lines.add(Integer.toString(random.nextInt(100000), 36) + "ё中");
+        final File input = write(lines);
+        final File output = new File(directory, "output.txt");
+        final SortWithHelper<String> sorter = new QuickSort_DualPivot<>(new BaseHelper<String>("test", config));
+        // NOTE: 10 runs with a fan-in of 3 require three merge passes.
+        final ExternalSort<String> externalSort = new ExternalSort<>(sorter, ExternalSort.Lines.strings(), 1000, 3, 256, directory);
+        assertEquals(10, externalSort.createRuns(input).size());
+        assertEquals(11, Objects.requireNonNull(directory.list()).length);
+        for (File file : Objects.requireNonNull(directory.listFiles()))
+            if (file.getName().startsWith("run")) assertTrue(file.delete());
+        externalSort.sort(input, output);
+        Collections.sort(lines);
+        assertEquals(lines, Files.readAllLines(output.toPath(), StandardCharsets.UTF_8));
+        // NOTE: all of the runs have been deleted.
+        assertEquals(2, Objects.requireNonNull(directory.list()).length);
+    }
+
+    @Test
+    public void testSortInPlace() throws IOException {
+        final List<String> lines = Arrays.asList("she sells seashells by the seashore".split(" "));
+        final File file = write(lines);
+        new ExternalSort<>(new TimSort<>(new BaseHelper<String>("test", config)), ExternalSort.Lines.strings(), 2, 2, 16, directory).sort(file, file);
+        assertEquals(Arrays.asList("by seashells seashore sells she the".split(" ")), Files.readAllLines(file.toPath()));
+    }
+
+    @Test
+    public void testSortEmpty() throws IOException {
+        final File file = write(Collections.emptyList());
+        new ExternalSort<>(new TimSort<>(new BaseHelper<String>("test", config)), ExternalSort.Lines.strings(), 2, 2, 16, directory).sort(file, file);
+        assertEquals(0, file.length());
+        assertEquals(1, Objects.requireNonNull(directory.list()).length);
+    }
+
+    @Test
+    public void testSortFixedWidth() throws IOException {
+        final Random random = new Random(1L);
+        final Integer[] xs = new Integer[5000];
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = random.nextInt(100000000);
+            sb.append(String.format("%08d", xs[i]));
+        }
+        final File file = new File(directory, "input.dat");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        final ExternalSort.Format<Integer> format = new ExternalSort.FixedWidth<>(8, Integer::parseInt, x -> String.format("%08d", x));
+        new ExternalSort<>(new QuickSort_DualPivot<>(new BaseHelper<Integer>("test", config)), format, 700, 4, 100, directory).sort(file, file);
+        Arrays.sort(xs);
+        final String sorted = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertEquals(8 * xs.length, sorted.length());
+        final Integer[] ys = new Integer[xs.length];
+        for (int i = 0; i < ys.length; i++) ys[i] = Integer.parseInt(sorted.substring(8 * i, 8 * i + 8));
+        assertArrayEquals(xs, ys);
+    }
+
+    @Test
+    public void testStable() throws IOException {
+        final Random random = new Random(2L);
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) lines.add(random.nextInt(20) + "," + i);
+        final File file = write(lines);
+        final ExternalSort.Format<Keyed> format = new ExternalSort.Lines<>(Keyed::parse, Keyed::toString);
+        new ExternalSort<>(new TimSort<>(new BaseHelper<Keyed>("test", config)), format, 100, 5, 64, directory).sort(file, file);
+        final List<String> sorted = Files.readAllLines(file.toPath());
+        assertEquals(lines.size(), sorted.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            final Keyed k1 = Keyed.parse(sorted.get(i - 1));
+            final Keyed k2 = Keyed.parse(sorted.get(i));
+            assertTrue(k1.key < k2.key || k1.key == k2.key && k1.sequence < k2.sequence);
+        }
+    }
+
+    @Test
+    public void testSortComparator() throws IOException {
+        final Random random = new Random(3L);
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) lines.add(Integer.toString(random.nextInt(100000)));
+        final File file = write(lines);
+        final ExternalSort.Format<Integer> format = new ExternalSort.Lines<>(Integer::parseInt, Object::toString);
+        // NOTE: the runs are sorted in reverse order, so that they must be merged in reverse order too (20 runs require three merge passes).
+        final SortWithHelper<Integer> sorter = new TimSort<>(new BaseHelper<>("test", 0, Comparator.<Integer>reverseOrder(), config));
+        new ExternalSort<>(sorter, format, 100, 3, 64, directory).sort(file, file);
+        final List<Integer> expected = new ArrayList<>();
+        for (String line : lines) expected.add(Integer.parseInt(line));
+        expected.sort(Comparator.reverseOrder());
+        final List<Integer> sorted = new ArrayList<>();
+        for (String line : Files.readAllLines(file.toPath())) sorted.add(Integer.parseInt(line));
+        assertEquals(expected, sorted);
+    }
+
+    @Test
+    public void testConfig() {
+        final ExternalSort<String> externalSort = new ExternalSort<>(new TimSort<>(new BaseHelper<String>("test", config)), ExternalSort.Lines.strings(), config);
+        assertEquals(100000, externalSort.getChunkSize());
+        assertEquals(64, externalSort.getFanIn());
+    }
+
+    private File write(List<String> lines) throws IOException {
+        final File result = new File(directory, "input.txt");
+        Files.write(result.toPath(), lines, StandardCharsets.UTF_8);
+        return result;
+    }
+
+    private static class Keyed implements Comparable<Keyed> {
+        Keyed(int key, int sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        static Keyed parse(String s) {
+            final String[] fields = s.split(",");
+            return new Keyed(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]));
+        }
+
+        public int compareTo(Keyed o) {
+            return Integer.compare(key, o.key);
+        }
+
+        @Override
+        public String toString() {
+            return key + "," + sequence;
+        }
+
+        final int key;
+        final int sequence;
+    }
+
+    private static File directory;
+    private static Config config;
+}
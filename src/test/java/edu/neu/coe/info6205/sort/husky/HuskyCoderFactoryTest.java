@@ -0,0 +1,32 @@
+package edu.neu.coe.info6205.sort.husky;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HuskyCoderFactoryTest {
+
+    @Test
+    public void testUnicodeCoder() {
+        final HuskyCoder<String> coder = HuskyCoderFactory.unicodeCoder;
+        assertTrue(coder.huskyEncode("") < coder.huskyEncode("a"));
+        assertTrue(coder.huskyEncode("a") < coder.huskyEncode("ab"));
+        assertTrue(coder.huskyEncode("ab") < coder.huskyEncode("b"));
+        assertTrue(coder.huskyEncode("z") < coder.huskyEncode("中"));
+        assertTrue(coder.huskyEncode("中") < coder.huskyEncode("￿"));
+        assertEquals(coder.huskyEncode("abcd"), coder.huskyEncode("abcde"));
+    }
+
+    @Test
+    public void testChronoLocalDateTimeCoder() {
+        final LocalDateTime epoch = LocalDateTime.of(1970, 1, 1, 0, 0);
+        assertEquals(0L, HuskyCoderFactory.chronoLocalDateTimeCoder.huskyEncode(epoch));
+        assertEquals(1L, HuskyCoderFactory.chronoLocalDateTimeCoder.huskyEncode(epoch.plusNanos(1)));
+        assertEquals(-1_000_000_000L, HuskyCoderFactory.chronoLocalDateTimeCoder.huskyEncode(epoch.minusSeconds(1)));
+        assertEquals(Long.MAX_VALUE, HuskyCoderFactory.chronoLocalDateTimeCoder.huskyEncode(LocalDateTime.of(3000, 1, 1, 0, 0)));
+        assertEquals(Long.MIN_VALUE, HuskyCoderFactory.chronoLocalDateTimeCoder.huskyEncode(LocalDateTime.of(1000, 1, 1, 0, 0)));
+    }
+}
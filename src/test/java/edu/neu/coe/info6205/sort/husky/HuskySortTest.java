@@ -0,0 +1,78 @@
+package edu.neu.coe.info6205.sort.husky;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.chrono.ChronoLocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HuskySortTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(HuskySortTest.class);
+    }
+
+    @Test
+    public void testSort() {
+        String[] xs = "she sells seashells by the seashore the shells she sells are surely seashells".split(" ");
+        SortWithHelper<String> sorter = new HuskySort<>(xs.length, HuskyCoderFactory.unicodeCoder, config);
+        String[] ys = sorter.sort(xs);
+        assertArrayEquals("are by seashells seashells seashore sells sells she she shells surely the the".split(" "), ys);
+    }
+
+    @Test
+    public void testSortStrings() {
+        int n = 20000;
+        final Helper<String> helper = new BaseHelper<>("test", n, 0L, config);
+        final String[] xs = helper.random(String.class, r -> Integer.toString(r.nextInt(1000000)) + (char) ('a' + r.nextInt(26)));
+        final String[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        new HuskySort<>(helper, HuskyCoderFactory.unicodeCoder).mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        String[] xs = {"z", "dddddd", "ddddd", "b", "a", "", "ab", "a"};
+        new HuskySort<>(HuskyCoderFactory.unicodeCoder, config).sort(xs, 1, 7);
+        assertArrayEquals(new String[]{"z", "", "a", "ab", "b", "ddddd", "dddddd", "a"}, xs);
+    }
+
+    @Test
+    public void testSortLocalDateTimes() {
+        final LocalDateTime now = LocalDateTime.of(2020, 2, 29, 12, 0);
+        ChronoLocalDateTime<?>[] xs = new ChronoLocalDateTime<?>[5000];
+        for (int i = 0; i < xs.length; i++) xs[i] = now.minusNanos((i * 7919L) % xs.length).plusYears(i % 3 == 0 ? 1000 : 0);
+        final Helper<ChronoLocalDateTime<?>> helper = new BaseHelper<>("test", config);
+        new HuskySort<>(helper, HuskyCoderFactory.chronoLocalDateTimeCoder).mutatingSort(xs);
+        assertTrue(helper.sorted(xs));
+    }
+
+    @Test
+    public void testCompares() {
+        final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+        int n = 1000;
+        final InstrumentedHelper<String> helper = new InstrumentedHelper<>("test", n, 0L, config);
+        final String[] xs = helper.random(String.class, r -> Integer.toString(100000 + r.nextInt(900000)));
+        new HuskySort<>(helper, HuskyCoderFactory.unicodeCoder).mutatingSort(xs);
+        assertTrue(helper.sorted(xs));
+        // NOTE: the codes are not perfect (six digits) so the final pass must do some work, but far less than n lg n compares.
+        final long compares = helper.getCompareCount();
+        assertTrue(compares >= n - 1);
+        assertTrue(compares < 2 * n);
+    }
+
+    private static Config config;
+}
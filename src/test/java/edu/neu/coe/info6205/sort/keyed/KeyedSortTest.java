@@ -0,0 +1,118 @@
+package edu.neu.coe.info6205.sort.keyed;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.chrono.ChronoLocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class KeyedSortTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(KeyedSortTest.class);
+    }
+
+    @Test
+    public void testSort() {
+        Integer[] xs = {3, 4, 2, 1};
+        SortWithHelper<Integer> sorter = new KeyedSort.ByLong<Integer>(x -> x, new BaseHelper<>("test", config));
+        Integer[] ys = sorter.sort(xs);
+        assertArrayEquals(new Integer[]{1, 2, 3, 4}, ys);
+    }
+
+    @Test
+    public void testSortRandom() {
+        int n = 10000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 0L, config);
+        final Integer[] xs = helper.random(Integer.class, Random::nextInt);
+        final Integer[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        new KeyedSort.ByLong<Integer>(x -> x, helper).mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortWideKeys() {
+        // NOTE: the keys span the whole range of long, so they must be replaced by their ranks.
+        final Long[] xs = {Long.MAX_VALUE, 0L, Long.MIN_VALUE, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE - 1};
+        final Long[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new KeyedSort.ByLong<Long>(x -> x, new BaseHelper<>("test", config)).mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Integer[] xs = {99, 5, 4, 3, 2, 1, 0, 9, 8, 7, 6, -1};
+        new KeyedSort.ByLong<Integer>(x -> x, new BaseHelper<>("test", config)).sort(xs, 1, 11);
+        assertArrayEquals(new Integer[]{99, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, -1}, xs);
+    }
+
+    @Test
+    public void testStable() {
+        int n = 5000;
+        final Random random = new Random(0L);
+        final Integer[] xs = new Integer[n];
+        // NOTE: the key is the value divided by 100, so that there are many equal keys.
+        for (int i = 0; i < n; i++) xs[i] = random.nextInt(10000);
+        final Integer[] ys = Arrays.copyOf(xs, n);
+        new KeyedSort.ByLong<Integer>(x -> x / 100, new BaseHelper<>("test", config)).mutatingSort(xs);
+        final Integer[] expected = Arrays.copyOf(ys, n);
+        Arrays.sort(expected, (a, b) -> Integer.compare(a / 100, b / 100));
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortImperfectKeys() {
+        int n = 5000;
+        final Random random = new Random(0L);
+        final Integer[] xs = new Integer[n];
+        for (int i = 0; i < n; i++) xs[i] = random.nextInt(10000);
+        final Integer[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        new KeyedSort.ByLong<Integer>(x -> x / 100, false, new BaseHelper<>("test", config)).mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortStrings() {
+        final String[] xs = {"hello", "Привет", "你好", "", "hello", "Hello", "z", "￿", "aĀ", "aÿ"};
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new KeyedSort.ByString<String>(x -> x, new BaseHelper<>("test", config)).mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortLocalDateTimes() {
+        int n = 10000;
+        final Random random = new Random(0L);
+        final ChronoLocalDateTime<?>[] xs = new ChronoLocalDateTime<?>[n];
+        for (int i = 0; i < n; i++)
+            xs[i] = LocalDateTime.ofEpochSecond(random.nextInt(1000), random.nextInt(1000000000), ZoneOffset.UTC);
+        final ChronoLocalDateTime<?>[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        // NOTE: the key (in microseconds) does not distinguish all of the elements.
+        new KeyedSort.ByLong<ChronoLocalDateTime<?>>(KeyedSortTest::micros, false, new BaseHelper<>("test", config)).mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+        assertTrue(xs[0].compareTo(xs[n - 1]) < 0);
+    }
+
+    private static long micros(ChronoLocalDateTime<?> x) {
+        return x.toEpochSecond(ZoneOffset.UTC) * 1000000 + x.toLocalTime().getNano() / 1000;
+    }
+
+    private static Config config;
+}
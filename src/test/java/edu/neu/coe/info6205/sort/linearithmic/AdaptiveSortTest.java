@@ -0,0 +1,144 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static edu.neu.coe.info6205.sort.linearithmic.AdaptiveSort.Strategy.*;
+import static org.junit.Assert.*;
+
+public class AdaptiveSortTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(AdaptiveSortTest.class);
+    }
+
+    @Test
+    public void testChoose() {
+        final int n = 10000;
+        final Random random = new Random(0L);
+        final AdaptiveSort<Integer> sorter = new AdaptiveSort<>(new BaseHelper<Integer>("test", config));
+        assertEquals(GENERAL, sorter.choose(pattern(n, i -> random.nextInt()), 0, n));
+        assertEquals(DUPLICATES, sorter.choose(pattern(n, i -> random.nextInt(16)), 0, n));
+        assertEquals(RUNS, sorter.choose(pattern(n, i -> i), 0, n));
+        assertEquals(RUNS, sorter.choose(pattern(n, i -> n - i), 0, n));
+        assertEquals(RUNS, sorter.choose(pattern(n, i -> i < n / 2 ? i : n - i), 0, n));
+        assertEquals(INSERTION, sorter.choose(pattern(200, i -> i), 0, 200));
+        assertEquals(INSERTION, sorter.choose(pattern(5, i -> random.nextInt()), 0, 5));
+    }
+
+    @Test
+    public void testChoosePresortedness() {
+        final AdaptiveSort<Integer> sorter = new AdaptiveSort<>(new BaseHelper<Integer>("test", config));
+        assertEquals(INSERTION, sorter.choose(100, new AdaptiveSort.Presortedness(0.0, 0.0, 0.0)));
+        // NOTE: with no sampled inversions, we cannot be sure that there are few inversions in a large array.
+        assertEquals(RUNS, sorter.choose(100000, new AdaptiveSort.Presortedness(0.0, 0.0, 0.0)));
+        assertEquals(RUNS, sorter.choose(100000, new AdaptiveSort.Presortedness(0.05, 0.5, 0.5)));
+        assertEquals(DUPLICATES, sorter.choose(100000, new AdaptiveSort.Presortedness(0.6, 0.5, 0.5)));
+        assertEquals(GENERAL, sorter.choose(100000, new AdaptiveSort.Presortedness(0.6, 0.0, 0.5)));
+    }
+
+    @Test
+    public void testSample() {
+        final int n = 10000;
+        final Random random = new Random(1L);
+        final AdaptiveSort<Integer> sorter = new AdaptiveSort<>(new BaseHelper<Integer>("test", config));
+        final AdaptiveSort.Presortedness sorted = sorter.sample(pattern(n, i -> i), 0, n);
+        assertEquals(0.0, sorted.runRatio, 0.0);
+        assertEquals(0.0, sorted.duplicateRatio, 0.0);
+        assertEquals(0.0, sorted.inversionDensity, 0.0);
+        final AdaptiveSort.Presortedness reversed = sorter.sample(pattern(n, i -> n - i), 0, n);
+        assertEquals(0.0, reversed.runRatio, 0.0);
+        assertTrue(reversed.inversionDensity > 0.9);
+        final AdaptiveSort.Presortedness randomised = sorter.sample(pattern(n, i -> random.nextInt()), 0, n);
+        assertEquals(2.0 / 3, randomised.runRatio, 0.2);
+        assertEquals(0.5, randomised.inversionDensity, 0.2);
+        assertTrue(sorter.sample(pattern(n, i -> random.nextInt(4)), 0, n).duplicateRatio > 0.9);
+    }
+
+    @Test
+    public void testSampleDistinct() {
+        // NOTE: sampling with replacement would see a spurious duplicate in most samples of 64 elements out of 1000.
+        final int n = 1000;
+        final Random random = new Random(2L);
+        final AdaptiveSort<Integer> sorter = new AdaptiveSort<>(new BaseHelper<Integer>("test", config));
+        final Integer[] xs = pattern(n, i -> i);
+        Collections.shuffle(Arrays.asList(xs), random);
+        for (int k = 0; k < 100; k++) {
+            assertEquals(0.0, sorter.sample(xs, 0, n).duplicateRatio, 0.0);
+            assertNotEquals(DUPLICATES, sorter.choose(xs, 0, n));
+        }
+    }
+
+    @Test
+    public void testSort() {
+        final int n = 10000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 2L, config);
+        final AdaptiveSort<Integer> sorter = new AdaptiveSort<>(helper);
+        final Integer[][] patterns = {
+                helper.random(Integer.class, r -> r.nextInt()),
+                helper.random(Integer.class, r -> r.nextInt(10)),
+                pattern(n, i -> i),
+                pattern(n, i -> n - i),
+                pattern(n, i -> i % 100 == 0 ? i - 50 : i),
+                pattern(100, i -> i % 10 == 0 ? i - 5 : i),
+                pattern(3, i -> 3 - i)};
+        for (Integer[] xs : patterns) {
+            final Integer[] expected = Arrays.copyOf(xs, xs.length);
+            Arrays.sort(expected);
+            sorter.sort(xs, 0, xs.length);
+            assertArrayEquals(expected, xs);
+        }
+    }
+
+    @Test
+    public void testSortSubArray() {
+        final Integer[] xs = {99, 5, 4, 3, 2, 1, 0, 9, 8, 7, 6, -1};
+        new AdaptiveSort<Integer>(config).sort(xs, 1, 11);
+        assertArrayEquals(new Integer[]{99, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, -1}, xs);
+    }
+
+    @Test
+    public void testRegister() {
+        final int n = 1000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 3L, config);
+        final AdaptiveSort<Integer> sorter = new AdaptiveSort<>(helper);
+        final TimSort<Integer> timSort = new TimSort<>(helper);
+        sorter.register(GENERAL, timSort);
+        assertSame(timSort, sorter.getSorter(GENERAL));
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt());
+        final Integer[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorter.sort(xs, false));
+    }
+
+    @Test
+    public void testSortedIsLinear() {
+        final int n = 10000;
+        final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+        final InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", n, config);
+        helper.init(n);
+        new AdaptiveSort<>(helper).sort(pattern(n, i -> n - i), 0, n);
+        // NOTE: the sample costs about 4 * 64 compares and natural merge sort takes n-1 compares (to find the one run).
+        assertTrue(helper.getCompareCount() < 2 * n);
+    }
+
+    private static Integer[] pattern(int n, IntFunction<Integer> f) {
+        final Integer[] result = new Integer[n];
+        for (int i = 0; i < n; i++) result[i] = f.apply(i);
+        return result;
+    }
+
+    private static Config config;
+}
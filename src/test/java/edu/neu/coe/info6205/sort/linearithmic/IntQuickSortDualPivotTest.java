@@ -0,0 +1,77 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.InstrumentedIntHelper;
+import edu.neu.coe.info6205.sort.IntHelper;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IntQuickSortDualPivotTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(IntQuickSortDualPivotTest.class);
+    }
+
+    @Test
+    public void testSortSorted() {
+        // NOTE: with xs[lo] and xs[hi] as the pivots, sorted input would take about n^2/2 compares (50 million).
+        assertLinearithmic(i -> i);
+    }
+
+    @Test
+    public void testSortReversed() {
+        assertLinearithmic(i -> N - i);
+    }
+
+    @Test
+    public void testSortOrganPipe() {
+        assertLinearithmic(i -> i < N / 2 ? i : N - i);
+    }
+
+    @Test
+    public void testSortAllEqual() {
+        assertLinearithmic(i -> 42);
+    }
+
+    @Test
+    public void testSortSortedLongsAndDoubles() {
+        final IntQuickSort_DualPivot sorter = new IntQuickSort_DualPivot(new IntHelper("test", config));
+        final long[] xs = new long[N];
+        final double[] ys = new double[N];
+        for (int i = 0; i < N; i++) {
+            xs[i] = N - i;
+            ys[i] = i;
+        }
+        sorter.sort(xs, 0, N);
+        sorter.sort(ys, 0, N);
+        for (int i = 1; i < N; i++) assertTrue(xs[i - 1] <= xs[i] && ys[i - 1] <= ys[i]);
+    }
+
+    /**
+     * Sort the N elements given by f and check that the result is sorted, having taken no more than 3 N lg N compares.
+     */
+    private static void assertLinearithmic(IntUnaryOperator f) {
+        final InstrumentedIntHelper helper = new InstrumentedIntHelper("test", N, 0L, ConfigTest.setupConfig("true", "0", "0", "", ""));
+        final int[] xs = new int[N];
+        for (int i = 0; i < N; i++) xs[i] = f.applyAsInt(i);
+        final int[] expected = Arrays.copyOf(xs, N);
+        Arrays.sort(expected);
+        new IntQuickSort_DualPivot(helper).sort(xs, 0, N);
+        assertArrayEquals(expected, xs);
+        final double nlgn = N * Math.log(N) / Math.log(2);
+        assertTrue("compares: " + helper.getCompares(), helper.getCompares() < 3 * nlgn);
+    }
+
+    private static final int N = 10000;
+
+    private static Config config;
+}
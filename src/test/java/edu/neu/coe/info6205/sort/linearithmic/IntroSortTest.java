@@ -12,6 +12,7 @@ import java.util.List;
 
 import static edu.neu.coe.info6205.util.Utilities.round;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings("ALL")
@@ -96,11 +97,9 @@ public class IntroSortTest {
 
     @Test
     public void testHeapSort() throws Exception {
-        SortWithHelper<Integer> sorter = new IntroSort<>(Config.load(getClass()));
-        PrivateMethodTester t = new PrivateMethodTester(sorter);
+        IntroSort<Integer> sorter = new IntroSort<>(Config.load(getClass()));
         Integer[] xs = {15, 3, -1, 2, 4, 1, 0, 5, 8, 6, 1, 9, 17, 7, 11};
-        Class[] classes = {Comparable[].class, int.class, int.class};
-        t.invokePrivateExplicit("heapSort", classes, xs, 0, xs.length);
+        sorter.heapSort(xs, 0, xs.length);
         assertTrue(sorter.getHelper().sorted(xs));
     }
 
@@ -133,6 +132,25 @@ public class IntroSortTest {
         assertEquals(Character.valueOf('Z'), array[array.length - 1]);
     }
 
+    @Test
+    public void testSortParallel() throws Exception {
+        int n = 100000;
+        final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+        final Config parallelConfig = config.copy(IntroSort.INTROSORT, IntroSort.PARALLEL, "true").copy(IntroSort.INTROSORT, IntroSort.THRESHOLD, "1000");
+        final IntroSort<Integer> sorter = new IntroSort<>(n, parallelConfig);
+        assertTrue(sorter.isParallel());
+        final Helper<Integer> helper = sorter.getHelper();
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000000));
+        final Integer[] ys = sorter.sort(xs);
+        assertTrue(helper.sorted(ys));
+        // NOTE: the partitions (and so the depth of the recursion) do not depend on whether the sort is done in parallel.
+        final IntroSort<Integer> sequential = new IntroSort<>(n, config);
+        assertFalse(sequential.isParallel());
+        assertTrue(sequential.getHelper().sorted(sequential.sort(xs)));
+        assertTrue(helper.maxDepth() > 0);
+        assertEquals(sequential.getHelper().maxDepth(), helper.maxDepth());
+    }
+
     final static LazyLogger logger = new LazyLogger(IntroSort.class);
 
 
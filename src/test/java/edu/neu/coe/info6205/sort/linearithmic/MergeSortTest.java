@@ -365,6 +365,71 @@ public class MergeSortTest {
         assertTrue(helper.sorted(sorted));
     }
 
+    @Test(expected = SortException.class)
+    public void testSmallSortNetwork() {
+        // NOTE: a sorting network is not stable, so that merge sort must not accept it as its small sort.
+        new MergeSort<Integer>(8, config.copy(MergeSort.MERGESORT, InsertionSort.SMALLSORT, InsertionSort.NETWORK));
+    }
+
+    @Test
+    public void testSmallSortBinaryInsertion() {
+        MergeSort<Integer> sorter = new MergeSort<>(1000, config.copy(MergeSort.MERGESORT, InsertionSort.SMALLSORT, InsertionSort.BINARYINSERTION));
+        Helper<Integer> helper = sorter.getHelper();
+        Integer[] ints = helper.random(Integer.class, r -> r.nextInt(1000));
+        Integer[] sorted = sorter.sort(ints);
+        assertTrue(helper.sorted(sorted));
+    }
+
+    @Test
+    public void testSortBottomUp() {
+        for (String insurance : new String[]{"false", "true"})
+            for (String noCopy : new String[]{"false", "true"}) {
+                final Config config1 = config.copy(MergeSort.MERGESORT, MergeSort.INSURANCE, insurance).copy(MergeSort.MERGESORT, MergeSort.NOCOPY, noCopy).copy(MergeSort.MERGESORT, MergeSort.BOTTOMUP, "true");
+                MergeSort<Integer> sorter = new MergeSort<>(1000, config1);
+                System.out.println("testing " + sorter);
+                Helper<Integer> helper = sorter.getHelper();
+                Integer[] ints = helper.random(Integer.class, r -> r.nextInt(1000));
+                Integer[] sorted = sorter.sort(ints);
+                assertTrue(helper.sorted(sorted));
+            }
+    }
+
+    @Test
+    public void testSortBottomUpCompares() throws Exception {
+        int k = 7;
+        int N = (int) Math.pow(2, k);
+        // NOTE: with a cutoff of 1 and ordered input, each of the k passes makes N/2 compares, just as for top-down.
+        final Config config1 = ConfigTest.setupConfig("true", "", "0", "1", "").copy(MergeSort.MERGESORT, MergeSort.BOTTOMUP, "true");
+        final Helper<Integer> helper = HelperFactory.create("merge sort", N, config1);
+        Sort<Integer> s = new MergeSort<>(helper);
+        s.init(N);
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(10000));
+        Arrays.sort(xs);
+        helper.preProcess(xs);
+        Integer[] ys = s.sort(xs);
+        helper.postProcess(ys);
+        final PrivateMethodTester privateMethodTester = new PrivateMethodTester(helper);
+        final StatPack statPack = (StatPack) privateMethodTester.invokePrivate("getStatPack");
+        final int compares = (int) statPack.getStatistics(InstrumentedHelper.COMPARES).mean();
+        final int copies = (int) statPack.getStatistics(InstrumentedHelper.COPIES).mean();
+        assertEquals(N * k / 2, compares);
+        assertEquals(k * N, copies);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        for (String noCopy : new String[]{"false", "true"})
+            for (String bottomUp : new String[]{"false", "true"}) {
+                final Config config1 = config.copy(MergeSort.MERGESORT, MergeSort.NOCOPY, noCopy).copy(MergeSort.MERGESORT, MergeSort.BOTTOMUP, bottomUp);
+                MergeSort<Integer> sorter = new MergeSort<>(100, config1);
+                Integer[] ints = sorter.getHelper().random(Integer.class, r -> r.nextInt(1000));
+                Integer[] expected = Arrays.copyOf(ints, ints.length);
+                Arrays.sort(expected, 10, 90);
+                sorter.sort(ints, 10, 90);
+                assertEquals(Arrays.asList(expected), Arrays.asList(ints));
+            }
+    }
+
     final static LazyLogger logger = new LazyLogger(MergeSort.class);
 
     private static Config config;
@@ -0,0 +1,135 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import edu.neu.coe.info6205.util.PrivateMethodTester;
+import edu.neu.coe.info6205.util.StatPack;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NaturalMergeSortTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(NaturalMergeSortTest.class);
+    }
+
+    @Test
+    public void testSort() {
+        Integer[] xs = {3, 4, 2, 1};
+        SortWithHelper<Integer> sorter = new NaturalMergeSort<>(config);
+        Integer[] ys = sorter.sort(xs);
+        assertArrayEquals(new Integer[]{1, 2, 3, 4}, ys);
+    }
+
+    @Test
+    public void testSortRandom() {
+        for (int n : new int[]{31, 32, 100, 1000, 10000}) {
+            final Helper<Integer> helper = new BaseHelper<>("test", n, 0L, config);
+            checkSort(helper.random(Integer.class, r -> r.nextInt(1000000)));
+            checkSort(helper.random(Integer.class, r -> r.nextInt(4)));
+        }
+    }
+
+    @Test
+    public void testSortRuns() {
+        int n = 10000;
+        checkSort(pattern(n, i -> i));
+        checkSort(pattern(n, i -> n - i));
+        checkSort(pattern(n, i -> i < n / 2 ? i : n - i));
+        checkSort(pattern(n, i -> i % 1000));
+        checkSort(pattern(n, i -> i % 2 == 0 ? i : n - i));
+        checkSort(pattern(n, i -> i / 100 % 2 == 0 ? i : -i));
+        checkSort(pattern(n, i -> 42));
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Integer[] xs = {99, 5, 4, 3, 2, 1, 0, 9, 8, 7, 6, -1};
+        new NaturalMergeSort<Integer>(config).sort(xs, 1, 11);
+        assertArrayEquals(new Integer[]{99, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, -1}, xs);
+    }
+
+    @Test
+    public void testStable() {
+        int n = 5000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 1L, config);
+        final Integer[] keys = helper.random(Integer.class, r -> r.nextInt(50));
+        final Keyed[] xs = new Keyed[n];
+        for (int i = 0; i < n; i++) xs[i] = new Keyed(keys[i], i);
+        new NaturalMergeSort<Keyed>(new BaseHelper<>("test", config)).mutatingSort(xs);
+        for (int i = 1; i < n; i++)
+            assertTrue(xs[i - 1].key < xs[i].key || xs[i - 1].key == xs[i].key && xs[i - 1].sequence < xs[i].sequence);
+    }
+
+    @Test
+    public void testOrderedIsLinear() {
+        int n = 10000;
+        final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+        for (Integer[] xs : new Integer[][]{pattern(n, i -> i), pattern(n, i -> n - i)}) {
+            final InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", n, config);
+            helper.init(n);
+            new NaturalMergeSort<>(helper).mutatingSort(xs);
+            assertEquals(n - 1, helper.getCompareCount());
+            assertTrue(helper.getSwapCount() <= n / 2);
+        }
+    }
+
+    @Test
+    public void testFixes() {
+        int n = 2000;
+        final Config config = ConfigTest.setupConfig("true", "0", "1", "", "");
+        final InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", n, config);
+        helper.init(n);
+        // NOTE: ascending runs with some noise, so that the merges both gallop and don't.
+        final Integer[] xs = pattern(n, i -> i % 3 == 0 ? i * 7 % 1000 : i / 300 * 1000 + i % 300);
+        final long inversions = helper.inversions(xs);
+        helper.preProcess(xs);
+        new NaturalMergeSort<>(helper).mutatingSort(xs);
+        helper.postProcess(xs);
+        final StatPack statPack = (StatPack) new PrivateMethodTester(helper).invokePrivate("getStatPack");
+        assertEquals(inversions, (int) statPack.getStatistics(InstrumentedHelper.FIXES).mean());
+        assertEquals(0, helper.inversions(xs));
+    }
+
+    private static Integer[] pattern(int n, IntFunction<Integer> f) {
+        final Integer[] result = new Integer[n];
+        for (int i = 0; i < n; i++) result[i] = f.apply(i);
+        return result;
+    }
+
+    private static void checkSort(Integer[] xs) {
+        final Integer[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new NaturalMergeSort<>(new BaseHelper<Integer>("test", config)).mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    private static class Keyed implements Comparable<Keyed> {
+        Keyed(int key, int sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        public int compareTo(Keyed o) {
+            return Integer.compare(key, o.key);
+        }
+
+        final int key;
+        final int sequence;
+    }
+
+    private static Config config;
+}
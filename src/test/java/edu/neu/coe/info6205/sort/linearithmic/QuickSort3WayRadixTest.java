@@ -0,0 +1,82 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QuickSort3WayRadixTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(QuickSort3WayRadixTest.class);
+    }
+
+    @Test
+    public void testSort() {
+        String[] xs = "she sells seashells by the seashore the shells she sells are surely seashells".split(" ");
+        SortWithHelper<String> sorter = new QuickSort_3wayRadix(xs.length, config);
+        String[] ys = sorter.sort(xs);
+        assertArrayEquals("are by seashells seashells seashore sells sells she she shells surely the the".split(" "), ys);
+    }
+
+    @Test
+    public void testSortRandom() {
+        int n = 10000;
+        final SortWithHelper<String> sorter = new QuickSort_3wayRadix(n, config);
+        final Helper<String> helper = sorter.getHelper();
+        helper.init(n);
+        final String[] xs = helper.random(String.class, r -> Integer.toString(r.nextInt(100000)));
+        final String[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        sorter.mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        String[] xs = {"z", "d", "c", "b", "a", "", "ab", "a"};
+        new QuickSort_3wayRadix(config).sort(xs, 1, 7);
+        assertArrayEquals(new String[]{"z", "", "a", "ab", "b", "c", "d", "a"}, xs);
+    }
+
+    @Test
+    public void testSortSharedPrefixes() {
+        final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+        int n = 1000;
+        final String prefix = "the quick brown fox jumps over the lazy dog ";
+        final InstrumentedHelper<String> helper = new InstrumentedHelper<>("test", n, 0L, config);
+        final String[] xs = helper.random(String.class, r -> prefix + r.nextInt(n));
+        final String[] ys = Arrays.copyOf(xs, n);
+        new QuickSort_3wayRadix(helper).mutatingSort(xs);
+        assertTrue(helper.sorted(xs));
+        final long compares = helper.getCompareCount();
+        // NOTE: QuickSort_3way compares whole Strings, so we count the characters which each of its compares examines.
+        final long[] characters = new long[1];
+        final Comparator<String> counting = (v, w) -> {
+            int i = 0;
+            while (i < v.length() && i < w.length() && v.charAt(i) == w.charAt(i)) i++;
+            characters[0] += i + 1;
+            return v.compareTo(w);
+        };
+        final InstrumentedHelper<String> helper3way = new InstrumentedHelper<>("test", n, new Random(0L), counting, config);
+        new QuickSort_3way<>(helper3way).mutatingSort(ys);
+        assertArrayEquals(ys, xs);
+        // NOTE: each String compare made by QuickSort_3way examines the whole of the shared prefix, whereas the radix sort examines it only once per partition.
+        assertTrue(helper3way.getCompareCount() * prefix.length() <= characters[0]);
+        assertTrue(compares < characters[0] / 4);
+    }
+
+    private static Config config;
+}
@@ -10,9 +10,13 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static edu.neu.coe.info6205.util.Utilities.round;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -94,6 +98,57 @@ public class QuickSortDualPivotTest {
         assertTrue(helper.sorted(sorted));
     }
 
+    @Test
+    public void testSortBlock() throws Exception {
+        int n = 1000;
+        final Config blockConfig = config.copy(QuickSort_DualPivot.QUICKSORT_DUALPIVOT, QuickSort.BLOCKPARTITION, "true");
+        final QuickSort<Integer> sorter = new QuickSort_DualPivot<>(n, blockConfig);
+        assertTrue(sorter.partitioner instanceof QuickSort_DualPivot.Partitioner_DualPivotBlock);
+        final Helper<Integer> helper = sorter.getHelper();
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000));
+        final Integer[] sorted = sorter.sort(xs);
+        assertTrue(helper.sorted(sorted));
+    }
+
+    @Test
+    public void testPartitionBlock() throws Exception {
+        int n = 1000;
+        final Config config = ConfigTest.setupConfig("false", "0", "0", "", "");
+        final QuickSort_DualPivot<Integer> sorter = new QuickSort_DualPivot<>(n, config);
+        final Integer[] xs = sorter.getHelper().random(Integer.class, r -> r.nextInt(1000));
+        final Integer[] ys = Arrays.copyOf(xs, n);
+        final List<Partition<Integer>> expected = sorter.createPartitioner().partition(QuickSort.createPartition(ys));
+        final Partitioner<Integer> partitioner = sorter.new Partitioner_DualPivotBlock(sorter.getHelper());
+        final List<Partition<Integer>> partitions = partitioner.partition(QuickSort.createPartition(xs));
+        assertEquals(3, partitions.size());
+        for (int k = 0; k < 3; k++) {
+            assertEquals(expected.get(k).from, partitions.get(k).from);
+            assertEquals(expected.get(k).to, partitions.get(k).to);
+        }
+        final int lt = partitions.get(0).to;
+        final int gt = partitions.get(1).to;
+        for (int i = 0; i < lt; i++) assertTrue(xs[i] < xs[lt]);
+        for (int i = lt + 1; i < gt; i++) assertTrue(xs[i] >= xs[lt] && xs[i] <= xs[gt]);
+        for (int i = gt + 1; i < n; i++) assertTrue(xs[i] > xs[gt]);
+    }
+
+    @Test
+    public void testPartitionBounds() throws Exception {
+        int n = 1000;
+        final Config config = ConfigTest.setupConfig("false", "0", "0", "", "");
+        final QuickSort_DualPivot<Integer> sorter = new QuickSort_DualPivot<>(n, config);
+        final Integer[] xs = sorter.getHelper().random(Integer.class, r -> r.nextInt(1000));
+        final Integer[] ys = Arrays.copyOf(xs, n);
+        final List<Partition<Integer>> expected = sorter.createPartitioner().partition(QuickSort.createPartition(ys));
+        final int[] bounds = new int[6];
+        assertEquals(3, sorter.createPartitioner().partition(xs, 0, n, bounds));
+        for (int k = 0; k < 3; k++) {
+            assertEquals(expected.get(k).from, bounds[2 * k]);
+            assertEquals(expected.get(k).to, bounds[2 * k + 1]);
+        }
+        assertArrayEquals(ys, xs);
+    }
+
     @Test
     public void testPartition1() throws Exception {
         String testString = "PBAXWPPVPCPDZY";
@@ -177,6 +232,20 @@ public class QuickSortDualPivotTest {
         assertTrue(inversions <= fixes);
     }
 
+    @Test
+    public void testSortConcurrently() throws Exception {
+        final int n = 100000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 0L, config);
+        final QuickSort<Integer> sorter = new QuickSort_DualPivot<>(helper);
+        final List<Integer[]> arrays = new ArrayList<>();
+        for (int i = 0; i < 8; i++) arrays.add(helper.random(Integer.class, r -> r.nextInt(1000000)));
+        // NOTE: the same sorter is used by all of the threads at once.
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        pool.submit(() -> arrays.parallelStream().forEach(xs -> sorter.sort(xs, 0, xs.length, 0))).get();
+        pool.shutdown();
+        for (Integer[] xs : arrays) assertTrue(helper.sorted(xs));
+    }
+
     @Test
     public void testPartitionWithSort() {
         String[] xs = new String[]{"g", "f", "e", "d", "c", "b", "a"};
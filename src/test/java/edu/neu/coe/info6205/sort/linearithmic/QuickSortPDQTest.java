@@ -0,0 +1,116 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QuickSortPDQTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(QuickSortPDQTest.class);
+    }
+
+    @Test
+    public void testSort() {
+        Integer[] xs = {3, 4, 2, 1};
+        SortWithHelper<Integer> sorter = new QuickSort_PDQ<>(config);
+        Integer[] ys = sorter.sort(xs);
+        assertArrayEquals(new Integer[]{1, 2, 3, 4}, ys);
+    }
+
+    @Test
+    public void testSortRandom() {
+        int n = 10000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 0L, config);
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000000));
+        checkSort(xs);
+    }
+
+    @Test
+    public void testSortManyDuplicates() {
+        int n = 10000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 1L, config);
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(3));
+        checkSort(xs);
+    }
+
+    @Test
+    public void testSortPatterns() {
+        int n = 10000;
+        checkSort(pattern(n, i -> i));
+        checkSort(pattern(n, i -> n - i));
+        checkSort(pattern(n, i -> i < n / 2 ? i : n - i));
+        checkSort(pattern(n, i -> i % 100));
+        checkSort(pattern(n, i -> i % 2 == 0 ? i : n - i));
+        checkSort(pattern(n, i -> 42));
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Integer[] xs = {99, 5, 4, 3, 2, 1, 0, 9, 8, 7, 6, -1};
+        new QuickSort_PDQ<>(new BaseHelper<Integer>("test", config)).sort(xs, 1, 11, 0);
+        assertArrayEquals(new Integer[]{99, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, -1}, xs);
+    }
+
+    @Test
+    public void testOrderedIsLinear() {
+        int n = 10000;
+        final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+        final InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", n, config);
+        helper.init(n);
+        new QuickSort_PDQ<>(helper).mutatingSort(pattern(n, i -> i));
+        // NOTE: the first partition requires no swaps and each side then succeeds in a partial insertion sort.
+        assertTrue(helper.getCompareCount() < 3 * n);
+        final InstrumentedHelper<Integer> helperReversed = new InstrumentedHelper<>("test", n, config);
+        helperReversed.init(n);
+        new QuickSort_PDQ<>(helperReversed).mutatingSort(pattern(n, i -> n - i));
+        assertTrue(helperReversed.getCompareCount() < 4 * n);
+    }
+
+    @Test
+    public void testPartition() {
+        Integer[] xs = {5, 9, 1, 7, 3, 8, 2, 6, 4, 0};
+        QuickSort<Integer> sorter = new QuickSort_PDQ<>(config);
+        List<Partition<Integer>> partitions = sorter.createPartitioner().partition(QuickSort.createPartition(xs));
+        assertEquals(2, partitions.size());
+        final int p = partitions.get(0).to;
+        assertEquals(p + 1, partitions.get(1).from);
+        for (int i = 0; i < p; i++) assertTrue(xs[i] < xs[p]);
+        for (int i = p + 1; i < xs.length; i++) assertTrue(xs[i] >= xs[p]);
+        final Integer[] ys = {5, 9, 1, 7, 3, 8, 2, 6, 4, 0};
+        final int[] bounds = new int[4];
+        assertEquals(2, sorter.createPartitioner().partition(ys, 0, ys.length, bounds));
+        assertArrayEquals(new int[]{0, p, p + 1, ys.length}, bounds);
+        assertArrayEquals(xs, ys);
+    }
+
+    private static Integer[] pattern(int n, IntFunction<Integer> f) {
+        final Integer[] result = new Integer[n];
+        for (int i = 0; i < n; i++) result[i] = f.apply(i);
+        return result;
+    }
+
+    private static void checkSort(Integer[] xs) {
+        final Integer[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new QuickSort_PDQ<>(new BaseHelper<Integer>("test", config)).mutatingSort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    private static Config config;
+}
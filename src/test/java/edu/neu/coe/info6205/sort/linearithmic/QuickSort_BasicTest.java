@@ -45,6 +45,59 @@ public class QuickSort_BasicTest {
         assertTrue(helper.sorted(sorted));
     }
 
+    @Test
+    public void testSortBlock() throws Exception {
+        int n = 1000;
+        final Config blockConfig = config.copy(QuickSort_Basic.QUICKSORT_BASIC, QuickSort.BLOCKPARTITION, "true");
+        final QuickSort<Integer> sorter = new QuickSort_Basic<>(n, blockConfig);
+        assertTrue(sorter.partitioner instanceof QuickSort_Basic.Partitioner_BasicBlock);
+        final Helper<Integer> helper = sorter.getHelper();
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000));
+        final Integer[] sorted = sorter.sort(xs);
+        assertTrue(helper.sorted(sorted));
+    }
+
+    @Test
+    public void testPartitionBlock() throws Exception {
+        int n = 1000;
+        final Config config = ConfigTest.setupConfig("false", "0", "0", "", "");
+        final QuickSort_Basic<Integer> sorter = new QuickSort_Basic<>(n, config);
+        final Integer[] xs = sorter.getHelper().random(Integer.class, r -> r.nextInt(100));
+        final Partitioner<Integer> partitioner = sorter.new Partitioner_BasicBlock(sorter.getHelper());
+        final List<Partition<Integer>> partitions = partitioner.partition(QuickSort.createPartition(xs));
+        assertEquals(2, partitions.size());
+        final int j = partitions.get(0).to;
+        assertEquals(j + 1, partitions.get(1).from);
+        for (int i = 0; i < j; i++) assertTrue(xs[i] <= xs[j]);
+        for (int i = j + 1; i < n; i++) assertTrue(xs[i] >= xs[j]);
+    }
+
+    @Test
+    public void testPartitionBounds() throws Exception {
+        int n = 1000;
+        final Config config = ConfigTest.setupConfig("false", "0", "0", "", "");
+        final QuickSort_Basic<Integer> sorter = new QuickSort_Basic<>(n, config);
+        final Integer[] xs = sorter.getHelper().random(Integer.class, r -> r.nextInt(100));
+        final Integer[] ys = xs.clone();
+        final List<Partition<Integer>> expected = sorter.createPartitioner().partition(QuickSort.createPartition(ys));
+        final int[] bounds = new int[4];
+        assertEquals(2, sorter.createPartitioner().partition(xs, 0, n, bounds));
+        for (int k = 0; k < 2; k++) {
+            assertEquals(expected.get(k).from, bounds[2 * k]);
+            assertEquals(expected.get(k).to, bounds[2 * k + 1]);
+        }
+    }
+
+    @Test
+    public void testSortOrdered() throws Exception {
+        // NOTE: each partition of ordered input is maximally unbalanced (the recursion would be n deep), but the stack stays small.
+        int n = 10000;
+        final QuickSort<Integer> sorter = new QuickSort_Basic<>(n, config);
+        final Integer[] xs = new Integer[n];
+        for (int i = 0; i < n; i++) xs[i] = i;
+        assertTrue(sorter.getHelper().sorted(sorter.sort(xs)));
+    }
+
     @Test
     public void testPartition() throws Exception {
         String testString = "PABXWPPVPDPCYZ";
@@ -0,0 +1,164 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.util.Config;
+import edu.neu.coe.info6205.util.ConfigTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SelectTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(SelectTest.class);
+    }
+
+    @Test
+    public void testSelect() {
+        Integer[] xs = {5, 9, 1, 7, 3, 8, 2, 6, 4, 0, 11, 10};
+        final Select<Integer> select = new Select<>(config);
+        assertEquals(Integer.valueOf(4), select.select(xs, 4));
+        checkSelected(xs, 4);
+        assertEquals(Integer.valueOf(0), select.select(xs, 0));
+        assertEquals(Integer.valueOf(11), select.select(xs, 11));
+    }
+
+    @Test
+    public void testSelectRandom() {
+        final int n = 10000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 0L, config);
+        final Select<Integer> select = new Select<>(helper);
+        for (int k : new int[]{0, 1, 100, n / 2, n - 2, n - 1}) {
+            final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000));
+            final Integer[] sorted = Arrays.copyOf(xs, n);
+            Arrays.sort(sorted);
+            assertEquals(sorted[k], select.select(xs, k));
+            checkSelected(xs, k);
+            final Integer[] ys = helper.random(Integer.class, r -> r.nextInt(1000));
+            final Integer[] sortedYs = Arrays.copyOf(ys, n);
+            Arrays.sort(sortedYs);
+            assertEquals(sortedYs[k], select.introSelect(ys, k));
+            checkSelected(ys, k);
+        }
+    }
+
+    @Test
+    public void testIntroSelectPatterns() {
+        final int n = 10000;
+        final Select<Integer> select = new Select<>(new BaseHelper<Integer>("test", config));
+        for (Integer[] xs : new Integer[][]{pattern(n, i -> i), pattern(n, i -> n - i), pattern(n, i -> i < n / 2 ? i : n - i), pattern(n, i -> 42)}) {
+            final Integer[] sorted = Arrays.copyOf(xs, n);
+            Arrays.sort(sorted);
+            assertEquals(sorted[n / 3], select.introSelect(xs, n / 3));
+            checkSelected(xs, n / 3);
+        }
+    }
+
+    @Test
+    public void testHeapSelect() {
+        // NOTE: with a limit of zero, the selection is done entirely by heap select.
+        final int n = 1000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 1L, config);
+        final Select<Integer> select = new Select<>(helper);
+        for (int k : new int[]{0, 1, 10, n / 2, n - 1}) {
+            final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(100));
+            final Integer[] sorted = Arrays.copyOf(xs, n);
+            Arrays.sort(sorted);
+            assertEquals(sorted[k], select.select(xs, 0, n, k, 0));
+            checkSelected(xs, k);
+        }
+    }
+
+    @Test
+    public void testSelectSubArray() {
+        Integer[] xs = {99, 5, 4, 3, 2, 1, 0, 9, 8, 7, 6, -1};
+        assertEquals(Integer.valueOf(3), new Select<Integer>(config).select(xs, 1, 11, 4));
+        assertEquals(Integer.valueOf(99), xs[0]);
+        assertEquals(Integer.valueOf(-1), xs[11]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelectOutOfRange() {
+        new Select<Integer>(config).select(new Integer[]{1, 2, 3}, 3);
+    }
+
+    @Test
+    public void testIntroSelectIsLinear() {
+        final int n = 10000;
+        final Config config = ConfigTest.setupConfig("true", "0", "0", "", "");
+        final InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", n, config);
+        helper.init(n);
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt());
+        new Select<>(helper).introSelect(xs, n / 2);
+        // NOTE: a full sort would take about n lg n (i.e. about 13 n) compares.
+        assertTrue(helper.getCompareCount() < 5 * n);
+    }
+
+    @Test
+    public void testPartialSort() {
+        final int n = 10000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 2L, config);
+        final Select<Integer> select = new Select<>(helper);
+        for (int k : new int[]{0, 1, 2, 100, n - 1, n}) {
+            final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000000));
+            final Integer[] sorted = Arrays.copyOf(xs, n);
+            Arrays.sort(sorted);
+            select.partialSort(xs, k);
+            assertArrayEquals(Arrays.copyOf(sorted, k), Arrays.copyOf(xs, k));
+            if (k > 0 && k < n) checkSelected(xs, k - 1);
+        }
+    }
+
+    @Test
+    public void testTopK() {
+        final int n = 10000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 3L, config);
+        final Select<Integer> select = new Select<>(helper);
+        final List<Integer> xs = Arrays.asList(helper.random(Integer.class, r -> r.nextInt(1000)));
+        final List<Integer> sorted = new ArrayList<>(xs);
+        Collections.sort(sorted);
+        for (int k : new int[]{0, 1, 10, 1000})
+            assertEquals(sorted.subList(0, k), select.topK(xs, k));
+        assertEquals(sorted, select.topK(xs, n + 1));
+    }
+
+    @Test
+    public void testTopKIsStreaming() {
+        // NOTE: the Iterable is never materialized.
+        final Iterable<Integer> stream = () -> new Iterator<Integer>() {
+            public boolean hasNext() {
+                return i < 1000000;
+            }
+
+            public Integer next() {
+                return (int) ((i++ * 7919L) % 1000003);
+            }
+
+            private int i = 0;
+        };
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), new Select<Integer>(config).topK(stream, 5));
+    }
+
+    private static void checkSelected(Integer[] xs, int k) {
+        for (int i = 0; i < k; i++) assertTrue(xs[i] <= xs[k]);
+        for (int i = k + 1; i < xs.length; i++) assertTrue(xs[i] >= xs[k]);
+    }
+
+    private static Integer[] pattern(int n, IntFunction<Integer> f) {
+        final Integer[] result = new Integer[n];
+        for (int i = 0; i < n; i++) result[i] = f.apply(i);
+        return result;
+    }
+
+    private static Config config;
+}
@@ -0,0 +1,85 @@
+package edu.neu.coe.info6205.sort.par;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.chrono.ChronoLocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParMergeSortTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(ParMergeSortTest.class);
+    }
+
+    @Test
+    public void testSort0() {
+        Integer[] xs = {3, 4, 2, 1};
+        SortWithHelper<Integer> sorter = new ParMergeSort<>(new BaseHelper<Integer>("test", config));
+        Integer[] ys = sorter.sort(xs);
+        assertArrayEquals(new Integer[]{1, 2, 3, 4}, ys);
+    }
+
+    @Test
+    public void testSort1() {
+        int n = 100000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 0L, config);
+        final Integer[] xs = helper.random(Integer.class, r -> r.nextInt(1000000));
+        final Integer[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        SortWithHelper<Integer> sorter = new ParMergeSort<>(helper, 1000, new ForkJoinPool(4));
+        Integer[] ys = sorter.sort(xs);
+        assertArrayEquals(expected, ys);
+    }
+
+    @Test
+    public void testSort2() {
+        int n = 10000;
+        final Helper<String> helper = new BaseHelper<>("test", n, 1L, config);
+        final String[] xs = helper.random(String.class, r -> Integer.toString(r.nextInt(100000)));
+        SortWithHelper<String> sorter = new ParMergeSort<>(helper, 100, ForkJoinPool.commonPool());
+        sorter.mutatingSort(xs);
+        assertTrue(helper.sorted(xs));
+    }
+
+    @Test
+    public void testSort3() {
+        final LocalDateTime now = LocalDateTime.now();
+        ChronoLocalDateTime<?>[] xs = new ChronoLocalDateTime<?>[5000];
+        for (int i = 0; i < xs.length; i++) xs[i] = now.minusMinutes((i * 7919L) % xs.length);
+        final Helper<ChronoLocalDateTime<?>> helper = new BaseHelper<>("test", config);
+        new ParMergeSort<>(helper, 64, ForkJoinPool.commonPool()).mutatingSort(xs);
+        assertTrue(helper.sorted(xs));
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Integer[] xs = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 99, 98, 97, 96, 95, 94, 93, 92, 91, 90, -1};
+        SortWithHelper<Integer> sorter = new ParMergeSort<>(new BaseHelper<Integer>("test", config), 2, ForkJoinPool.commonPool());
+        sorter.sort(xs, 10, 20);
+        assertEquals(Integer.valueOf(9), xs[0]);
+        assertEquals(Integer.valueOf(90), xs[10]);
+        assertEquals(Integer.valueOf(99), xs[19]);
+        assertEquals(Integer.valueOf(-1), xs[20]);
+    }
+
+    @Test
+    public void testThreshold() {
+        assertEquals(1000, new ParMergeSort<Integer>(0, config).getThreshold());
+        assertEquals(8192, new ParMergeSort<Integer>(0, config.copy(ParMergeSort.PARMERGESORT, ParMergeSort.THRESHOLD, "8192")).getThreshold());
+    }
+
+    private static Config config;
+}
@@ -0,0 +1,90 @@
+package edu.neu.coe.info6205.sort.par;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParRadixSortTest {
+
+    @Test
+    public void testSortInts() {
+        Random random = new Random(0L);
+        int[] xs = new int[200000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt();
+        int[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new ParRadixSort(new ForkJoinPool(4)).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortIntsNegativeAndSmallRange() {
+        Random random = new Random(1L);
+        int[] xs = new int[1000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt(2000) - 1000;
+        int[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new ParRadixSort().sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortIntsExtremes() {
+        int[] xs = {0, Integer.MAX_VALUE, -1, Integer.MIN_VALUE, 1, 256, -256};
+        int[] ys = new int[300];
+        for (int i = 0; i < ys.length; i++) ys[i] = xs[i % xs.length];
+        int[] expected = Arrays.copyOf(ys, ys.length);
+        Arrays.sort(expected);
+        new ParRadixSort().sort(ys);
+        assertArrayEquals(expected, ys);
+    }
+
+    @Test
+    public void testSortIntsSubArray() {
+        Random random = new Random(2L);
+        int[] xs = new int[5000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt();
+        int[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, 10, 4990);
+        new ParRadixSort().sort(xs, 10, 4990);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortLongs() {
+        Random random = new Random(3L);
+        long[] xs = new long[100000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextLong();
+        long[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new ParRadixSort(new ForkJoinPool(3)).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortLongsSubArray() {
+        Random random = new Random(4L);
+        long[] xs = new long[3000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt(100000) - 50000L;
+        long[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, 1, 2999);
+        new ParRadixSort().sort(xs, 1, 2999);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testIsTrivial() {
+        int[][][] histograms = new int[2][1][256];
+        histograms[0][0][3] = 5;
+        histograms[1][0][3] = 2;
+        assertTrue(ParRadixSort.isTrivial(histograms, 0, 7));
+        histograms[1][0][4] = 1;
+        assertFalse(ParRadixSort.isTrivial(histograms, 0, 8));
+    }
+}
@@ -0,0 +1,60 @@
+package edu.neu.coe.info6205.sort.par;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParSortTest {
+
+    @Test
+    public void testSort() {
+        ParSort.pool = new ForkJoinPool(4);
+        ParSort.cutoff = 1000;
+        Random random = new Random(0L);
+        int[] array = new int[100000];
+        for (int i = 0; i < array.length; i++) array[i] = random.nextInt(10000000);
+        int[] expected = Arrays.copyOf(array, array.length);
+        Arrays.sort(expected);
+        ParSort.sort(array, 0, array.length);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        ParSort.cutoff = 8;
+        int[] array = {5, 99, 98, 97, 96, 95, 94, 93, 92, 91, 90, 89, 88, 87, 86, 85, 84, 83, 82, 81, 80, 1};
+        ParSort.sort(array, 1, 21);
+        assertEquals(5, array[0]);
+        assertEquals(80, array[1]);
+        assertEquals(99, array[20]);
+        assertEquals(1, array[21]);
+    }
+
+    @Test
+    public void testMerge() {
+        ParSort.cutoff = 2;
+        int[] xs = {1, 3, 3, 5, 7, 9, 2, 3, 4, 6, 8, 10, 12};
+        int[] ys = new int[xs.length];
+        ParSort.merge(xs, 0, 6, 6, 13, ys, 0);
+        assertArrayEquals(new int[]{1, 2, 3, 3, 3, 4, 5, 6, 7, 8, 9, 10, 12}, ys);
+    }
+
+    @Test
+    public void testCoRank() {
+        int[] a = {1, 3, 5, 7};
+        int[] b = {2, 4, 6, 8};
+        assertEquals(0, ParSort.coRank(0, a, 0, 4, b, 0, 4));
+        assertEquals(1, ParSort.coRank(1, a, 0, 4, b, 0, 4));
+        assertEquals(1, ParSort.coRank(2, a, 0, 4, b, 0, 4));
+        assertEquals(2, ParSort.coRank(4, a, 0, 4, b, 0, 4));
+        assertEquals(4, ParSort.coRank(8, a, 0, 4, b, 0, 4));
+        // NOTE: ties are resolved in favor of the left run.
+        int[] c = {3, 3};
+        assertEquals(2, ParSort.coRank(2, c, 0, 2, c, 0, 2));
+    }
+}
@@ -0,0 +1,112 @@
+package edu.neu.coe.info6205.sort.par;
+
+import edu.neu.coe.info6205.util.Config;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SampleSortTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(SampleSortTest.class);
+    }
+
+    @Test
+    public void testConfig() {
+        SampleSort sorter = new SampleSort(config);
+        assertEquals(8, sorter.getBuckets());
+        assertEquals(4, sorter.getOversampling());
+    }
+
+    @Test
+    public void testSortInts() {
+        Random random = new Random(0L);
+        int[] xs = new int[100000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt();
+        int[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new SampleSort(16, 8, new ForkJoinPool(4), random).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortIntsWithDuplicates() {
+        Random random = new Random(0L);
+        int[] xs = new int[50000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt(3);
+        int[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new SampleSort(config).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortLongsSubArray() {
+        Random random = new Random(1L);
+        long[] xs = new long[30000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextLong();
+        long[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, 100, 29900);
+        new SampleSort(config).sort(xs, 100, 29900);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortStrings() {
+        Random random = new Random(2L);
+        String[] xs = new String[20000];
+        for (int i = 0; i < xs.length; i++) xs[i] = Long.toString(random.nextLong(), 36);
+        String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new SampleSort(config).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortComparator() {
+        Random random = new Random(3L);
+        String[] xs = new String[20000];
+        for (int i = 0; i < xs.length; i++) xs[i] = Long.toString(random.nextLong(), 36);
+        String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, Comparator.comparing(String::length).reversed());
+        // NOTE: both sorts are stable, so that strings of equal length must be in the same order.
+        new SampleSort(config).sort(xs, Comparator.comparing(String::length).reversed());
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortSmall() {
+        Integer[] xs = {3, 4, 2, 1};
+        new SampleSort(config).sort(xs);
+        assertArrayEquals(new Integer[]{1, 2, 3, 4}, xs);
+    }
+
+    @Test
+    public void testBucket() {
+        int[] splitters = {10, 20, 20, 30};
+        assertEquals(0, SampleSort.bucket(splitters, 5));
+        assertEquals(1, SampleSort.bucket(splitters, 10));
+        assertEquals(3, SampleSort.bucket(splitters, 20));
+        assertEquals(4, SampleSort.bucket(splitters, 31));
+    }
+
+    @Test
+    public void testOffsets() {
+        int[][] counts = {{1, 2, 0}, {3, 0, 4}};
+        int[] starts = ParUtilities.offsets(counts);
+        assertArrayEquals(new int[]{0, 4, 6, 10}, starts);
+        assertArrayEquals(new int[]{0, 4, 6}, counts[0]);
+        assertArrayEquals(new int[]{1, 6, 6}, counts[1]);
+    }
+
+    private static Config config;
+}
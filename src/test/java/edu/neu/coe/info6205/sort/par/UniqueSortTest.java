@@ -0,0 +1,80 @@
+package edu.neu.coe.info6205.sort.par;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.linearithmic.MergeSort;
+import edu.neu.coe.info6205.util.Config;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class UniqueSortTest {
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        config = Config.load(UniqueSortTest.class);
+    }
+
+    @Test
+    public void testConfig() {
+        assertEquals(4, new UniqueSort<String>(config).getChunks());
+    }
+
+    @Test
+    public void testSortCount() {
+        final String[] xs = "the cat sat on the mat and the dog sat on the cat".split(" ");
+        final String[] copy = Arrays.copyOf(xs, xs.length);
+        final List<UniqueSort.Count<String>> expected = Arrays.asList(
+                new UniqueSort.Count<>("and", 1), new UniqueSort.Count<>("cat", 2), new UniqueSort.Count<>("dog", 1),
+                new UniqueSort.Count<>("mat", 1), new UniqueSort.Count<>("on", 2), new UniqueSort.Count<>("sat", 2), new UniqueSort.Count<>("the", 4));
+        assertEquals(expected, new UniqueSort<String>(config).sortCount(xs));
+        // NOTE: the array is unchanged.
+        assertArrayEquals(copy, xs);
+    }
+
+    @Test
+    public void testSortCountEmpty() {
+        assertTrue(new UniqueSort<String>(config).sortCount(new String[0]).isEmpty());
+    }
+
+    @Test
+    public void testSortCountParallel() {
+        // NOTE: with 100,000 elements, there are enough for each of the chunks (including the odd one out in the merges).
+        final int n = 100000;
+        final Helper<Integer> helper = new BaseHelper<>("test", n, 0L, config);
+        final Integer[] xs = helper.random(Integer.class, r -> (int) Math.abs(r.nextGaussian() * 1000));
+        final SortedMap<Integer, Long> expected = new TreeMap<>();
+        for (Integer x : xs) expected.merge(x, 1L, Long::sum);
+        for (int chunks : new int[]{1, 2, 5, 16}) {
+            final List<UniqueSort.Count<Integer>> counts = new UniqueSort<>(helper, MergeSort::new, chunks, new ForkJoinPool(4)).sortCount(xs);
+            assertEquals(expected.size(), counts.size());
+            final Iterator<Map.Entry<Integer, Long>> entries = expected.entrySet().iterator();
+            for (UniqueSort.Count<Integer> count : counts) {
+                final Map.Entry<Integer, Long> entry = entries.next();
+                assertEquals(entry.getKey(), count.getKey());
+                assertEquals(entry.getValue().longValue(), count.getCount());
+            }
+        }
+    }
+
+    @Test
+    public void testSortCountSubArray() {
+        final Integer[] xs = {9, 1, 1, 2, 1, 9};
+        final List<UniqueSort.Count<Integer>> counts = new UniqueSort<Integer>(config).sortCount(xs, 1, 5);
+        assertEquals(Arrays.asList(new UniqueSort.Count<>(1, 3), new UniqueSort.Count<>(2, 1)), counts);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testChunks() {
+        new UniqueSort<>(new BaseHelper<String>("test", config), MergeSort::new, 0, ForkJoinPool.commonPool());
+    }
+
+    private static Config config;
+}